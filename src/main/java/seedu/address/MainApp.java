@@ -16,6 +16,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.DataFileFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,11 +24,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -57,7 +61,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = new WriteBehindAddressBookStorage(initAddressBookStorage(userPrefs));
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +71,23 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the address book at {@code userPrefs}' address book file path, which may be a single
+     * file in {@code userPrefs}' data file format or a directory of shards.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (ShardedAddressBookStorage.isShardedLayout(addressBookFilePath)) {
+            logger.info("Using sharded data directory : " + addressBookFilePath);
+            return new ShardedAddressBookStorage(addressBookFilePath, userPrefs.isDataFilePrettyPrinted());
+        }
+        if (userPrefs.getDataFileFormat() == DataFileFormat.BINARY) {
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        }
+        return new JsonAddressBookStorage(addressBookFilePath, userPrefs.isDataFilePrettyPrinted(),
+                userPrefs.isDataFileCompressed());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -182,5 +203,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes records of comma-separated values, as laid out in RFC 4180.
+ * A field may be enclosed in double quotes, in which case it may hold commas, line breaks and double quotes, the
+ * last written twice.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed before the end of the file.";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Reads the next record from {@code reader}, taking as many lines as its quoted fields span.
+     *
+     * @return the fields of the record, or null if {@code reader} has no more lines.
+     * @throws IOException if {@code reader} fails, or ends inside a quoted field.
+     */
+    public static List<String> readRecord(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                // the quoted field goes on to the next line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException(MESSAGE_UNCLOSED_QUOTE);
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (isQuoted && c == QUOTE) {
+                boolean isEscapedQuote = i < line.length() && line.charAt(i) == QUOTE;
+                if (isEscapedQuote) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (isQuoted) {
+                field.append(c);
+            } else if (c == QUOTE && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code fields} as one record, without a line break at the end.
+     * Fields that hold a comma, a double quote or a line break are quoted.
+     */
+    public static String formatRecord(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder record = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                record.append(SEPARATOR);
+            }
+            record.append(formatField(fields.get(i)));
+        }
+        return record.toString();
+    }
+
+    private static String formatField(String field) {
+        boolean needsQuotes = field.indexOf(SEPARATOR) >= 0 || field.indexOf(QUOTE) >= 0
+                || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return field;
+        }
+        return QUOTE + field.replace("\"", "\"\"") + QUOTE;
+    }
+}
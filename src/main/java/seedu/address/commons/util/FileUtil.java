@@ -1,10 +1,22 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +24,61 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String GZIP_FILE_SUFFIX = ".gz";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the contents of a file into a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Opens {@code file} for reading. If the file is gzip-compressed, which is told by its first two bytes rather
+     * than by its name, the returned stream decompresses it as it is read. The caller must close the stream.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        return openForReading(Files.newInputStream(file));
+    }
+
+    /**
+     * Returns a stream that reads {@code in}, decompressing it as it is read if it is gzip-compressed, which is told
+     * by its first two bytes. Closing the returned stream closes {@code in}.
+     */
+    public static InputStream openForReading(InputStream in) throws IOException {
+        in = new BufferedInputStream(in, GZIP_BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int first = in.read();
+            int second = in.read();
+            in.reset();
+            if (first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8)) {
+                return new GZIPInputStream(in, GZIP_BUFFER_SIZE);
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a stream that gzip-compresses what is written to it into {@code out}, as it is written.
+     * Closing the returned stream finishes the compressed data and closes {@code out}.
+     */
+    public static OutputStream compressing(OutputStream out) throws IOException {
+        return new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns true if the name of {@code file} marks it as gzip-compressed, ignoring case.
+     */
+    public static boolean hasCompressedFileName(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(GZIP_FILE_SUFFIX);
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +144,68 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Returns the path of the temp file that {@link #writeAtomically(Path, ContentWriter)} writes {@code file}
+     * through. A file at this path is only left behind by a write that was cut short.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code contentWriter} writes, creating the file and its
+     * missing parent directories if needed.
+     * The contents are written to a sibling temp file and forced to the disk before the temp file is moved over
+     * {@code file}, so a crash at any point leaves {@code file} with either its old or its new contents in full.
+     *
+     * @throws IOException if the contents could not be written, in which case {@code file} is left untouched.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempFilePath(file);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            // the channel is forced after the writer is done with the stream, so closing the stream must not close it
+            contentWriter.writeTo(new FilterOutputStream(Channels.newOutputStream(channel)) {
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    out.write(bytes, offset, length);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            });
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        moveAtomically(tempFile, file);
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in one step where the file system allows it, then forces the
+     * change of directory entries to the disk where the platform allows it.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        Path parentDir = target.toAbsolutePath().getParent();
+        try (FileChannel directory = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            // some platforms, such as Windows, cannot open or force a directory; the move itself has been made
+        }
     }
 
 }
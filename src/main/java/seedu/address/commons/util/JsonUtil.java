@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,15 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -45,7 +52,61 @@ public class JsonUtil {
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = Files.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Opens a streaming parser over {@code jsonFile}. The file is read through the parser's buffer as tokens are
+     * consumed, instead of being loaded into memory first. A gzip-compressed file is decompressed as it is read.
+     * The caller must close the parser.
+     */
+    public static JsonParser createParser(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        return objectMapper.getFactory().createParser(FileUtil.openForReading(jsonFile));
+    }
+
+    /**
+     * Opens a streaming parser over {@code in} like {@link #createParser(Path)}. Closing the parser closes
+     * {@code in}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(FileUtil.openForReading(in));
+    }
+
+    /**
+     * Returns a reader that binds JSON values to instances of {@code type}, using the same settings as the rest of
+     * this class. Readers are immutable and can be kept for reuse.
+     */
+    public static ObjectReader readerFor(Class<?> type) {
+        return objectMapper.readerFor(type);
+    }
+
+    /**
+     * Opens a streaming generator that writes UTF-8 JSON to {@code out} through a fixed-size buffer.
+     * The caller must close the generator, which also closes {@code out}.
+     *
+     * @param prettyPrint whether the output is indented for reading by hand.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean prettyPrint) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        if (prettyPrint) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Returns a writer that writes instances of {@code type} as JSON values into a generator from
+     * {@link #createGenerator(OutputStream, boolean)}, using the same settings as the rest of this class.
+     * The writer does not flush after each value, leaving that to the generator's buffer.
+     * Writers are immutable and can be kept for reuse.
+     */
+    public static ObjectWriter writerFor(Class<?> type) {
+        return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     /**
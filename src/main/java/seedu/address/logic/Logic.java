@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -48,4 +49,11 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     boolean isInitialModuleListPanelDisplayed();
+
+    /**
+     * Sets {@code handler} to be told about saves of the address book that fail after their command has returned,
+     * with the error message, and with an empty message once a later save succeeds.
+     * It may be told from a background thread.
+     */
+    void setSaveStatusHandler(Consumer<String> handler);
 }
@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -16,6 +17,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.SaveListener;
 import seedu.address.storage.Storage;
 
 /**
@@ -33,13 +35,27 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // guards the fields below, which are also changed by storage when it is done writing a save
+    private final Object saveLock = new Object();
+    // the address book version last handed to storage, and the last one that storage has written
+    private long queuedVersion;
+    private long savedVersion;
+    private boolean isSaveFailing;
+    private Consumer<String> saveStatusHandler = status -> {};
+    private int skippedSaveCount;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book in {@code model} is taken to be the one already in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        queuedVersion = model.getAddressBookVersion();
+        savedVersion = queuedVersion;
+        // the changes made while loading the address book are already in storage
+        model.takeAddressBookDelta();
     }
 
     @Override
@@ -50,17 +66,78 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        long version = model.getAddressBookVersion();
+        synchronized (saveLock) {
+            if (version == queuedVersion) {
+                skippedSaveCount++;
+                logger.fine("Address book unchanged, skipped save #" + skippedSaveCount);
+                return commandResult;
+            }
+            queuedVersion = version;
+        }
+
+        PendingSave save = new PendingSave(version);
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookDelta(), save);
+        IOException failure = save.handOver();
+        if (failure instanceof AccessDeniedException) {
+            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, failure.getMessage()),
+                    failure);
+        } else if (failure != null) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, failure.getMessage()), failure);
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the number of commands after which the address book was not saved because it had not changed.
+     */
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    @Override
+    public void setSaveStatusHandler(Consumer<String> handler) {
+        synchronized (saveLock) {
+            saveStatusHandler = handler;
+        }
+    }
+
+    /**
+     * Returns the address book version that storage has last written.
+     */
+    public long getSavedVersion() {
+        synchronized (saveLock) {
+            return savedVersion;
+        }
+    }
+
+    private void onSaved(long version) {
+        synchronized (saveLock) {
+            savedVersion = Math.max(savedVersion, version);
+            if (isSaveFailing) {
+                isSaveFailing = false;
+                logger.info("Saved the address book again after an earlier save failed");
+                saveStatusHandler.accept("");
+            }
+        }
+    }
+
+    private void onFailed(IOException e, boolean isThrown) {
+        synchronized (saveLock) {
+            // the changes since the last written save are not on the disk, so the next command saves them again
+            queuedVersion = savedVersion;
+            if (isThrown) {
+                return;
+            }
+            isSaveFailing = true;
+            logger.warning("Could not save the address book after its command had returned: " + e);
+            saveStatusHandler.accept(e instanceof AccessDeniedException
+                    ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                    : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -91,4 +168,45 @@ public class LogicManager implements Logic {
         // Check if there are any modules in the address book
         return !model.getAddressBook().getModuleList().isEmpty();
     }
+
+    /**
+     * The save of one version of the address book. A failure that storage reports before the save is handed over
+     * belongs to the command being executed, and is thrown from it; a later one is reported to the status handler.
+     */
+    private class PendingSave implements SaveListener {
+        private final long version;
+        private boolean isHandedOver;
+        private IOException failureBeforeHandOver;
+
+        PendingSave(long version) {
+            this.version = version;
+        }
+
+        @Override
+        public void saved() {
+            onSaved(version);
+        }
+
+        @Override
+        public void failed(IOException e) {
+            boolean isThrown;
+            synchronized (saveLock) {
+                isThrown = !isHandedOver;
+                if (isThrown) {
+                    failureBeforeHandOver = e;
+                }
+            }
+            onFailed(e, isThrown);
+        }
+
+        /**
+         * Marks the save as handed over to storage, and returns the failure storage has reported so far, if any.
+         */
+        IOException handOver() {
+            synchronized (saveLock) {
+                isHandedOver = true;
+                return failureBeforeHandOver;
+            }
+        }
+    }
 }
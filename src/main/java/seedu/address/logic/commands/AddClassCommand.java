@@ -61,7 +61,7 @@ public class AddClassCommand extends Command {
                         module, tutorialClass);
                 throw new CommandException(duplicateMessage);
             } else {
-                existingModule.addTutorialClass(tutorialClass);
+                model.addTutorialClass(existingModule, tutorialClass);
             }
         } else {
             description.ifPresent(module::setDescription);
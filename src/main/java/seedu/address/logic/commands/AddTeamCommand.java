@@ -79,7 +79,7 @@ public class AddTeamCommand extends Command {
             throw new CommandException(String.format(TutorialTeamMessages.MESSAGE_DUPLICATE_TEAM,
                 teamName, module, tutorialClass));
         } else {
-            model.addTeam(tutorialClass, newTeam);
+            model.addTeam(module, tutorialClass, newTeam);
             model.getAddressBook().setTutorialTeamsInClass(tutorialClass);
             model.getAddressBook().setTutorialClassesInModules(module);
         }
@@ -0,0 +1,248 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APART;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_OF_TEAMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEATS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOGETHER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALCLASS;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.module.BalancedTeamAllocator;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TeammateHistory;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A command to allocate all students of a particular tutorial class into teams, spreading the students of each tag
+ * evenly across the teams and keeping chosen students apart or together.
+ * It can also avoid putting students who have been teammates before in the same team again.
+ */
+public class BalancedTeamAllocationCommand extends Command {
+
+    public static final String COMMAND_WORD = "/balanced_teams";
+
+    public static final String REPEATS_AVOID = "avoid";
+    public static final String REPEATS_ALLOW = "allow";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Allocate all the students in the tutorial class "
+            + "into teams, spreading the students of each tag evenly across the teams.\n"
+            + "Parameters: "
+            + PREFIX_MODULECODE + "MODULE CODE "
+            + PREFIX_TUTORIALCLASS + "TUTORIAL CLASS "
+            + PREFIX_NUM_OF_TEAMS + "NUMBER OF TEAMS "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_APART + "STUDENT ID STUDENT ID...]... "
+            + "[" + PREFIX_TOGETHER + "STUDENT ID STUDENT ID...]... "
+            + "[" + PREFIX_REPEATS + REPEATS_AVOID + "] "
+            + "[" + PREFIX_SEED + "SEED]\n"
+            + "Without " + PREFIX_TAG + ", every tag of the students is spread. With " + PREFIX_REPEATS + REPEATS_AVOID
+            + ", students who have been teammates before are kept apart where possible.\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_MODULECODE + "CS2103T "
+            + PREFIX_TUTORIALCLASS + "T09 "
+            + PREFIX_NUM_OF_TEAMS + "3 "
+            + PREFIX_TAG + "leader "
+            + PREFIX_APART + "A0123456A A0123457A "
+            + PREFIX_TOGETHER + "A0123458A A0123459A";
+
+    public static final String MESSAGE_SUCCESS = "Successfully allocated students for tutorial class %1$s into "
+            + "%2$d balanced teams";
+    public static final String MESSAGE_KEEP_APART_BROKEN = "\n%1$d pair(s) of students to keep apart share a team";
+    public static final String MESSAGE_KEEP_TOGETHER_BROKEN = "\n%1$d group(s) of students to keep together are "
+            + "split across teams";
+    public static final String MESSAGE_REPEAT_PAIRINGS = "\n%1$d pair(s) of students in the same team have been "
+            + "teammates before";
+    public static final String MESSAGE_INVALID_REPEATS = "Repeats should be either " + REPEATS_AVOID + " or "
+            + REPEATS_ALLOW;
+    public static final String MESSAGE_STUDENT_NOT_IN_CLASS = "Student %1$s is not in tutorial class %2$s";
+    public static final String MESSAGE_KEEP_APART_TOO_LARGE = "%1$d students cannot be kept apart in %2$d teams";
+    public static final String MESSAGE_KEEP_TOGETHER_TOO_LARGE = "%1$d students cannot be kept together in teams "
+            + "of at most %2$d";
+
+    private final ModuleCode moduleCode;
+    private final TutorialClass tutorialClass;
+    private final int numOfTeams;
+    private final Set<Tag> balancedTags;
+    private final List<List<StudentId>> keepApart;
+    private final List<List<StudentId>> keepTogether;
+    private final boolean isAvoidingRepeats;
+    private final Optional<Long> seed;
+
+    /**
+     * Creates a BalancedTeamAllocationCommand to allocate the students of {@code tutorialClass} to balanced teams.
+     *
+     * @param moduleCode of the tutorial class.
+     * @param tutorialClass that contains the students to split into teams.
+     * @param teams number of teams to split into.
+     * @param balancedTags tags whose students are spread evenly across the teams, or none to spread every tag.
+     * @param keepApart groups of students who should each be in a different team.
+     * @param keepTogether groups of students who should be in the same team.
+     * @param seed to seed the random number generator with, so that the allocation can be repeated.
+     */
+    public BalancedTeamAllocationCommand(ModuleCode moduleCode, TutorialClass tutorialClass, int teams,
+            Set<Tag> balancedTags, List<List<StudentId>> keepApart, List<List<StudentId>> keepTogether,
+            Optional<Long> seed) {
+        this(moduleCode, tutorialClass, teams, balancedTags, keepApart, keepTogether, false, seed);
+    }
+
+    /**
+     * Creates a BalancedTeamAllocationCommand to allocate the students of {@code tutorialClass} to balanced teams.
+     *
+     * @param moduleCode of the tutorial class.
+     * @param tutorialClass that contains the students to split into teams.
+     * @param teams number of teams to split into.
+     * @param balancedTags tags whose students are spread evenly across the teams, or none to spread every tag.
+     * @param keepApart groups of students who should each be in a different team.
+     * @param keepTogether groups of students who should be in the same team.
+     * @param isAvoidingRepeats whether students who have been teammates before should be kept apart.
+     * @param seed to seed the random number generator with, so that the allocation can be repeated.
+     */
+    public BalancedTeamAllocationCommand(ModuleCode moduleCode, TutorialClass tutorialClass, int teams,
+            Set<Tag> balancedTags, List<List<StudentId>> keepApart, List<List<StudentId>> keepTogether,
+            boolean isAvoidingRepeats, Optional<Long> seed) {
+        requireAllNonNull(moduleCode, tutorialClass, balancedTags, keepApart, keepTogether, seed);
+        this.moduleCode = moduleCode;
+        this.tutorialClass = tutorialClass;
+        numOfTeams = teams;
+        this.balancedTags = balancedTags;
+        this.keepApart = keepApart;
+        this.keepTogether = keepTogether;
+        this.isAvoidingRepeats = isAvoidingRepeats;
+        this.seed = seed;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireAllNonNull(model);
+        ModuleCode module = model.findModuleFromList(moduleCode);
+        TutorialClass tutorial = module == null ? null : model.findTutorialClassFromList(tutorialClass, module);
+        if (tutorial == null) {
+            throw new CommandException(RandomTeamAllocationCommand.MESSAGE_MODULE_TUTORIAL_NOT_EXIST);
+        }
+
+        List<Person> students = new ArrayList<>(tutorial.getStudents());
+        if (numOfTeams <= 0 || numOfTeams > students.size()) {
+            throw new CommandException(String.format(RandomTeamAllocationCommand.MESSAGE_ALLOCATION_NOT_POSSIBLE,
+                    students.size(), numOfTeams));
+        }
+
+        Map<StudentId, Person> studentsById = new HashMap<>();
+        students.forEach(student -> studentsById.put(student.getStudentId(), student));
+        List<List<Person>> apartGroups = findStudents(keepApart, studentsById, tutorial);
+        List<List<Person>> togetherGroups = findStudents(keepTogether, studentsById, tutorial);
+        int teamSize = (students.size() + numOfTeams - 1) / numOfTeams;
+        for (List<Person> group : apartGroups) {
+            if (group.size() > numOfTeams) {
+                throw new CommandException(String.format(MESSAGE_KEEP_APART_TOO_LARGE, group.size(), numOfTeams));
+            }
+        }
+        for (List<Person> group : togetherGroups) {
+            if (group.size() > teamSize) {
+                throw new CommandException(String.format(MESSAGE_KEEP_TOGETHER_TOO_LARGE, group.size(), teamSize));
+            }
+        }
+
+        Set<Tag> tags = new LinkedHashSet<>(balancedTags);
+        if (tags.isEmpty()) {
+            students.forEach(student -> tags.addAll(student.getTags()));
+        }
+
+        Random random = seed.map(Random::new).orElseGet(Random::new);
+        // the current teams become history once replaced, so they are avoided as well
+        TeammateHistory history = isAvoidingRepeats
+                ? tutorial.getTeammateHistoryWithCurrentTeams()
+                : new TeammateHistory();
+        BalancedTeamAllocator.Allocation allocation = new BalancedTeamAllocator(students, numOfTeams, tags,
+                apartGroups, togetherGroups, history).allocate(random);
+        model.allocateTeams(module, tutorial, allocation.getTeams());
+        model.getAddressBook().setTutorialClassesInModules(module);
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, tutorial, numOfTeams));
+        if (allocation.getKeepApartPairsBroken() > 0) {
+            result.append(String.format(MESSAGE_KEEP_APART_BROKEN, allocation.getKeepApartPairsBroken()));
+        }
+        if (allocation.getKeepTogetherGroupsBroken() > 0) {
+            result.append(String.format(MESSAGE_KEEP_TOGETHER_BROKEN, allocation.getKeepTogetherGroupsBroken()));
+        }
+        if (allocation.getRepeatPairings() > 0) {
+            result.append(String.format(MESSAGE_REPEAT_PAIRINGS, allocation.getRepeatPairings()));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Returns the students of {@code tutorial} with the student IDs of each group.
+     *
+     * @throws CommandException if a student ID is not of a student in {@code tutorial}.
+     */
+    private static List<List<Person>> findStudents(List<List<StudentId>> groups, Map<StudentId, Person> studentsById,
+            TutorialClass tutorial) throws CommandException {
+        List<List<Person>> students = new ArrayList<>();
+        for (List<StudentId> group : groups) {
+            List<Person> groupStudents = new ArrayList<>();
+            for (StudentId studentId : group) {
+                Person student = studentsById.get(studentId);
+                if (student == null) {
+                    throw new CommandException(String.format(MESSAGE_STUDENT_NOT_IN_CLASS, studentId, tutorial));
+                }
+                groupStudents.add(student);
+            }
+            students.add(groupStudents);
+        }
+        return students;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BalancedTeamAllocationCommand)) {
+            return false;
+        }
+
+        BalancedTeamAllocationCommand otherCommand = (BalancedTeamAllocationCommand) other;
+        return moduleCode.equals(otherCommand.moduleCode)
+                && tutorialClass.equals(otherCommand.tutorialClass)
+                && numOfTeams == otherCommand.numOfTeams
+                && balancedTags.equals(otherCommand.balancedTags)
+                && keepApart.equals(otherCommand.keepApart)
+                && keepTogether.equals(otherCommand.keepTogether)
+                && isAvoidingRepeats == otherCommand.isAvoidingRepeats
+                && seed.equals(otherCommand.seed);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("moduleCode", moduleCode)
+                .add("tutorialClass", tutorialClass)
+                .add("numOfTeams", numOfTeams)
+                .add("balancedTags", balancedTags)
+                .add("keepApart", keepApart)
+                .add("keepTogether", keepTogether)
+                .add("isAvoidingRepeats", isAvoidingRepeats)
+                .add("seed", seed)
+                .toString();
+    }
+}
@@ -56,7 +56,7 @@ public class DeleteClassCommand extends Command {
             String tutorialList = existingModule.listTutorialClasses();
             throw new CommandException(classNotFoundMessage + "\n" + tutorialList);
         } else {
-            existingModule.deleteTutorialClass(tutorialString);
+            model.deleteTutorialClass(existingModule, tutorialString);
         }
         model.getAddressBook().setTutorialClassesInModules(module);
         return new CommandResult(generateSuccessMessage(module, tutorialString));
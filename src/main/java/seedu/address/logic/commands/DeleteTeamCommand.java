@@ -55,7 +55,7 @@ public class DeleteTeamCommand extends Command {
         ModuleCode module = moduleAndTutorialClass.getModule();
         TutorialClass tutorialClass = moduleAndTutorialClass.getTutorialClass();
         if (tutorialClass.hasTeam(team)) {
-            tutorialClass.deleteTeam(team);
+            model.deleteTeam(module, tutorialClass, team);
         } else {
             throw new CommandException(String.format(TutorialTeamMessages.MESSAGE_TEAM_NOT_FOUND, team,
                     module, tutorialClass));
@@ -0,0 +1,345 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAMNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALCLASS;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.messages.ModuleMessages;
+import seedu.address.logic.messages.TutorialTeamMessages;
+import seedu.address.model.Model;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ModuleTutorialPair;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.module.TutorialTeam;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes the students of the selected modules, tutorial classes or team to a CSV or JSON Lines file, one student
+ * of a tutorial class per row.
+ *
+ * Rows are written straight from the model into a buffered writer as the classes are walked, so only one row, and
+ * the team of each student in the class being written, is held in memory at a time. A CSV export has the columns
+ * that {@link ImportStudentsCommand} reads, so it can be imported again.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "/export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the students of tutorial classes to a file, "
+            + "as CSV if its name ends with .csv, or as JSON Lines if it ends with .jsonl. "
+            + "Every class is written unless a module, tutorial class or team is given.\n"
+            + "Parameters: "
+            + PREFIX_FILE + "FILE PATH "
+            + "[" + PREFIX_MODULECODE + "MODULE CODE "
+            + "[" + PREFIX_TUTORIALCLASS + "TUTORIAL CLASS "
+            + "[" + PREFIX_TEAMNAME + "TEAM NAME]]]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FILE + "data/cs2103t.csv "
+            + PREFIX_MODULECODE + "CS2103T";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d students to %2$s.";
+    public static final String MESSAGE_CANNOT_WRITE_FILE = "Could not write %1$s: %2$s";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file name should end with .csv or .jsonl, "
+            + "optionally followed by .gz to compress the file.";
+
+    /** Columns of each row, in the order they are written. */
+    static final List<String> COLUMNS = Collections.unmodifiableList(
+            Arrays.asList("module", "tutorial", "team", "name", "email", "id", "tags"));
+
+    /**
+     * The formats students can be exported in, told apart by the extension of the file name.
+     */
+    public enum Format {
+        CSV(".csv"),
+        JSON_LINES(".jsonl");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the format that the name of {@code filePath} asks for, ignoring case and a trailing ".gz".
+         */
+        public static Optional<Format> of(Path filePath) {
+            String fileName = filePath.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (FileUtil.hasCompressedFileName(filePath)) {
+                fileName = fileName.substring(0, fileName.lastIndexOf('.'));
+            }
+            for (Format format : values()) {
+                if (fileName.endsWith(format.extension)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+
+        private RowWriter open(OutputStream out) throws IOException {
+            switch (this) {
+            case CSV:
+                return new CsvRowWriter(out);
+            case JSON_LINES:
+                return new JsonLinesRowWriter(out);
+            default:
+                throw new AssertionError(this);
+            }
+        }
+    }
+
+    private final Path filePath;
+    private final Format format;
+    private final ModuleCode module;
+    private final TutorialClass tutorialClass;
+    private final TutorialTeam team;
+
+    /**
+     * Creates an ExportCommand to write the students of every tutorial class to {@code filePath}.
+     */
+    public ExportCommand(Path filePath, Format format) {
+        this(filePath, format, null, null, null);
+    }
+
+    /**
+     * Creates an ExportCommand to write the students of the given selection to {@code filePath}.
+     * A null {@code module} selects every module, a null {@code tutorialClass} every class of {@code module}, and a
+     * null {@code team} every student of {@code tutorialClass}.
+     */
+    public ExportCommand(Path filePath, Format format, ModuleCode module, TutorialClass tutorialClass,
+            TutorialTeam team) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        assert module != null || tutorialClass == null;
+        assert tutorialClass != null || team == null;
+        this.filePath = filePath;
+        this.format = format;
+        this.module = module;
+        this.tutorialClass = tutorialClass;
+        this.team = team;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<ModuleCode> modules = selectModules(model);
+        TutorialTeam existingTeam = findTeam(model);
+
+        int[] rowCount = {0};
+        try {
+            FileUtil.writeAtomically(filePath, out -> {
+                OutputStream target = FileUtil.hasCompressedFileName(filePath) ? FileUtil.compressing(out) : out;
+                try (RowWriter writer = format.open(target)) {
+                    rowCount[0] = writeRows(writer, modules, existingTeam);
+                }
+            });
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rowCount[0], filePath));
+    }
+
+    private List<ModuleCode> selectModules(Model model) throws CommandException {
+        if (module == null) {
+            return model.getAddressBook().getModuleList();
+        }
+        ModuleCode existingModule = model.findModuleFromList(module);
+        if (existingModule == null) {
+            throw new CommandException(String.format(ModuleMessages.MESSAGE_MODULE_NOT_FOUND, module));
+        }
+        return Collections.singletonList(existingModule);
+    }
+
+    /**
+     * Returns the selected team as stored in {@code model}, or null if no team is selected.
+     */
+    private TutorialTeam findTeam(Model model) throws CommandException {
+        if (tutorialClass == null) {
+            return null;
+        }
+        TutorialClass existingClass = ModuleTutorialPair.getModuleAndTutorialClass(model, module, tutorialClass)
+                .getTutorialClass();
+        if (team == null) {
+            return null;
+        }
+        TutorialTeam existingTeam = existingClass.findTeam(team.teamName);
+        if (existingTeam == null) {
+            throw new CommandException(String.format(TutorialTeamMessages.MESSAGE_TEAM_DOES_NOT_EXIST,
+                    team, existingClass));
+        }
+        return existingTeam;
+    }
+
+    /**
+     * Writes a row for each student of the selected classes in {@code modules}.
+     *
+     * @param selectedTeam the only team whose students are written, or null to write every student of each class.
+     * @return the number of rows written.
+     */
+    private int writeRows(RowWriter writer, List<ModuleCode> modules, TutorialTeam selectedTeam)
+            throws IOException {
+        int rowCount = 0;
+        for (ModuleCode existingModule : modules) {
+            for (TutorialClass existingClass : existingModule.getTutorialClasses()) {
+                if (tutorialClass != null && !existingClass.equals(tutorialClass)) {
+                    continue;
+                }
+                if (selectedTeam != null) {
+                    for (Person student : selectedTeam.getStudents()) {
+                        writer.writeRow(existingModule, existingClass, selectedTeam, student);
+                        rowCount++;
+                    }
+                    continue;
+                }
+
+                for (Person student : existingClass.getStudents()) {
+                    writer.writeRow(existingModule, existingClass,
+                            existingClass.findTeamOfStudent(student.getStudentId()), student);
+                    rowCount++;
+                }
+            }
+        }
+        return rowCount;
+    }
+
+    private static List<String> sortedTagNames(Person student) {
+        return student.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && Objects.equals(module, otherExportCommand.module)
+                && Objects.equals(tutorialClass, otherExportCommand.tutorialClass)
+                && Objects.equals(team, otherExportCommand.team);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("module", module)
+                .add("tutorialClass", tutorialClass)
+                .add("team", team)
+                .toString();
+    }
+
+    /**
+     * Writes rows of one format. Closing the writer flushes it and closes the stream it writes to.
+     */
+    private interface RowWriter extends Closeable {
+        /**
+         * Writes the row of {@code student} in {@code tutorialClass}.
+         *
+         * @param team the team of {@code student} in the class, or null if they are in none.
+         */
+        void writeRow(ModuleCode module, TutorialClass tutorialClass, TutorialTeam team, Person student)
+                throws IOException;
+    }
+
+    /**
+     * Writes a header of {@link #COLUMNS}, then a record for each row. A student without a team has a blank team,
+     * and tags are joined with {@link ImportStudentsCommand#TAG_SEPARATOR}.
+     */
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(OutputStream out) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(CsvUtil.formatRecord(COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        public void writeRow(ModuleCode module, TutorialClass tutorialClass, TutorialTeam team, Person student)
+                throws IOException {
+            writer.write(CsvUtil.formatRecord(Arrays.asList(module.moduleCode, tutorialClass.tutorialName,
+                    team == null ? "" : team.teamName.fullName, student.getName().fullName,
+                    student.getEmail().value, student.getStudentId().value,
+                    String.join(ImportStudentsCommand.TAG_SEPARATOR, sortedTagNames(student)))));
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes each row as a JSON object of {@link #COLUMNS} on a line of its own. A student without a team has a
+     * null team, and tags are an array.
+     */
+    private static class JsonLinesRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        private JsonLinesRowWriter(OutputStream out) throws IOException {
+            generator = JsonUtil.createGenerator(out, false);
+            // each row ends its own line, instead of being followed by the usual space
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeRow(ModuleCode module, TutorialClass tutorialClass, TutorialTeam team, Person student)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField(COLUMNS.get(0), module.moduleCode);
+            generator.writeStringField(COLUMNS.get(1), tutorialClass.tutorialName);
+            generator.writeStringField(COLUMNS.get(2), team == null ? null : team.teamName.fullName);
+            generator.writeStringField(COLUMNS.get(3), student.getName().fullName);
+            generator.writeStringField(COLUMNS.get(4), student.getEmail().value);
+            generator.writeStringField(COLUMNS.get(5), student.getStudentId().value);
+            generator.writeArrayFieldStart(COLUMNS.get(6));
+            for (String tagName : sortedTagNames(student)) {
+                generator.writeString(tagName);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.messages.PersonMessages;
+import seedu.address.logic.messages.TutorialClassMessages;
+import seedu.address.logic.messages.TutorialTeamMessages;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.ModuleTutorialPair;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.module.TutorialTeam;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds the students listed in a CSV file to TAHelper, and optionally to a tutorial class and team each.
+ *
+ * The file is read in one pass, and each row is parsed and checked as it is read, so only the rows to import are
+ * kept in memory. The students whose rows are valid and who do not clash with an existing student or an earlier row
+ * are added together, so that the whole import is saved once. Rows that cannot be imported are reported by their row
+ * number in the file, the header being row 1.
+ */
+public class ImportStudentsCommand extends Command {
+
+    public static final String COMMAND_WORD = "/import_students";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the students listed in a CSV file to TAHelper.\n"
+            + "The file starts with a header row naming its columns: name, email and id are required, while tags "
+            + "(separated by ';'), module, tutorial and team are optional. "
+            + "The module, tutorial class and team must already exist.\n"
+            + "Parameters: "
+            + PREFIX_FILE + "FILE PATH\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FILE + "data/cohort.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d students from %3$s.";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "...and %1$d more rows that could not be imported.";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_NO_HEADER = "%1$s is empty. It should start with a header row.";
+    public static final String MESSAGE_MISSING_COLUMNS = "%1$s has no column for: %2$s";
+    public static final String MESSAGE_DUPLICATE_STUDENTID_IN_FILE = "Row %1$d already has the student id %2$s.";
+    public static final String MESSAGE_DUPLICATE_EMAIL_IN_FILE = "Row %1$d already has the email %2$s.";
+    public static final String MESSAGE_INCOMPLETE_PLACEMENT = "Both a module and a tutorial class are needed "
+            + "to place a student in a class or team.";
+
+    /** Most rows whose errors are listed in the result; the rest are only counted. */
+    static final int MAX_REPORTED_ERRORS = 20;
+    static final String TAG_SEPARATOR = ";";
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private static final Map<String, Column> COLUMNS_BY_NAME = new HashMap<>();
+
+    static {
+        for (Column column : Column.values()) {
+            column.names.forEach(name -> COLUMNS_BY_NAME.put(name, column));
+        }
+    }
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportStudentsCommand to import the students listed in the file at {@code filePath}.
+     */
+    public ImportStudentsCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<ImportRow> accepted = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        int rowCount;
+        try {
+            rowCount = readRows(model, accepted, errors);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e.getMessage()), e);
+        }
+
+        if (!accepted.isEmpty()) {
+            model.addPersons(accepted.stream().map(row -> row.person).collect(Collectors.toList()));
+        }
+        for (ImportRow row : accepted) {
+            if (row.tutorialClass != null) {
+                model.addPersonToTutorialClass(row.person, row.module, row.tutorialClass);
+            }
+            if (row.team != null) {
+                model.allocateStudentToTeam(row.person, row.module, row.tutorialClass, row.team);
+            }
+        }
+
+        return new CommandResult(formatResult(accepted.size(), rowCount, errors));
+    }
+
+    /**
+     * Reads the rows of the file one at a time, parsing and checking each as it is read. Blank rows are left out.
+     *
+     * @param accepted the rows that can be imported, in the order they are read.
+     * @param errors the reason each other row cannot be imported.
+     * @return the number of rows that are not blank.
+     */
+    private int readRows(Model model, List<ImportRow> accepted, List<String> errors)
+            throws IOException, CommandException {
+        Map<StudentId, Integer> rowsByStudentId = new HashMap<>();
+        Map<Email, Integer> rowsByEmail = new HashMap<>();
+        Map<Object, Integer> pendingCounts = new IdentityHashMap<>();
+        int rowCount = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(FileUtil.openForReading(filePath), StandardCharsets.UTF_8))) {
+            List<String> header = CsvUtil.readRecord(reader);
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_NO_HEADER, filePath));
+            }
+            int[] columnIndices = findColumns(header);
+
+            // the first record after the header is on row 2
+            int rowNumber = 1;
+            List<String> record;
+            while ((record = CsvUtil.readRecord(reader)) != null) {
+                rowNumber++;
+                ImportRow row = parseRow(rowNumber, record, columnIndices);
+                if (row == null) {
+                    continue;
+                }
+                rowCount++;
+                try {
+                    checkRow(model, row, rowsByStudentId, rowsByEmail, pendingCounts);
+                    accepted.add(row);
+                } catch (CommandException e) {
+                    errors.add(String.format(MESSAGE_ROW_ERROR, row.rowNumber, e.getMessage()));
+                }
+            }
+        }
+        return rowCount;
+    }
+
+    /**
+     * Returns the index of each column in {@code header}, by the ordinal of the column, or -1 for a column that the
+     * file does not have.
+     */
+    private int[] findColumns(List<String> header) throws CommandException {
+        int[] columnIndices = new int[Column.values().length];
+        Arrays.fill(columnIndices, -1);
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i);
+            if (i == 0 && name.startsWith(BYTE_ORDER_MARK)) {
+                name = name.substring(BYTE_ORDER_MARK.length());
+            }
+            Column column = COLUMNS_BY_NAME.get(normalizeColumnName(name));
+            if (column != null && columnIndices[column.ordinal()] < 0) {
+                columnIndices[column.ordinal()] = i;
+            }
+        }
+
+        String missingColumns = Stream.of(Column.values())
+                .filter(column -> column.isRequired && columnIndices[column.ordinal()] < 0)
+                .map(column -> column.names.get(0))
+                .collect(Collectors.joining(", "));
+        if (!missingColumns.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, filePath, missingColumns));
+        }
+        return columnIndices;
+    }
+
+    private static String normalizeColumnName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT).replaceAll("[\\s_-]", "");
+    }
+
+    /**
+     * Parses the values of one row, or returns null if the row is blank.
+     */
+    private static ImportRow parseRow(int rowNumber, List<String> record, int[] columnIndices) {
+        if (record.stream().allMatch(String::isBlank)) {
+            return null;
+        }
+
+        ImportRow row = new ImportRow(rowNumber);
+        try {
+            Name name = ParserUtil.parseName(value(record, columnIndices, Column.NAME));
+            Email email = ParserUtil.parseEmail(value(record, columnIndices, Column.EMAIL));
+            StudentId studentId = ParserUtil.parseStudentId(value(record, columnIndices, Column.STUDENT_ID));
+            Set<Tag> tags = ParserUtil.parseTags(Stream.of(value(record, columnIndices, Column.TAGS)
+                    .split(TAG_SEPARATOR))
+                    .filter(tag -> !tag.isBlank())
+                    .collect(Collectors.toList()));
+            row.person = new Person(name, email, studentId, tags);
+
+            String module = value(record, columnIndices, Column.MODULE);
+            String tutorial = value(record, columnIndices, Column.TUTORIAL);
+            String team = value(record, columnIndices, Column.TEAM);
+            if (module.isEmpty() && tutorial.isEmpty() && team.isEmpty()) {
+                return row;
+            }
+            if (module.isEmpty() || tutorial.isEmpty()) {
+                row.error = MESSAGE_INCOMPLETE_PLACEMENT;
+                return row;
+            }
+            row.module = ParserUtil.parseModuleCode(module);
+            row.tutorialClass = ParserUtil.parseTutorialClass(tutorial);
+            row.team = team.isEmpty() ? null : ParserUtil.parseTutorialTeam(team);
+        } catch (ParseException e) {
+            row.error = e.getMessage();
+        }
+        return row;
+    }
+
+    private static String value(List<String> record, int[] columnIndices, Column column) {
+        int index = columnIndices[column.ordinal()];
+        return index < 0 || index >= record.size() ? "" : record.get(index).trim();
+    }
+
+    /**
+     * Checks that {@code row} can be imported alongside the rows accepted before it, and resolves its module,
+     * tutorial class and team to the ones in {@code model}.
+     *
+     * @param rowsByStudentId the row of each student ID accepted so far.
+     * @param rowsByEmail the row of each email accepted so far.
+     * @param pendingCounts the number of students accepted so far into each tutorial class and team.
+     * @throws CommandException if the row cannot be imported.
+     */
+    private static void checkRow(Model model, ImportRow row, Map<StudentId, Integer> rowsByStudentId,
+            Map<Email, Integer> rowsByEmail, Map<Object, Integer> pendingCounts) throws CommandException {
+        if (row.error != null) {
+            throw new CommandException(row.error);
+        }
+
+        StudentId studentId = row.person.getStudentId();
+        Email email = row.person.getEmail();
+        if (model.hasPersonWithStudentId(studentId)) {
+            throw new CommandException(String.format(PersonMessages.MESSAGE_DUPLICATE_STUDENTID, studentId));
+        }
+        if (model.hasPersonWithEmail(email)) {
+            throw new CommandException(String.format(PersonMessages.MESSAGE_DUPLICATE_EMAIL, email));
+        }
+        if (rowsByStudentId.containsKey(studentId)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_STUDENTID_IN_FILE,
+                    rowsByStudentId.get(studentId), studentId));
+        }
+        if (rowsByEmail.containsKey(email)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_EMAIL_IN_FILE, rowsByEmail.get(email), email));
+        }
+
+        if (row.tutorialClass != null) {
+            resolvePlacement(model, row, pendingCounts);
+        }
+        rowsByStudentId.put(studentId, row.rowNumber);
+        rowsByEmail.put(email, row.rowNumber);
+    }
+
+    private static void resolvePlacement(Model model, ImportRow row, Map<Object, Integer> pendingCounts)
+            throws CommandException {
+        ModuleTutorialPair pair = ModuleTutorialPair.getModuleAndTutorialClass(model, row.module, row.tutorialClass);
+        TutorialClass tutorialClass = pair.getTutorialClass();
+        int pendingInClass = pendingCounts.getOrDefault(tutorialClass, 0);
+        if (tutorialClass.getStudents().size() + pendingInClass >= tutorialClass.getClassSize()) {
+            throw new CommandException(String.format(TutorialClassMessages.MESSAGE_CLASS_FULL, tutorialClass));
+        }
+
+        TutorialTeam team = null;
+        int pendingInTeam = 0;
+        if (row.team != null) {
+            team = tutorialClass.findTeam(row.team.teamName);
+            if (team == null) {
+                throw new CommandException(String.format(TutorialTeamMessages.MESSAGE_TEAM_DOES_NOT_EXIST,
+                        row.team, tutorialClass));
+            }
+            pendingInTeam = pendingCounts.getOrDefault(team, 0);
+            if (team.getStudents().size() + pendingInTeam >= team.getTeamSize()) {
+                throw new CommandException(String.format(TutorialTeamMessages.MESSAGE_TEAM_SIZE_EXCEEDED,
+                        team.getTeamSize()));
+            }
+            pendingCounts.put(team, pendingInTeam + 1);
+        }
+        pendingCounts.put(tutorialClass, pendingInClass + 1);
+
+        row.module = pair.getModule();
+        row.tutorialClass = tutorialClass;
+        row.team = team;
+    }
+
+    private String formatResult(int importedCount, int rowCount, List<String> errors) {
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, rowCount, filePath));
+        errors.stream().limit(MAX_REPORTED_ERRORS).forEach(error -> result.append('\n').append(error));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            result.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS));
+        }
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportStudentsCommand)) {
+            return false;
+        }
+
+        ImportStudentsCommand otherImportStudentsCommand = (ImportStudentsCommand) other;
+        return filePath.equals(otherImportStudentsCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * One row of the file: the student it lists and where to place them, or why it cannot be imported.
+     */
+    private static class ImportRow {
+        private final int rowNumber;
+        private Person person;
+        private ModuleCode module;
+        private TutorialClass tutorialClass;
+        private TutorialTeam team;
+        private String error;
+
+        private ImportRow(int rowNumber) {
+            this.rowNumber = rowNumber;
+        }
+    }
+
+    /**
+     * Columns the file may have, each known by any of its names.
+     */
+    private enum Column {
+        NAME(true, "name"),
+        EMAIL(true, "email"),
+        STUDENT_ID(true, "id", "studentid"),
+        TAGS(false, "tag", "tags"),
+        MODULE(false, "module", "modulecode"),
+        TUTORIAL(false, "tutorial", "class", "tutorialclass"),
+        TEAM(false, "team", "teamname");
+
+        private final boolean isRequired;
+        private final List<String> names;
+
+        Column(boolean isRequired, String... names) {
+            this.isRequired = isRequired;
+            this.names = Arrays.asList(names);
+        }
+    }
+}
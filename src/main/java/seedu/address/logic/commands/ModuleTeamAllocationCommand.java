@@ -0,0 +1,178 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_OF_TEAMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEATS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.messages.ModuleMessages;
+import seedu.address.model.Model;
+import seedu.address.model.module.BalancedTeamAllocator;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TeammateHistory;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A command to allocate the students of every tutorial class of a module into balanced teams at once.
+ * The tutorial classes are allocated in parallel, and the teams are only applied once every class is allocated.
+ */
+public class ModuleTeamAllocationCommand extends Command {
+
+    public static final String COMMAND_WORD = "/module_teams";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Allocate the students of every tutorial class in "
+            + "the module into teams, spreading the students of each tag evenly across the teams of their class.\n"
+            + "Parameters: "
+            + PREFIX_MODULECODE + "MODULE CODE "
+            + PREFIX_NUM_OF_TEAMS + "NUMBER OF TEAMS PER CLASS "
+            + "[" + PREFIX_REPEATS + BalancedTeamAllocationCommand.REPEATS_AVOID + "] "
+            + "[" + PREFIX_SEED + "SEED]\n"
+            + "Tutorial classes without students are skipped.\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_MODULECODE + "CS2103T "
+            + PREFIX_NUM_OF_TEAMS + "4 "
+            + PREFIX_REPEATS + BalancedTeamAllocationCommand.REPEATS_AVOID;
+
+    public static final String MESSAGE_SUCCESS = "Successfully allocated students for %1$d tutorial class(es) of "
+            + "module %2$s into %3$d balanced teams each";
+    public static final String MESSAGE_CLASSES_SKIPPED = "\nSkipped tutorial class(es) without students: %1$s";
+    public static final String MESSAGE_REPEAT_PAIRINGS = "\n%1$d pair(s) of students in the same team have been "
+            + "teammates before";
+    public static final String MESSAGE_NO_STUDENTS = "No tutorial class of module %1$s has any students";
+    public static final String MESSAGE_ALLOCATION_NOT_POSSIBLE = "Allocation not possible for tutorial class %1$s "
+            + "of size %2$d into %3$d different teams";
+
+    private final ModuleCode moduleCode;
+    private final int numOfTeams;
+    private final boolean isAvoidingRepeats;
+    private final Optional<Long> seed;
+
+    /**
+     * Creates a ModuleTeamAllocationCommand to allocate the students of every tutorial class of {@code moduleCode}
+     * to balanced teams.
+     *
+     * @param moduleCode whose tutorial classes contain the students to split into teams.
+     * @param teams number of teams to split each tutorial class into.
+     * @param isAvoidingRepeats whether students who have been teammates before should be kept apart.
+     * @param seed to seed the random number generator with, so that the allocation can be repeated.
+     */
+    public ModuleTeamAllocationCommand(ModuleCode moduleCode, int teams, boolean isAvoidingRepeats,
+            Optional<Long> seed) {
+        requireAllNonNull(moduleCode, seed);
+        this.moduleCode = moduleCode;
+        numOfTeams = teams;
+        this.isAvoidingRepeats = isAvoidingRepeats;
+        this.seed = seed;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireAllNonNull(model);
+        ModuleCode module = model.findModuleFromList(moduleCode);
+        if (module == null) {
+            throw new CommandException(String.format(ModuleMessages.MESSAGE_MODULE_NOT_FOUND, moduleCode));
+        }
+
+        // every class is checked before any is allocated, so that a failure leaves all the teams as they were
+        List<TutorialClass> tutorials = new ArrayList<>();
+        List<TutorialClass> skipped = new ArrayList<>();
+        for (TutorialClass tutorial : module.getTutorialClasses()) {
+            int classSize = tutorial.getStudents().size();
+            if (classSize == 0) {
+                skipped.add(tutorial);
+            } else if (numOfTeams <= 0 || numOfTeams > classSize) {
+                throw new CommandException(String.format(MESSAGE_ALLOCATION_NOT_POSSIBLE, tutorial, classSize,
+                        numOfTeams));
+            } else {
+                tutorials.add(tutorial);
+            }
+        }
+        if (tutorials.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_STUDENTS, module));
+        }
+
+        // the seeds are drawn in class order, so the allocation does not depend on which class finishes first
+        Random random = seed.map(Random::new).orElseGet(Random::new);
+        long[] seeds = random.longs(tutorials.size()).toArray();
+        List<BalancedTeamAllocator.Allocation> allocations = IntStream.range(0, tutorials.size())
+                .parallel()
+                .mapToObj(i -> allocate(tutorials.get(i), new Random(seeds[i])))
+                .collect(Collectors.toList());
+
+        int repeatPairings = 0;
+        for (int i = 0; i < tutorials.size(); i++) {
+            model.allocateTeams(module, tutorials.get(i), allocations.get(i).getTeams());
+            repeatPairings += allocations.get(i).getRepeatPairings();
+        }
+        model.getAddressBook().setTutorialClassesInModules(module);
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, tutorials.size(), module,
+                numOfTeams));
+        if (!skipped.isEmpty()) {
+            result.append(String.format(MESSAGE_CLASSES_SKIPPED, skipped.stream().map(TutorialClass::toString)
+                    .collect(Collectors.joining(", "))));
+        }
+        if (repeatPairings > 0) {
+            result.append(String.format(MESSAGE_REPEAT_PAIRINGS, repeatPairings));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    /**
+     * Allocates the students of {@code tutorial} into balanced teams without changing the tutorial class.
+     */
+    private BalancedTeamAllocator.Allocation allocate(TutorialClass tutorial, Random random) {
+        List<Person> students = new ArrayList<>(tutorial.getStudents());
+        Set<Tag> tags = new LinkedHashSet<>();
+        students.forEach(student -> tags.addAll(student.getTags()));
+        // the current teams become history once replaced, so they are avoided as well
+        TeammateHistory history = isAvoidingRepeats
+                ? tutorial.getTeammateHistoryWithCurrentTeams()
+                : new TeammateHistory();
+        return new BalancedTeamAllocator(students, numOfTeams, tags, Collections.emptyList(),
+                Collections.emptyList(), history).allocate(random);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModuleTeamAllocationCommand)) {
+            return false;
+        }
+
+        ModuleTeamAllocationCommand otherCommand = (ModuleTeamAllocationCommand) other;
+        return moduleCode.equals(otherCommand.moduleCode)
+                && numOfTeams == otherCommand.numOfTeams
+                && isAvoidingRepeats == otherCommand.isAvoidingRepeats
+                && seed.equals(otherCommand.seed);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("moduleCode", moduleCode)
+                .add("numOfTeams", numOfTeams)
+                .add("isAvoidingRepeats", isAvoidingRepeats)
+                .add("seed", seed)
+                .toString();
+    }
+}
@@ -3,9 +3,12 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_OF_TEAMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALCLASS;
 
 import java.util.ArrayList;
+import java.util.Optional;
+import java.util.Random;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -26,7 +29,9 @@ public class RandomTeamAllocationCommand extends Command {
             + "Parameters: "
             + PREFIX_MODULECODE + "MODULE CODE "
             + PREFIX_TUTORIALCLASS + "TUTORIAL CLASS "
-            + PREFIX_NUM_OF_TEAMS + "NUMBER OF TEAMS \n"
+            + PREFIX_NUM_OF_TEAMS + "NUMBER OF TEAMS "
+            + "[" + PREFIX_SEED + "SEED]\n"
+            + "Giving the same seed to the same class repeats the allocation exactly.\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_MODULECODE + "CS2103T "
             + PREFIX_TUTORIALCLASS + "T09 "
@@ -43,6 +48,7 @@ public class RandomTeamAllocationCommand extends Command {
     private final ModuleCode moduleCode;
     private final TutorialClass tutorialClass;
     private final int numOfTeams;
+    private final Optional<Long> seed;
 
     /**
      * Creates a RandomTeamAllocation to randomly allocate students of {@code tutorialClass} to different teams.
@@ -52,10 +58,24 @@ public class RandomTeamAllocationCommand extends Command {
      * @param teams number of teams to split into.
      */
     public RandomTeamAllocationCommand(ModuleCode moduleCode, TutorialClass tutorialClass, int teams) {
-        requireAllNonNull(moduleCode, tutorialClass, teams);
+        this(moduleCode, tutorialClass, teams, Optional.empty());
+    }
+
+    /**
+     * Creates a RandomTeamAllocation to randomly allocate students of {@code tutorialClass} to different teams.
+     *
+     * @param moduleCode of the tutorial class.
+     * @param tutorialClass that contains the students to split into teams.
+     * @param teams number of teams to split into.
+     * @param seed to seed the random number generator with, so that the allocation can be repeated.
+     */
+    public RandomTeamAllocationCommand(ModuleCode moduleCode, TutorialClass tutorialClass, int teams,
+            Optional<Long> seed) {
+        requireAllNonNull(moduleCode, tutorialClass, teams, seed);
         this.moduleCode = moduleCode;
         this.tutorialClass = tutorialClass;
         numOfTeams = teams;
+        this.seed = seed;
     }
 
     /**
@@ -97,7 +117,8 @@ public class RandomTeamAllocationCommand extends Command {
             return new CommandResult(String.format(MESSAGE_ALLOCATION_NOT_POSSIBLE, classSize, numOfTeams));
         }
 
-        model.randomTeamAllocation(module, tutorial, numOfTeams);
+        Random random = seed.map(Random::new).orElseGet(Random::new);
+        model.randomTeamAllocation(module, tutorial, numOfTeams, random);
         model.getAddressBook().setTutorialClassesInModules(module);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, tutorial));
@@ -117,7 +138,8 @@ public class RandomTeamAllocationCommand extends Command {
         RandomTeamAllocationCommand otherRandomTeamAllocationCommand = (RandomTeamAllocationCommand) other;
         return moduleCode.equals(otherRandomTeamAllocationCommand.moduleCode)
                 && tutorialClass.equals(otherRandomTeamAllocationCommand.tutorialClass)
-                && numOfTeams == ((RandomTeamAllocationCommand) other).numOfTeams;
+                && numOfTeams == ((RandomTeamAllocationCommand) other).numOfTeams
+                && seed.equals(otherRandomTeamAllocationCommand.seed);
     }
 
     @Override
@@ -126,6 +148,7 @@ public class RandomTeamAllocationCommand extends Command {
                 .add("moduleCode", moduleCode)
                 .add("tutorialClass", tutorialClass)
                 .add("numOfTeams", numOfTeams)
+                .add("seed", seed)
                 .toString();
     }
 }
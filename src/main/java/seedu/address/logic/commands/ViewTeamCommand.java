@@ -7,10 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALCLASS;
 
-import java.util.function.Predicate;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.Prefix;
@@ -81,7 +77,7 @@ public class ViewTeamCommand extends Command {
             return new CommandResult(String.format(MESSAGE_EMPTY, moduleInList, tutorialInList));
         }
         if (predicateType.equals(PREFIX_NAME)) {
-            teamToView = findTeamByName(model, new TutorialTeamName(predicateValue), tutorialInList, moduleInList);
+            teamToView = tutorialInList.findTeam(new TutorialTeamName(predicateValue));
             if (teamToView == null || !tutorialInList.hasTeam(teamToView)) {
                 throw new CommandException(String.format(MESSAGE_TEAM_NOT_FOUND, predicateType, predicateValue));
             }
@@ -111,22 +107,10 @@ public class ViewTeamCommand extends Command {
             + teamToView.getTeamSize() + ", Students: " + studentsString);
     }
 
-    private TutorialTeam findTeamByName(Model model, TutorialTeamName teamName, TutorialClass tutorialClass,
-                                        ModuleCode moduleCode) {
-        Predicate<TutorialTeam> namePredicate = tutorialTeam -> tutorialTeam.getTeamName()
-            .trim().equalsIgnoreCase(teamName.toString());
-        return model.searchTeamByPredicate(namePredicate, tutorialClass, moduleCode);
-    }
-
     TutorialTeam findTeamByIndex(Model model, Index index, TutorialClass tutorialClass,
                                  ModuleCode moduleCode) throws CommandException {
         TutorialClass tutorialInList = model.findTutorialClassFromList(tutorialClass, moduleCode);
-        Predicate<TutorialTeam> indexPredicate = tutorialTeam -> {
-            ObservableList<TutorialTeam> filteredList = FXCollections.observableList(tutorialInList.getTeams());
-            int teamIndex = filteredList.indexOf(tutorialTeam) + 1;
-            return teamIndex == index.getOneBased();
-        };
-        TutorialTeam team = model.searchTeamByPredicate(indexPredicate, tutorialClass, moduleCode);
+        TutorialTeam team = tutorialInList == null ? null : tutorialInList.findTeamByIndex(index.getZeroBased());
         if (team == null) {
             throw new CommandException("No team found.");
         }
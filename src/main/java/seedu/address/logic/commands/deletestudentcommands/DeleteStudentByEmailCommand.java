@@ -38,7 +38,6 @@ public class DeleteStudentByEmailCommand extends DeleteStudentCommand {
             throw new CommandException(String.format(PersonMessages.MESSAGE_PERSON_EMAIL_NOT_FOUND, email));
         }
         model.deletePerson(personToDelete);
-        deleteStudentFromTutorialClasses(model, personToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
@@ -38,7 +38,6 @@ public class DeleteStudentByIdCommand extends DeleteStudentCommand {
         }
 
         model.deletePerson(personToDelete);
-        deleteStudentFromTutorialClasses(model, personToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
@@ -39,7 +39,6 @@ public class DeleteStudentByIndexCommand extends DeleteStudentCommand {
                     targetIndex.getOneBased()));
         }
         model.deletePerson(personToDelete);
-        deleteStudentFromTutorialClasses(model, personToDelete);
 
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
@@ -64,7 +64,7 @@ public class DeleteStudentFromTeamByEmailCommand extends DeleteStudentFromTeamCo
                     String.format(TutorialTeamMessages.MESSAGE_STUDENT_NOT_FOUND_IN_TEAM,
                             Messages.format(personToDelete), tutorialClass));
         } else {
-            model.deleteStudentFromTeam(personToDelete, team);
+            model.deleteStudentFromTeam(personToDelete, module, tutorialClass, team);
             return new CommandResult(
                     String.format(MESSAGE_DELETE_STUDENT_FROM_TEAM_SUCCESS,
                             Messages.format(personToDelete), module, tutorialClass, team));
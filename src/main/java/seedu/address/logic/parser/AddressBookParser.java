@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddClassCommand;
 import seedu.address.logic.commands.AddStudentCommand;
 import seedu.address.logic.commands.AddTeamCommand;
+import seedu.address.logic.commands.BalancedTeamAllocationCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteClassCommand;
@@ -18,10 +19,13 @@ import seedu.address.logic.commands.DeleteModuleCommand;
 import seedu.address.logic.commands.DeleteTeamCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportStudentsCommand;
 import seedu.address.logic.commands.ListClassesCommand;
 import seedu.address.logic.commands.ListStudentsCommand;
 import seedu.address.logic.commands.ListStudentsOfClassCommand;
+import seedu.address.logic.commands.ModuleTeamAllocationCommand;
 import seedu.address.logic.commands.RandomTeamAllocationCommand;
 import seedu.address.logic.commands.SearchStudentCommand;
 import seedu.address.logic.commands.ViewTeamCommand;
@@ -133,6 +137,18 @@ public class AddressBookParser {
         case RandomTeamAllocationCommand.COMMAND_WORD:
             return new RandomTeamAllocationCommandParser().parse(arguments);
 
+        case BalancedTeamAllocationCommand.COMMAND_WORD:
+            return new BalancedTeamAllocationCommandParser().parse(arguments);
+
+        case ModuleTeamAllocationCommand.COMMAND_WORD:
+            return new ModuleTeamAllocationCommandParser().parse(arguments);
+
+        case ImportStudentsCommand.COMMAND_WORD:
+            return new ImportStudentsCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,85 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APART;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_OF_TEAMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEATS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOGETHER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALCLASS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.BalancedTeamAllocationCommand;
+import seedu.address.logic.commands.RandomTeamAllocationCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new BalancedTeamAllocationCommand object
+ */
+public class BalancedTeamAllocationCommandParser implements Parser<BalancedTeamAllocationCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BalancedTeamAllocationCommand
+     * and returns a BalancedTeamAllocationCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BalancedTeamAllocationCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_MODULECODE, PREFIX_TUTORIALCLASS, PREFIX_NUM_OF_TEAMS,
+                        PREFIX_TAG, PREFIX_APART, PREFIX_TOGETHER, PREFIX_REPEATS, PREFIX_SEED);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_MODULECODE, PREFIX_TUTORIALCLASS, PREFIX_NUM_OF_TEAMS)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    BalancedTeamAllocationCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODULECODE, PREFIX_TUTORIALCLASS, PREFIX_NUM_OF_TEAMS,
+                PREFIX_REPEATS, PREFIX_SEED);
+        ModuleCode moduleCode = ParserUtil.parseModuleCode(argMultimap.getValue(PREFIX_MODULECODE).get());
+        TutorialClass tutorialClass = ParserUtil.parseTutorialClass(argMultimap.getValue(PREFIX_TUTORIALCLASS).get());
+        int numOfTeams = ParserUtil.parseNumberOfTeams(argMultimap.getValue(PREFIX_NUM_OF_TEAMS).get());
+
+        if (numOfTeams <= 0) {
+            throw new ParseException(RandomTeamAllocationCommand.MESSAGE_NUM_OF_TEAMS_NONZERO);
+        }
+
+        Set<Tag> balancedTags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        List<List<StudentId>> keepApart = parseStudentIdGroups(argMultimap.getAllValues(PREFIX_APART));
+        List<List<StudentId>> keepTogether = parseStudentIdGroups(argMultimap.getAllValues(PREFIX_TOGETHER));
+        boolean isAvoidingRepeats = argMultimap.getValue(PREFIX_REPEATS).isPresent()
+                && ParserUtil.parseIsAvoidingRepeats(argMultimap.getValue(PREFIX_REPEATS).get());
+        Optional<Long> seed = argMultimap.getValue(PREFIX_SEED).isPresent()
+                ? Optional.of(ParserUtil.parseSeed(argMultimap.getValue(PREFIX_SEED).get()))
+                : Optional.empty();
+
+        return new BalancedTeamAllocationCommand(moduleCode, tutorialClass, numOfTeams, balancedTags, keepApart,
+                keepTogether, isAvoidingRepeats, seed);
+    }
+
+    private static List<List<StudentId>> parseStudentIdGroups(List<String> groups) throws ParseException {
+        List<List<StudentId>> studentIdGroups = new ArrayList<>();
+        for (String group : groups) {
+            studentIdGroups.add(ParserUtil.parseStudentIdGroup(group));
+        }
+        return studentIdGroups;
+    }
+
+    /**
+     * Returns true if all the prefixes are present in the given {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
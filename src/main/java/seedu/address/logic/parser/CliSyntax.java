@@ -19,4 +19,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_SIZE = new Prefix("size/");
     public static final Prefix PREFIX_NUM_OF_TEAMS = new Prefix("teams/");
     public static final Prefix PREFIX_SORT_BY = new Prefix("by/");
+    public static final Prefix PREFIX_FILE = new Prefix("file/");
+    public static final Prefix PREFIX_SEED = new Prefix("seed/");
+    public static final Prefix PREFIX_APART = new Prefix("apart/");
+    public static final Prefix PREFIX_TOGETHER = new Prefix("together/");
+    public static final Prefix PREFIX_REPEATS = new Prefix("repeats/");
 }
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAMNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALCLASS;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.module.TutorialTeam;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE, PREFIX_MODULECODE,
+                PREFIX_TUTORIALCLASS, PREFIX_TEAMNAME);
+
+        boolean hasModule = argMultimap.getValue(PREFIX_MODULECODE).isPresent();
+        boolean hasTutorialClass = argMultimap.getValue(PREFIX_TUTORIALCLASS).isPresent();
+        boolean hasTeam = argMultimap.getValue(PREFIX_TEAMNAME).isPresent();
+        if (argMultimap.getValue(PREFIX_FILE).isEmpty() || !argMultimap.getPreamble().isEmpty()
+                || (hasTutorialClass && !hasModule) || (hasTeam && !hasTutorialClass)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE, PREFIX_MODULECODE, PREFIX_TUTORIALCLASS,
+                PREFIX_TEAMNAME);
+        Path filePath = ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_FILE).get());
+        ExportCommand.Format format = ExportCommand.Format.of(filePath)
+                .orElseThrow(() -> new ParseException(ExportCommand.MESSAGE_UNKNOWN_FORMAT));
+        ModuleCode module = hasModule
+                ? ParserUtil.parseModuleCode(argMultimap.getValue(PREFIX_MODULECODE).get()) : null;
+        TutorialClass tutorialClass = hasTutorialClass
+                ? ParserUtil.parseTutorialClass(argMultimap.getValue(PREFIX_TUTORIALCLASS).get()) : null;
+        TutorialTeam team = hasTeam
+                ? ParserUtil.parseTutorialTeam(argMultimap.getValue(PREFIX_TEAMNAME).get()) : null;
+
+        return new ExportCommand(filePath, format, module, tutorialClass, team);
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ImportStudentsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportStudentsCommand object
+ */
+public class ImportStudentsCommandParser implements Parser<ImportStudentsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportStudentsCommand
+     * and returns an ImportStudentsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportStudentsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+
+        if (argMultimap.getValue(PREFIX_FILE).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportStudentsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+        Path filePath = ParserUtil.parseFilePath(argMultimap.getValue(PREFIX_FILE).get());
+        return new ImportStudentsCommand(filePath);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_OF_TEAMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEATS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ModuleTeamAllocationCommand;
+import seedu.address.logic.commands.RandomTeamAllocationCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.ModuleCode;
+
+/**
+ * Parses input arguments and creates a new ModuleTeamAllocationCommand object
+ */
+public class ModuleTeamAllocationCommandParser implements Parser<ModuleTeamAllocationCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ModuleTeamAllocationCommand
+     * and returns a ModuleTeamAllocationCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ModuleTeamAllocationCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_MODULECODE, PREFIX_NUM_OF_TEAMS, PREFIX_REPEATS, PREFIX_SEED);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_MODULECODE, PREFIX_NUM_OF_TEAMS)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ModuleTeamAllocationCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODULECODE, PREFIX_NUM_OF_TEAMS, PREFIX_REPEATS, PREFIX_SEED);
+        ModuleCode moduleCode = ParserUtil.parseModuleCode(argMultimap.getValue(PREFIX_MODULECODE).get());
+        int numOfTeams = ParserUtil.parseNumberOfTeams(argMultimap.getValue(PREFIX_NUM_OF_TEAMS).get());
+
+        if (numOfTeams <= 0) {
+            throw new ParseException(RandomTeamAllocationCommand.MESSAGE_NUM_OF_TEAMS_NONZERO);
+        }
+
+        boolean isAvoidingRepeats = argMultimap.getValue(PREFIX_REPEATS).isPresent()
+                && ParserUtil.parseIsAvoidingRepeats(argMultimap.getValue(PREFIX_REPEATS).get());
+        Optional<Long> seed = argMultimap.getValue(PREFIX_SEED).isPresent()
+                ? Optional.of(ParserUtil.parseSeed(argMultimap.getValue(PREFIX_SEED).get()))
+                : Optional.empty();
+
+        return new ModuleTeamAllocationCommand(moduleCode, numOfTeams, isAvoidingRepeats, seed);
+    }
+
+    /**
+     * Returns true if all the prefixes are present in the given {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -2,12 +2,19 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.BalancedTeamAllocationCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.TutorialClass;
@@ -24,6 +31,11 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_SEED = "Seed should be a whole number.";
+    public static final String MESSAGE_STUDENT_ID_GROUP_TOO_SMALL = "A group of students should have at least 2 "
+            + "different student IDs, separated by spaces or commas.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path should not be blank, "
+            + "and should be a valid path on this computer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
@@ -126,6 +138,37 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String seed} into a {@code long} to seed a random number generator with.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code seed} is not a whole number that fits in a {@code long}.
+     */
+    public static long parseSeed(String seed) throws ParseException {
+        requireNonNull(seed);
+        try {
+            return Long.parseLong(seed.trim());
+        } catch (NumberFormatException err) {
+            throw new ParseException(MESSAGE_INVALID_SEED);
+        }
+    }
+
+    /**
+     * Parses a {@code String repeats} into whether students who have been teammates before should be kept apart.
+     * Leading and trailing whitespaces will be trimmed, and case is ignored.
+     * @throws ParseException if the given {@code repeats} is neither avoid nor allow.
+     */
+    public static boolean parseIsAvoidingRepeats(String repeats) throws ParseException {
+        requireNonNull(repeats);
+        String trimmedRepeats = repeats.trim();
+        if (trimmedRepeats.equalsIgnoreCase(BalancedTeamAllocationCommand.REPEATS_AVOID)) {
+            return true;
+        }
+        if (trimmedRepeats.equalsIgnoreCase(BalancedTeamAllocationCommand.REPEATS_ALLOW)) {
+            return false;
+        }
+        throw new ParseException(BalancedTeamAllocationCommand.MESSAGE_INVALID_REPEATS);
+    }
+
 
     /**
      * Parses a {@code String team} into an {@code TutorialTeam}.
@@ -155,6 +198,25 @@ public class ParserUtil {
         return new Tag(trimmedTag);
     }
 
+    /**
+     * Parses a {@code String group} of student IDs, separated by spaces or commas, into a list of
+     * {@code StudentId}s without repeats.
+     * @throws ParseException if any of the student IDs is invalid, or there are fewer than 2 different ones.
+     */
+    public static List<StudentId> parseStudentIdGroup(String group) throws ParseException {
+        requireNonNull(group);
+        Set<StudentId> studentIds = new LinkedHashSet<>();
+        for (String studentId : group.trim().split("[,\\s]+")) {
+            if (!studentId.isEmpty()) {
+                studentIds.add(parseStudentId(studentId));
+            }
+        }
+        if (studentIds.size() < 2) {
+            throw new ParseException(MESSAGE_STUDENT_ID_GROUP_TOO_SMALL);
+        }
+        return new ArrayList<>(studentIds);
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
      */
@@ -204,4 +266,18 @@ public class ParserUtil {
             throw new ParseException(TutorialTeam.MESSAGE_SIZE_CONSTRAINTS);
         }
     }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code filePath} is blank or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
 }
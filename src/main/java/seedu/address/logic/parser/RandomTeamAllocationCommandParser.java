@@ -3,8 +3,10 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULECODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_OF_TEAMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTORIALCLASS;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.RandomTeamAllocationCommand;
@@ -24,7 +26,8 @@ public class RandomTeamAllocationCommandParser implements Parser<RandomTeamAlloc
      */
     public RandomTeamAllocationCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_MODULECODE, PREFIX_TUTORIALCLASS, PREFIX_NUM_OF_TEAMS);
+                ArgumentTokenizer.tokenize(args, PREFIX_MODULECODE, PREFIX_TUTORIALCLASS, PREFIX_NUM_OF_TEAMS,
+                        PREFIX_SEED);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_MODULECODE, PREFIX_TUTORIALCLASS, PREFIX_NUM_OF_TEAMS)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -32,7 +35,8 @@ public class RandomTeamAllocationCommandParser implements Parser<RandomTeamAlloc
                     RandomTeamAllocationCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODULECODE, PREFIX_TUTORIALCLASS, PREFIX_NUM_OF_TEAMS);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MODULECODE, PREFIX_TUTORIALCLASS, PREFIX_NUM_OF_TEAMS,
+                PREFIX_SEED);
         ModuleCode moduleCode = ParserUtil.parseModuleCode(argMultimap.getValue(PREFIX_MODULECODE).get());
         TutorialClass tutorialClass = ParserUtil.parseTutorialClass(argMultimap.getValue(PREFIX_TUTORIALCLASS).get());
         int numOfTeams = ParserUtil.parseNumberOfTeams(argMultimap.getValue(PREFIX_NUM_OF_TEAMS).get());
@@ -41,7 +45,11 @@ public class RandomTeamAllocationCommandParser implements Parser<RandomTeamAlloc
             throw new ParseException(String.format(RandomTeamAllocationCommand.MESSAGE_NUM_OF_TEAMS_NONZERO));
         }
 
-        return new RandomTeamAllocationCommand(moduleCode, tutorialClass, numOfTeams);
+        Optional<Long> seed = argMultimap.getValue(PREFIX_SEED).isPresent()
+                ? Optional.of(ParserUtil.parseSeed(argMultimap.getValue(PREFIX_SEED).get()))
+                : Optional.empty();
+
+        return new RandomTeamAllocationCommand(moduleCode, tutorialClass, numOfTeams, seed);
     }
 
     /**
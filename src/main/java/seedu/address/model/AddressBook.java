@@ -4,9 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -15,6 +20,9 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.messages.ModuleMessages;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.StudentMembership;
+import seedu.address.model.module.StudentMembershipIndex;
+import seedu.address.model.module.TeammateHistoryIndex;
 import seedu.address.model.module.TutorialClass;
 import seedu.address.model.module.TutorialTeam;
 import seedu.address.model.person.Email;
@@ -31,8 +39,15 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private ObservableList<Person> sortedPersons;
     private final ArrayList<ModuleCode> modules;
+    private final Map<String, ModuleCode> modulesByCode;
     private final ArrayList<TutorialClass> tutorialClasses;
     private final ArrayList<TutorialTeam> tutorialTeams;
+    private final StudentMembershipIndex memberships;
+    private final TeammateHistoryIndex teammateHistories;
+    // bumped on every change to the persons, modules, classes or teams, so that callers can tell when to save
+    private long version;
+    // the changes since the last call to takeDelta()
+    private AddressBookDelta delta = new AddressBookDelta();
 
     private ObservableList<Person> studentsInTeam;
     private ObservableList<Person> studentsInClass;
@@ -53,9 +68,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         modules = new ArrayList<>();
+        modulesByCode = new HashMap<>();
         tutorialClasses = new ArrayList<>();
         tutorialTeams = new ArrayList<>();
-
+        memberships = new StudentMembershipIndex();
+        teammateHistories = new TeammateHistoryIndex();
     }
 
     public AddressBook() {
@@ -69,6 +86,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns a copy of {@code source} that is not affected by later changes to it, such as a snapshot to save in
+     * the background. Persons are immutable and are shared; modules, classes and teams are copied.
+     */
+    public static AddressBook snapshotOf(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        AddressBook snapshot = new AddressBook();
+        snapshot.setPersons(source.getPersonList());
+        snapshot.setModules(source.getModuleList().stream().map(ModuleCode::copy).collect(Collectors.toList()));
+        return snapshot;
+    }
+
     //// list overwrite operations
 
     /**
@@ -76,7 +105,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
         this.persons.setPersons(persons);
+        markChanged();
+        delta.recordWholeBookReplaced();
     }
 
     /**
@@ -84,18 +116,27 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setModules(List<ModuleCode> modules) {
         requireNonNull(modules);
+        markChanged();
+        delta.recordWholeBookReplaced();
         this.modules.clear();
-        this.modules.addAll(modules);
+        this.modulesByCode.clear();
+        modules.forEach(this::registerModule);
+        memberships.rebuild(this.modules);
+        teammateHistories.rebuild(this.modules);
     }
 
     public void setClass(List<TutorialClass> tutorialClasses) {
         requireNonNull(tutorialClasses);
+        markChanged();
+        delta.recordWholeBookReplaced();
         this.tutorialClasses.clear();
         this.tutorialClasses.addAll(tutorialClasses);
     }
 
     public void setTutorialTeams(List<TutorialTeam> tutorialTeams) {
         requireNonNull(tutorialTeams);
+        markChanged();
+        delta.recordWholeBookReplaced();
         this.tutorialTeams.clear();
         this.tutorialTeams.addAll(tutorialTeams);
     }
@@ -128,7 +169,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPersonWithStudentId(StudentId id) {
         requireNonNull(id);
-        return persons.asUnmodifiableObservableList().stream().anyMatch(s -> s.getStudentId().equals(id));
+        return persons.containsStudentId(id);
     }
 
     /**
@@ -137,7 +178,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPersonWithEmail(Email email) {
         requireNonNull(email);
-        return persons.asUnmodifiableObservableList().stream().anyMatch(s -> s.getEmail().equals(email));
+        return persons.containsEmail(email);
     }
 
     /**
@@ -145,7 +186,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        requireNonNull(p);
         persons.add(p);
+        markChanged();
+        delta.recordAddPerson(p);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book in one change.
+     * None of the persons may already exist in the address book, or share an identity with another of them.
+     */
+    public void addPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        persons.addAll(toAdd);
+        markChanged();
+        toAdd.forEach(delta::recordAddPerson);
     }
 
     /**
@@ -155,7 +210,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     @Override
     public boolean hasModule(ModuleCode module) {
         requireNonNull(module);
-        return modules.contains(module);
+        return modulesByCode.containsKey(module.moduleCode);
     }
 
     /**
@@ -166,12 +221,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return the module object from the list, if it exists, else returns null
      */
     public ModuleCode findModuleFromList(ModuleCode module) {
-        for (ModuleCode moduleInList : modules) {
-            if (module.equals(moduleInList)) {
-                return moduleInList;
-            }
-        }
-        return null;
+        requireNonNull(module);
+        return modulesByCode.get(module.moduleCode);
     }
 
     /**
@@ -185,10 +236,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         if (moduleInList == null) {
             throw new CommandException(String.format(ModuleMessages.MESSAGE_MODULE_NOT_FOUND, moduleCode));
         }
-        TutorialClass tutorialClassInList = moduleInList.getTutorialClasses().stream()
-                .filter(tutorial -> tutorial.equals(tutorialClass))
-                .findFirst()
-                .orElse(null);
+        TutorialClass tutorialClassInList = moduleInList.findTutorialClass(tutorialClass);
         if (tutorialClassInList == null) {
             throw new CommandException(String.format(ModuleMessages.MESSAGE_TUTORIAL_DOES_NOT_BELONG_TO_MODULE,
                     tutorialClass, moduleCode));
@@ -197,40 +245,61 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Randomly allocates the students in {@code tutorialClass} into {@code numOfTeams} different teams.
+     * Randomly allocates the students in {@code tutorialClass} into {@code numOfTeams} different teams, replacing
+     * the teams it had.
+     *
+     * The students are shuffled once, then dealt to the teams in turn, so every student is placed in a single pass
+     * and the team sizes differ by at most one.
      *
      * @param moduleCode that the {@code tutorialClass} is in.
      * @param tutorialClass to allocate the different students into the teams to.
      * @param numOfTeams to be randomly generated.
+     * @param random the source of randomness, so that a run can be repeated by seeding it the same way.
      */
-    public void randomTeamAllocation(ModuleCode moduleCode, TutorialClass tutorialClass, int numOfTeams) {
-        requireAllNonNull(moduleCode, tutorialClass, numOfTeams);
-        ArrayList<TutorialTeam> teams = tutorialClass.getTeams();
-        ArrayList<Person> classList = tutorialClass.getStudents();
-        int classSize = classList.size();
-        int teamSize = (int) Math.ceil((double) classSize / numOfTeams);
-        teams.clear();
-
-        // creating the teams to add into
-        for (int i = 1; i <= numOfTeams; i++) {
-            String teamName = "Team" + i;
-            TutorialTeam team = new TutorialTeam(teamName, teamSize);
-            addTeam(tutorialClass, team);
+    public void randomTeamAllocation(ModuleCode moduleCode, TutorialClass tutorialClass, int numOfTeams,
+            Random random) {
+        requireAllNonNull(moduleCode, tutorialClass, numOfTeams, random);
+        List<Person> shuffledStudents = new ArrayList<>(tutorialClass.getStudents());
+        List<List<Person>> teams = new ArrayList<>();
+        for (int i = 0; i < numOfTeams; i++) {
+            teams.add(new ArrayList<>());
         }
 
-        Random random = new Random();
-        int listIndex = 0;
-        while (listIndex < classSize) {
-            int randInt = random.nextInt(numOfTeams);
-            TutorialTeam currTeam = tutorialClass.getTeams().get(randInt);
-            if (currTeam.hasTeamSizeExceeded(currTeam)) {
-                continue;
-            }
+        // a Fisher-Yates shuffle, after which the i-th student goes to team i mod numOfTeams
+        Collections.shuffle(shuffledStudents, random);
+        for (int i = 0; i < shuffledStudents.size(); i++) {
+            teams.get(i % numOfTeams).add(shuffledStudents.get(i));
+        }
+        allocateTeams(moduleCode, tutorialClass, teams);
+    }
 
-            Person student = classList.get(listIndex);
-            if (!currTeam.isSamePersonInTeam(student, currTeam)) {
-                currTeam.addStudent(student);
-                listIndex++;
+    /**
+     * Replaces the teams of {@code tutorialClass} with one team for each list in {@code teams}, named "Team1",
+     * "Team2" and so on, and holding the students of that list.
+     * Every team is sized to fit the largest list, and the teams replaced are added to the teammate history of
+     * {@code tutorialClass}.
+     *
+     * @param moduleCode that the {@code tutorialClass} is in.
+     * @param tutorialClass whose students are in {@code teams}.
+     * @param teams the students of each new team.
+     */
+    public void allocateTeams(ModuleCode moduleCode, TutorialClass tutorialClass, List<List<Person>> teams) {
+        requireAllNonNull(moduleCode, tutorialClass, teams);
+        markChanged();
+        delta.recordModuleChange(moduleCode);
+        teammateHistories.recordTeammates(tutorialClass);
+        for (TutorialTeam team : tutorialClass.getTeams()) {
+            memberships.removeTeam(moduleCode, tutorialClass, team);
+        }
+        tutorialClass.clearTeams();
+
+        int teamSize = teams.stream().mapToInt(List::size).max().orElse(0);
+        for (int i = 0; i < teams.size(); i++) {
+            TutorialTeam team = new TutorialTeam("Team" + (i + 1), teamSize);
+            addTeam(moduleCode, tutorialClass, team);
+            for (Person student : teams.get(i)) {
+                team.addStudent(student);
+                memberships.addTeamMembership(student, moduleCode, tutorialClass, team);
             }
         }
     }
@@ -241,8 +310,32 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     @Override
     public void addModule(ModuleCode m, String description) {
+        requireNonNull(m);
+        markChanged();
+        delta.recordModuleChange(m);
         m.setDescription(description);
-        modules.add(m);
+        registerModule(m);
+        memberships.addModule(m);
+        teammateHistories.addModule(m);
+    }
+
+    /**
+     * Appends {@code module} to the module list and indexes it by its module code.
+     * If a module with the same code is already indexed, lookups keep resolving to the earlier one.
+     */
+    private void registerModule(ModuleCode module) {
+        modules.add(module);
+        modulesByCode.putIfAbsent(module.moduleCode, module);
+    }
+
+    /**
+     * Adds an empty {@code tutorialClass} to {@code module}, which must be in the address book.
+     */
+    public void addTutorialClass(ModuleCode module, TutorialClass tutorialClass) {
+        requireAllNonNull(module, tutorialClass);
+        markChanged();
+        delta.recordModuleChange(module);
+        module.addTutorialClass(tutorialClass);
     }
 
     /**
@@ -253,16 +346,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(person);
         requireNonNull(module);
         requireNonNull(tutorialClass);
+        markChanged();
+        delta.recordModuleChange(module);
 
         ModuleCode moduleInList = findModuleFromList(module);
         if (moduleInList == null) {
             throw new IllegalArgumentException("Module does not exist in the address book.");
         }
-        TutorialClass tutorialClassInList = moduleInList.getTutorialClasses().stream()
-                .filter(tutorial -> tutorial.equals(tutorialClass))
-                .findFirst()
-                .orElse(null);
+        TutorialClass tutorialClassInList = moduleInList.findTutorialClass(tutorialClass);
         tutorialClassInList.addStudent(person);
+        memberships.addClassMembership(person, moduleInList, tutorialClassInList);
     }
 
     /**
@@ -273,48 +366,99 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(person);
         requireNonNull(module);
         requireNonNull(tutorialClass);
+        markChanged();
+        delta.recordModuleChange(module);
 
         ModuleCode moduleInList = findModuleFromList(module);
         if (moduleInList == null) {
             throw new IllegalArgumentException("Module does not exist in the address book.");
         }
-        TutorialClass tutorialClassInList = moduleInList.getTutorialClasses().stream()
-                .filter(tutorial -> tutorial.equals(tutorialClass))
-                .findFirst()
-                .orElse(null);
+        TutorialClass tutorialClassInList = moduleInList.findTutorialClass(tutorialClass);
         tutorialClassInList.deleteStudent(person);
+        memberships.removeClassMembership(person, moduleInList, tutorialClassInList);
     }
 
     /**
      * Allocates the {@code student} to the {@code tutorialTeam}
+     * @param module that the {@code tutorialClass} is in.
+     * @param tutorialClass that the {@code tutorialTeam} is in.
      * @param tutorialTeam to allocate the student into.
      */
-    public void allocateStudentToTeam(Person student, TutorialTeam tutorialTeam) {
-        requireNonNull(student);
-        requireNonNull(tutorialTeam);
+    public void allocateStudentToTeam(Person student, ModuleCode module, TutorialClass tutorialClass,
+            TutorialTeam tutorialTeam) {
+        requireAllNonNull(student, module, tutorialClass, tutorialTeam);
+        markChanged();
+        delta.recordModuleChange(module);
         tutorialTeam.addStudent(student);
+        memberships.addTeamMembership(student, module, tutorialClass, tutorialTeam);
     }
 
     /**
      * Deletes the {@code student} from the {@code tutorialTeam}
      * @param student to be deleted.
+     * @param module that the {@code tutorialClass} is in.
+     * @param tutorialClass that the {@code tutorialTeam} is in.
      * @param tutorialTeam to delete the student from.
      */
-    public void deleteStudentFromTeam(Person student, TutorialTeam tutorialTeam) {
-        requireNonNull(student);
-        requireNonNull(tutorialTeam);
+    public void deleteStudentFromTeam(Person student, ModuleCode module, TutorialClass tutorialClass,
+            TutorialTeam tutorialTeam) {
+        requireAllNonNull(student, module, tutorialClass, tutorialTeam);
+        markChanged();
+        delta.recordModuleChange(module);
         tutorialTeam.deleteStudent(student);
+        memberships.removeTeamMembership(student, module, tutorialClass, tutorialTeam);
+    }
+
+    /**
+     * Deletes the {@code tutorialTeam} from the {@code tutorialClass} of {@code module}.
+     */
+    public void deleteTeam(ModuleCode module, TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
+        requireAllNonNull(module, tutorialClass, tutorialTeam);
+        markChanged();
+        delta.recordModuleChange(module);
+        TutorialTeam teamInClass = tutorialClass.getTutorialTeam(tutorialClass, tutorialTeam);
+        if (teamInClass != null) {
+            memberships.removeTeam(module, tutorialClass, teamInClass);
+        }
+        tutorialClass.deleteTeam(tutorialTeam);
+    }
+
+    /**
+     * Deletes the {@code tutorialClass}, together with its teams, from the {@code module}.
+     */
+    public void deleteTutorialClass(ModuleCode module, TutorialClass tutorialClass) {
+        requireAllNonNull(module, tutorialClass);
+        markChanged();
+        delta.recordModuleChange(module);
+        TutorialClass classInModule = module.findTutorialClass(tutorialClass);
+        if (classInModule != null) {
+            memberships.removeClass(module, classInModule);
+            teammateHistories.removeClass(classInModule);
+        }
+        module.deleteTutorialClass(tutorialClass);
+    }
+
+    /**
+     * Returns the tutorial classes and teams that {@code student} belongs to.
+     */
+    public Set<StudentMembership> getStudentMemberships(Person student) {
+        requireNonNull(student);
+        return memberships.getMemberships(student);
     }
 
     /**
     * Adds a {@code tutorialTeam} into the {@code tutorialClass}
     *
+    * @param module that the {@code tutorialClass} is in.
     * @param tutorialClass to add the {@code tutorialTeam} to.
     * @param tutorialTeam to be added into the {@code tutorialClass}.
     */
-    public void addTeam(TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
+    public void addTeam(ModuleCode module, TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
+        requireNonNull(module);
         requireNonNull(tutorialClass);
         requireNonNull(tutorialTeam);
+        markChanged();
+        delta.recordModuleChange(module);
         tutorialClass.addTeam(tutorialTeam);
     }
 
@@ -326,9 +470,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      * existing person in the address book.
      */
     public void setPerson(Person target, Person editedPerson) {
-        requireNonNull(editedPerson);
+        requireAllNonNull(target, editedPerson);
 
         persons.setPerson(target, editedPerson);
+        markChanged();
+        delta.recordSetPerson(target, editedPerson);
+        for (StudentMembership membership : memberships.getMemberships(target)) {
+            if (membership.getTeam().isPresent()) {
+                membership.getTeam().get().replaceStudent(target, editedPerson);
+            } else {
+                membership.getTutorialClass().replaceStudent(target, editedPerson);
+            }
+        }
+        memberships.replaceStudent(target, editedPerson);
+        teammateHistories.replaceStudentId(target.getStudentId(), editedPerson.getStudentId());
     }
 
     /**
@@ -336,7 +491,39 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        requireNonNull(key);
         persons.remove(key);
+        markChanged();
+        delta.recordRemovePerson(key);
+        for (StudentMembership membership : memberships.removeStudent(key)) {
+            if (membership.getTeam().isPresent()) {
+                membership.getTeam().get().deleteStudent(key);
+            } else {
+                membership.getTutorialClass().deleteStudent(key);
+            }
+        }
+        teammateHistories.removeStudent(key.getStudentId());
+    }
+
+    /**
+     * Replaces the module with the same module code as {@code editedModule} with it, keeping its position in the
+     * module list, or adds {@code editedModule} if there is no such module.
+     */
+    public void setModule(ModuleCode editedModule) {
+        requireNonNull(editedModule);
+        ModuleCode target = modulesByCode.get(editedModule.moduleCode);
+        if (target == null) {
+            addModule(editedModule, editedModule.getDescription());
+            return;
+        }
+        markChanged();
+        delta.recordModuleChange(editedModule);
+        memberships.removeModule(target);
+        teammateHistories.removeModule(target);
+        modules.set(modules.indexOf(target), editedModule);
+        modulesByCode.put(editedModule.moduleCode, editedModule);
+        memberships.addModule(editedModule);
+        teammateHistories.addModule(editedModule);
     }
 
     /**
@@ -344,8 +531,38 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeModule(ModuleCode key) {
+        requireNonNull(key);
+        markChanged();
+        delta.recordModuleRemoval(key);
+        ModuleCode moduleInList = modulesByCode.remove(key.moduleCode);
+        if (moduleInList != null) {
+            memberships.removeModule(moduleInList);
+            teammateHistories.removeModule(moduleInList);
+        }
         modules.remove(key);
     }
+    /**
+     * Returns a number that changes whenever the data of this address book is changed, and only then.
+     * Changes to the UI-only lists, such as the sorted person list, are not counted.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes made to this address book since the last call to this method, and starts recording anew.
+     */
+    public AddressBookDelta takeDelta() {
+        AddressBookDelta taken = delta;
+        delta = new AddressBookDelta();
+        taken.resolveModules(modulesByCode::get);
+        return taken;
+    }
+
+    private void markChanged() {
+        version++;
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * The changes made to an {@code AddressBook} between two calls to {@link AddressBook#takeDelta()}.
+ *
+ * Changes to persons are kept in the order they were made, since later ones may depend on earlier ones. Changes
+ * within a module, such as to its classes, teams or their members, are kept as the final state of the module.
+ * Applying the person changes and then the module changes to the earlier address book gives the later one.
+ */
+public class AddressBookDelta {
+
+    /**
+     * The kinds of change that can be made to a person.
+     */
+    public enum PersonChangeKind { ADD, SET, REMOVE }
+
+    /**
+     * A change to a single person, in the order it was made.
+     */
+    public static class PersonChange {
+        private final PersonChangeKind kind;
+        private final StudentId target;
+        private final Person person;
+
+        /**
+         * Creates a change of {@code kind} to the person with student ID {@code target}, if any, giving
+         * {@code person}, if any.
+         */
+        public PersonChange(PersonChangeKind kind, StudentId target, Person person) {
+            requireNonNull(kind);
+            this.kind = kind;
+            this.target = target;
+            this.person = person;
+        }
+
+        public PersonChangeKind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the student ID of the person that was edited or removed, or null for an added person.
+         */
+        public StudentId getTarget() {
+            return target;
+        }
+
+        /**
+         * Returns the added or edited person, or null for a removed person.
+         */
+        public Person getPerson() {
+            return person;
+        }
+    }
+
+    private final List<PersonChange> personChanges = new ArrayList<>();
+    private final Set<String> changedModuleCodes = new LinkedHashSet<>();
+    private final Set<String> removedModuleCodes = new LinkedHashSet<>();
+    private final List<ModuleCode> changedModules = new ArrayList<>();
+    private boolean isWholeBookReplaced;
+
+    void recordAddPerson(Person person) {
+        personChanges.add(new PersonChange(PersonChangeKind.ADD, null, person));
+    }
+
+    void recordSetPerson(Person target, Person editedPerson) {
+        personChanges.add(new PersonChange(PersonChangeKind.SET, target.getStudentId(), editedPerson));
+    }
+
+    void recordRemovePerson(Person person) {
+        personChanges.add(new PersonChange(PersonChangeKind.REMOVE, person.getStudentId(), null));
+    }
+
+    void recordModuleChange(ModuleCode module) {
+        removedModuleCodes.remove(module.moduleCode);
+        changedModuleCodes.add(module.moduleCode);
+    }
+
+    void recordModuleRemoval(ModuleCode module) {
+        changedModuleCodes.remove(module.moduleCode);
+        removedModuleCodes.add(module.moduleCode);
+    }
+
+    /**
+     * Records that the whole address book was replaced, which cannot be told apart into smaller changes.
+     */
+    void recordWholeBookReplaced() {
+        isWholeBookReplaced = true;
+    }
+
+    /**
+     * Looks up the current state of each changed module through {@code modulesByCode}.
+     */
+    void resolveModules(Function<String, ModuleCode> modulesByCode) {
+        changedModules.clear();
+        for (String moduleCode : changedModuleCodes) {
+            ModuleCode module = modulesByCode.apply(moduleCode);
+            if (module != null) {
+                changedModules.add(module);
+            }
+        }
+    }
+
+    /**
+     * Adds the changes in {@code later}, which were made after the changes in this delta, so that this delta holds
+     * the changes made between the start of this delta and the end of {@code later}.
+     */
+    public void append(AddressBookDelta later) {
+        requireNonNull(later);
+        personChanges.addAll(later.personChanges);
+        changedModuleCodes.removeAll(later.removedModuleCodes);
+        removedModuleCodes.addAll(later.removedModuleCodes);
+        removedModuleCodes.removeAll(later.changedModuleCodes);
+        changedModuleCodes.addAll(later.changedModuleCodes);
+        changedModules.removeIf(module -> !changedModuleCodes.contains(module.moduleCode)
+                || later.changedModuleCodes.contains(module.moduleCode));
+        changedModules.addAll(later.changedModules);
+        isWholeBookReplaced |= later.isWholeBookReplaced;
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return !isWholeBookReplaced && personChanges.isEmpty() && changedModuleCodes.isEmpty()
+                && removedModuleCodes.isEmpty();
+    }
+
+    /**
+     * Returns true if the whole address book was replaced, in which case the other changes are incomplete.
+     */
+    public boolean isWholeBookReplaced() {
+        return isWholeBookReplaced;
+    }
+
+    public List<PersonChange> getPersonChanges() {
+        return Collections.unmodifiableList(personChanges);
+    }
+
+    /**
+     * Returns the modules that were added or changed, in their current state.
+     */
+    public List<ModuleCode> getChangedModules() {
+        return Collections.unmodifiableList(changedModules);
+    }
+
+    /**
+     * Returns the codes of the modules that were added or changed, which does not need any of them to be looked up.
+     */
+    public Set<String> getChangedModuleCodes() {
+        return Collections.unmodifiableSet(changedModuleCodes);
+    }
+
+    public Set<String> getRemovedModuleCodes() {
+        return Collections.unmodifiableSet(removedModuleCodes);
+    }
+}
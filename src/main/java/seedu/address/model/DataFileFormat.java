@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book data file can be saved in.
+ */
+public enum DataFileFormat {
+    /** A JSON file, which can be read and edited by hand. */
+    JSON,
+    /** A binary snapshot, which is smaller and faster to load but cannot be edited by hand. */
+    BINARY
+}
@@ -2,12 +2,16 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.StudentMembership;
 import seedu.address.model.module.TutorialClass;
 import seedu.address.model.module.TutorialTeam;
 import seedu.address.model.person.Email;
@@ -62,6 +66,17 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the address book data is changed, and only then.
+     * Two equal results mean that the data has not changed in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the changes made to the address book since the last call to this method.
+     */
+    AddressBookDelta takeAddressBookDelta();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -105,10 +120,11 @@ public interface Model {
 
     /**
      * adds a team into the tutorial class
+     * @param module that the tutorialClass is in.
      * @param tutorialClass to add the tutorialTeam to.
      * @param tutorialTeam to be added into the tutorialClass.
      */
-    public void addTeam(TutorialClass tutorialClass, TutorialTeam tutorialTeam);
+    public void addTeam(ModuleCode module, TutorialClass tutorialClass, TutorialTeam tutorialTeam);
 
     /**
      * Deletes the given module.
@@ -122,25 +138,58 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons in one change.
+     * None of {@code persons} may already exist in the address book, or share an identity with another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Adds the given module.
      * {@code ModuleCode} must not already exist in the address book.
      */
     void addModule(ModuleCode module);
 
+    /**
+     * Adds the given empty tutorial class to {@code module}.
+     * {@code module} must exist in the address book and must not already have {@code tutorialClass}.
+     */
+    void addTutorialClass(ModuleCode module, TutorialClass tutorialClass);
+
     /**
      * Allocates the {@code student} to the {@code tutorialTeam}
      * @param student to be allocated
+     * @param module that the {@code tutorialClass} is in.
+     * @param tutorialClass that the {@code tutorialTeam} is in.
      * @param tutorialTeam to allocate the student into.
      */
-    void allocateStudentToTeam(Person student, TutorialTeam tutorialTeam);
+    void allocateStudentToTeam(Person student, ModuleCode module, TutorialClass tutorialClass,
+            TutorialTeam tutorialTeam);
 
     /**
      * Deletes the {@code student} from the {@code tutorialTeam}
      * @param student to be deleted
+     * @param module that the {@code tutorialClass} is in.
+     * @param tutorialClass that the {@code tutorialTeam} is in.
      * @param tutorialTeam to delete the student from.
      */
-    void deleteStudentFromTeam(Person student, TutorialTeam tutorialTeam);
+    void deleteStudentFromTeam(Person student, ModuleCode module, TutorialClass tutorialClass,
+            TutorialTeam tutorialTeam);
+
+    /**
+     * Deletes the {@code tutorialTeam} from the {@code tutorialClass} of {@code module}.
+     */
+    void deleteTeam(ModuleCode module, TutorialClass tutorialClass, TutorialTeam tutorialTeam);
+
+    /**
+     * Deletes the {@code tutorialClass}, together with its teams, from the {@code module}.
+     */
+    void deleteTutorialClass(ModuleCode module, TutorialClass tutorialClass);
+
+    /**
+     * Returns the tutorial classes and teams that {@code student} belongs to.
+     */
+    Set<StudentMembership> getStudentMemberships(Person student);
 
     /**
     * Randomly allocates the students in {@code tutorial class} into {@code numOfTeams} of different teams.
@@ -148,8 +197,18 @@ public interface Model {
     * @param moduleCode
     * @param tutorialClass
     * @param numOfTeams
+    * @param random the source of randomness, so that a run can be repeated by seeding it the same way.
     */
-    void randomTeamAllocation(ModuleCode moduleCode, TutorialClass tutorialClass, int numOfTeams);
+    void randomTeamAllocation(ModuleCode moduleCode, TutorialClass tutorialClass, int numOfTeams, Random random);
+
+    /**
+     * Replaces the teams of {@code tutorialClass} with one team for each list of students in {@code teams}.
+     *
+     * @param moduleCode that the {@code tutorialClass} is in.
+     * @param tutorialClass whose students are in {@code teams}.
+     * @param teams the students of each new team.
+     */
+    void allocateTeams(ModuleCode moduleCode, TutorialClass tutorialClass, List<List<Person>> teams);
 
     /**
      * Adds the given person to the given tutorial class in the given module.
@@ -6,6 +6,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,6 +16,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.StudentMembership;
 import seedu.address.model.module.TutorialClass;
 import seedu.address.model.module.TutorialTeam;
 import seedu.address.model.person.Email;
@@ -101,6 +104,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public AddressBookDelta takeAddressBookDelta() {
+        return addressBook.takeDelta();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -156,20 +169,47 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     /**
      * Allocates the {@code student} to the {@code tutorialTeam}
      * @param tutorialTeam to allocate the {@code student} into.
      */
     @Override
-    public void allocateStudentToTeam(Person student, TutorialTeam tutorialTeam) {
-        requireAllNonNull(student, tutorialTeam);
-        addressBook.allocateStudentToTeam(student, tutorialTeam);
+    public void allocateStudentToTeam(Person student, ModuleCode module, TutorialClass tutorialClass,
+            TutorialTeam tutorialTeam) {
+        requireAllNonNull(student, module, tutorialClass, tutorialTeam);
+        addressBook.allocateStudentToTeam(student, module, tutorialClass, tutorialTeam);
+    }
+
+    @Override
+    public void deleteStudentFromTeam(Person student, ModuleCode module, TutorialClass tutorialClass,
+            TutorialTeam tutorialTeam) {
+        requireAllNonNull(student, module, tutorialClass, tutorialTeam);
+        addressBook.deleteStudentFromTeam(student, module, tutorialClass, tutorialTeam);
     }
 
     @Override
-    public void deleteStudentFromTeam(Person student, TutorialTeam tutorialTeam) {
-        requireAllNonNull(student, tutorialTeam);
-        addressBook.deleteStudentFromTeam(student, tutorialTeam);
+    public void deleteTeam(ModuleCode module, TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
+        requireAllNonNull(module, tutorialClass, tutorialTeam);
+        addressBook.deleteTeam(module, tutorialClass, tutorialTeam);
+    }
+
+    @Override
+    public void deleteTutorialClass(ModuleCode module, TutorialClass tutorialClass) {
+        requireAllNonNull(module, tutorialClass);
+        addressBook.deleteTutorialClass(module, tutorialClass);
+    }
+
+    @Override
+    public Set<StudentMembership> getStudentMemberships(Person student) {
+        requireNonNull(student);
+        return addressBook.getStudentMemberships(student);
     }
 
     /**
@@ -178,10 +218,18 @@ public class ModelManager implements Model {
      * @param moduleCode that the {@code tutorialClass} is in.
      * @param tutorialClass to allocate the different students into the teams to.
      * @param numOfTeams to be randomly generated.
+     * @param random the source of randomness.
      */
-    public void randomTeamAllocation(ModuleCode moduleCode, TutorialClass tutorialClass, int numOfTeams) {
-        requireAllNonNull(moduleCode, tutorialClass, numOfTeams);
-        addressBook.randomTeamAllocation(moduleCode, tutorialClass, numOfTeams);
+    public void randomTeamAllocation(ModuleCode moduleCode, TutorialClass tutorialClass, int numOfTeams,
+            Random random) {
+        requireAllNonNull(moduleCode, tutorialClass, numOfTeams, random);
+        addressBook.randomTeamAllocation(moduleCode, tutorialClass, numOfTeams, random);
+    }
+
+    @Override
+    public void allocateTeams(ModuleCode moduleCode, TutorialClass tutorialClass, List<List<Person>> teams) {
+        requireAllNonNull(moduleCode, tutorialClass, teams);
+        addressBook.allocateTeams(moduleCode, tutorialClass, teams);
     }
 
     /**
@@ -189,9 +237,9 @@ public class ModelManager implements Model {
      * @param tutorialTeam to be added to the {@code tutorialClass}.
      */
     @Override
-    public void addTeam(TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
+    public void addTeam(ModuleCode module, TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
         requireNonNull(tutorialTeam);
-        addressBook.addTeam(tutorialClass, tutorialTeam);
+        addressBook.addTeam(module, tutorialClass, tutorialTeam);
     }
 
     @Override
@@ -200,6 +248,12 @@ public class ModelManager implements Model {
             module.getDescription());
     }
 
+    @Override
+    public void addTutorialClass(ModuleCode module, TutorialClass tutorialClass) {
+        requireAllNonNull(module, tutorialClass);
+        addressBook.addTutorialClass(module, tutorialClass);
+    }
+
     @Override
     public void addPersonToTutorialClass(Person person, ModuleCode module, TutorialClass tutorialClass) {
         addressBook.addPersonToTutorialClass(person, module, tutorialClass);
@@ -13,4 +13,20 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book data file should be written indented for reading by hand,
+     * instead of compactly.
+     */
+    boolean isDataFilePrettyPrinted();
+
+    /**
+     * Returns the format the address book data file should be saved in.
+     */
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Returns true if the address book data file should be saved gzip-compressed.
+     */
+    boolean isDataFileCompressed();
+
 }
@@ -15,6 +15,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "tahelper.json");
+    private boolean dataFilePrettyPrinted = false;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private boolean dataFileCompressed = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setDataFilePrettyPrinted(newUserPrefs.isDataFilePrettyPrinted());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setDataFileCompressed(newUserPrefs.isDataFileCompressed());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isDataFilePrettyPrinted() {
+        return dataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean dataFilePrettyPrinted) {
+        this.dataFilePrettyPrinted = dataFilePrettyPrinted;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public boolean isDataFileCompressed() {
+        return dataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean dataFileCompressed) {
+        this.dataFileCompressed = dataFileCompressed;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +100,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && dataFilePrettyPrinted == otherUserPrefs.dataFilePrettyPrinted
+                && dataFileFormat == otherUserPrefs.dataFileFormat
+                && dataFileCompressed == otherUserPrefs.dataFileCompressed;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, dataFilePrettyPrinted, dataFileFormat,
+                dataFileCompressed);
     }
 
     @Override
@@ -82,6 +117,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nPretty-print data file : " + dataFilePrettyPrinted);
+        sb.append("\nData file format : " + dataFileFormat);
+        sb.append("\nCompress data file : " + dataFileCompressed);
         return sb.toString();
     }
 
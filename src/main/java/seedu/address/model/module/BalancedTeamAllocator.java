@@ -0,0 +1,416 @@
+package seedu.address.model.module;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Splits students into teams whose sizes differ by at most one, spreading the students of each balanced tag evenly
+ * across the teams, keeping the students of each keep-apart group in different teams and those of each
+ * keep-together group in one team.
+ *
+ * Every tag and group is a set of students with a weight, and an allocation costs the weight of each set for every
+ * pair of its students that share a team. A tag weighs 1, so a tag costs least when it is spread evenly. A
+ * keep-apart group weighs more than all tags together, and a keep-together group weighs as much again but
+ * negatively, so no spread of tags is ever bought by breaking a constraint.
+ *
+ * Given a {@link TeammateHistory}, an allocation also costs, for every pair of students in the same team, the
+ * number of times they have been teammates before. A repeat pairing weighs more than all tags together, so teams
+ * are first made of students who have not worked together, and a constraint weighs more than all repeat pairings.
+ *
+ * A local search starts from a random allocation and swaps students between teams while a swap lowers the cost.
+ * The change in cost of a swap only depends on how many students of each set of the two students are in their two
+ * teams, and on how often each of the two has been teammates with the students of the two teams, so it is worked
+ * out from those counts instead of from the whole allocation. Several searches from different starts run in
+ * parallel on the common fork-join pool, and the cheapest allocation is kept.
+ */
+public class BalancedTeamAllocator {
+
+    /** Number of searches {@link #allocate(Random)} runs. */
+    public static final int DEFAULT_RESTARTS = 16;
+
+    private static final long TAG_WEIGHT = 1;
+
+    private final List<Person> students;
+    private final int numOfTeams;
+    /** For each student, the sets that they are in, in increasing order. */
+    private final int[][] setsOfStudent;
+    private final long[] setWeights;
+    private final int keepApartStart;
+    private final int keepTogetherStart;
+    /** The times each pair of students has been teammates, row by row, or null if no pair has. */
+    private final int[] timesTogether;
+    private final long repeatWeight;
+
+    /**
+     * Creates an allocator of {@code students} into {@code numOfTeams} teams.
+     * Every student in {@code keepApart} and {@code keepTogether} must be one of {@code students}.
+     *
+     * @param balancedTags tags whose students are spread evenly across the teams.
+     * @param keepApart groups of students who should each be in a different team.
+     * @param keepTogether groups of students who should be in the same team.
+     */
+    public BalancedTeamAllocator(List<Person> students, int numOfTeams, Collection<Tag> balancedTags,
+            List<List<Person>> keepApart, List<List<Person>> keepTogether) {
+        this(students, numOfTeams, balancedTags, keepApart, keepTogether, new TeammateHistory());
+    }
+
+    /**
+     * Creates an allocator of {@code students} into {@code numOfTeams} teams that also keeps apart students who have
+     * been teammates before.
+     * Every student in {@code keepApart} and {@code keepTogether} must be one of {@code students}.
+     *
+     * @param balancedTags tags whose students are spread evenly across the teams.
+     * @param keepApart groups of students who should each be in a different team.
+     * @param keepTogether groups of students who should be in the same team.
+     * @param history how often each pair of students has been teammates before.
+     */
+    public BalancedTeamAllocator(List<Person> students, int numOfTeams, Collection<Tag> balancedTags,
+            List<List<Person>> keepApart, List<List<Person>> keepTogether, TeammateHistory history) {
+        requireAllNonNull(students, balancedTags, keepApart, keepTogether, history);
+        if (numOfTeams <= 0 || numOfTeams > students.size()) {
+            throw new IllegalArgumentException("Cannot split " + students.size() + " students into "
+                    + numOfTeams + " teams.");
+        }
+        this.students = new ArrayList<>(students);
+        this.numOfTeams = numOfTeams;
+
+        Map<Person, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < students.size(); i++) {
+            indices.put(students.get(i), i);
+        }
+
+        List<int[]> sets = new ArrayList<>();
+        for (Tag tag : balancedTags) {
+            sets.add(IntStream.range(0, students.size())
+                    .filter(i -> students.get(i).getTags().contains(tag))
+                    .toArray());
+        }
+        keepApartStart = sets.size();
+        keepApart.forEach(group -> sets.add(indicesOf(group, indices)));
+        keepTogetherStart = sets.size();
+        keepTogether.forEach(group -> sets.add(indicesOf(group, indices)));
+
+        // a repeat pairing must outweigh every pair of students that share a tag
+        long tagPairs = 0;
+        for (int i = 0; i < keepApartStart; i++) {
+            tagPairs += pairs(sets.get(i).length) * TAG_WEIGHT;
+        }
+        repeatWeight = tagPairs + 1;
+
+        // the matrix of times together is only made once a pair of the students turns out to have been teammates
+        int studentCount = students.size();
+        int[] times = null;
+        long repeats = 0;
+        if (!history.isEmpty()) {
+            int[] ordinals = history.ordinalsOf(students);
+            for (int i = 0; i < studentCount; i++) {
+                for (int j = 0; j < i; j++) {
+                    int count = ordinals[i] >= 0 && ordinals[j] >= 0
+                            ? history.getTimesTogether(ordinals[i], ordinals[j])
+                            : 0;
+                    if (count == 0) {
+                        continue;
+                    }
+                    if (times == null) {
+                        times = new int[studentCount * studentCount];
+                    }
+                    times[i * studentCount + j] = count;
+                    times[j * studentCount + i] = count;
+                    repeats += count;
+                }
+            }
+        }
+        timesTogether = times;
+
+        // and a constraint must outweigh every repeat pairing as well
+        long constraintWeight = repeatWeight + repeatWeight * repeats;
+        setWeights = new long[sets.size()];
+        for (int i = 0; i < sets.size(); i++) {
+            setWeights[i] = i < keepApartStart ? TAG_WEIGHT : i < keepTogetherStart ? constraintWeight
+                    : -constraintWeight;
+        }
+
+        int[] setCounts = new int[students.size()];
+        sets.forEach(set -> Arrays.stream(set).forEach(i -> setCounts[i]++));
+        setsOfStudent = new int[students.size()][];
+        for (int i = 0; i < students.size(); i++) {
+            setsOfStudent[i] = new int[setCounts[i]];
+            setCounts[i] = 0;
+        }
+        for (int s = 0; s < sets.size(); s++) {
+            for (int i : sets.get(s)) {
+                setsOfStudent[i][setCounts[i]++] = s;
+            }
+        }
+    }
+
+    private static int[] indicesOf(List<Person> group, Map<Person, Integer> indices) {
+        return group.stream()
+                .mapToInt(student -> {
+                    Integer index = indices.get(student);
+                    if (index == null) {
+                        throw new IllegalArgumentException(student.getName() + " is not one of the students.");
+                    }
+                    return index;
+                })
+                .distinct()
+                .toArray();
+    }
+
+    private static long pairs(long count) {
+        return count * (count - 1) / 2;
+    }
+
+    /**
+     * Returns the best allocation found by {@link #DEFAULT_RESTARTS} searches.
+     *
+     * @param random the source of the starting allocations, so that seeding it the same way repeats the result.
+     */
+    public Allocation allocate(Random random) {
+        return allocate(random, DEFAULT_RESTARTS);
+    }
+
+    /**
+     * Returns the best allocation found by {@code restarts} searches, which run in parallel.
+     * Of allocations that cost the same, the one from the earliest search is returned, so the result does not
+     * depend on which search finishes first.
+     *
+     * @param random the source of the starting allocations, so that seeding it the same way repeats the result.
+     */
+    public Allocation allocate(Random random, int restarts) {
+        long[] seeds = random.longs(restarts).toArray();
+        int[] bestTeamOf = IntStream.range(0, restarts)
+                .parallel()
+                .mapToObj(restart -> new Search(seeds[restart], restart).run())
+                .min(Comparator.comparingLong((Search search) -> search.cost)
+                        .thenComparingInt(search -> search.restart))
+                .get()
+                .teamOf;
+        return new Allocation(bestTeamOf);
+    }
+
+    /**
+     * One local search from a random starting allocation.
+     */
+    private class Search {
+        private final Random random;
+        private final int restart;
+        /** The team of each student. */
+        private final int[] teamOf = new int[students.size()];
+        /** The number of students of each set in each team. */
+        private final int[][] counts = new int[setWeights.length][numOfTeams];
+        /** For each student, the times they have been teammates with the students of each team, row by row. */
+        private int[] repeatsWithTeam;
+        private long cost;
+
+        private Search(long seed, int restart) {
+            this.random = new Random(seed);
+            this.restart = restart;
+        }
+
+        /**
+         * Swaps students until no swap lowers the cost, and returns this search.
+         */
+        private Search run() {
+            int[] order = shuffledStudents();
+            for (int i = 0; i < order.length; i++) {
+                teamOf[order[i]] = i % numOfTeams;
+            }
+            for (int student = 0; student < teamOf.length; student++) {
+                for (int set : setsOfStudent[student]) {
+                    counts[set][teamOf[student]]++;
+                }
+            }
+            if (timesTogether != null) {
+                repeatsWithTeam = new int[teamOf.length * numOfTeams];
+                for (int student = 0; student < teamOf.length; student++) {
+                    for (int other = 0; other < teamOf.length; other++) {
+                        repeatsWithTeam[student * numOfTeams + teamOf[other]] +=
+                                timesTogether[student * teamOf.length + other];
+                    }
+                }
+            }
+
+            boolean isImproved = true;
+            while (isImproved) {
+                isImproved = false;
+                order = shuffledStudents();
+                for (int i = 0; i < order.length; i++) {
+                    for (int j = i + 1; j < order.length; j++) {
+                        int a = order[i];
+                        int b = order[j];
+                        if (teamOf[a] != teamOf[b] && swapCost(a, b) < 0) {
+                            swap(a, b);
+                            isImproved = true;
+                        }
+                    }
+                }
+            }
+
+            cost = 0;
+            for (int set = 0; set < setWeights.length; set++) {
+                for (int count : counts[set]) {
+                    cost += setWeights[set] * pairs(count);
+                }
+            }
+            if (timesTogether != null) {
+                long repeats = 0;
+                for (int student = 0; student < teamOf.length; student++) {
+                    repeats += repeatsWithTeam[student * numOfTeams + teamOf[student]];
+                }
+                // every pair is counted once for each of its students
+                cost += repeatWeight * repeats / 2;
+            }
+            return this;
+        }
+
+        private int[] shuffledStudents() {
+            int[] order = IntStream.range(0, teamOf.length).toArray();
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swapped = order[i];
+                order[i] = order[j];
+                order[j] = swapped;
+            }
+            return order;
+        }
+
+        /**
+         * Returns the change in cost of swapping the teams of students {@code a} and {@code b}.
+         * A set with both students in it keeps its counts, so only the sets of one of them count.
+         */
+        private long swapCost(int a, int b) {
+            int teamOfA = teamOf[a];
+            int teamOfB = teamOf[b];
+            long change = 0;
+            for (int set : setsOfStudent[a]) {
+                if (Arrays.binarySearch(setsOfStudent[b], set) < 0) {
+                    // a leaves pairs with the others of the set in its team, and joins those in b's team
+                    change += setWeights[set] * (counts[set][teamOfB] - (counts[set][teamOfA] - 1));
+                }
+            }
+            for (int set : setsOfStudent[b]) {
+                if (Arrays.binarySearch(setsOfStudent[a], set) < 0) {
+                    change += setWeights[set] * (counts[set][teamOfA] - (counts[set][teamOfB] - 1));
+                }
+            }
+            if (timesTogether != null) {
+                // a and b are each other's teammates in neither team, before or after the swap
+                int timesAb = timesTogether[a * teamOf.length + b];
+                long repeats = repeatsWithTeam[a * numOfTeams + teamOfB] - timesAb
+                        - repeatsWithTeam[a * numOfTeams + teamOfA]
+                        + repeatsWithTeam[b * numOfTeams + teamOfA] - timesAb
+                        - repeatsWithTeam[b * numOfTeams + teamOfB];
+                change += repeatWeight * repeats;
+            }
+            return change;
+        }
+
+        private void swap(int a, int b) {
+            int teamOfA = teamOf[a];
+            int teamOfB = teamOf[b];
+            for (int set : setsOfStudent[a]) {
+                counts[set][teamOfA]--;
+                counts[set][teamOfB]++;
+            }
+            for (int set : setsOfStudent[b]) {
+                counts[set][teamOfB]--;
+                counts[set][teamOfA]++;
+            }
+            teamOf[a] = teamOfB;
+            teamOf[b] = teamOfA;
+            if (timesTogether != null) {
+                int studentCount = teamOf.length;
+                for (int student = 0; student < studentCount; student++) {
+                    int moved = timesTogether[student * studentCount + a] - timesTogether[student * studentCount + b];
+                    repeatsWithTeam[student * numOfTeams + teamOfA] -= moved;
+                    repeatsWithTeam[student * numOfTeams + teamOfB] += moved;
+                }
+            }
+        }
+    }
+
+    /**
+     * The teams found for the students, and how many constraints they break.
+     */
+    public class Allocation {
+        private final List<List<Person>> teams = new ArrayList<>();
+        private int keepApartPairsBroken;
+        private int keepTogetherGroupsBroken;
+        private int repeatPairings;
+
+        private Allocation(int[] teamOf) {
+            for (int team = 0; team < numOfTeams; team++) {
+                teams.add(new ArrayList<>());
+            }
+            for (int student = 0; student < teamOf.length; student++) {
+                teams.get(teamOf[student]).add(students.get(student));
+            }
+
+            int[][] counts = new int[setWeights.length][numOfTeams];
+            for (int student = 0; student < teamOf.length; student++) {
+                for (int set : setsOfStudent[student]) {
+                    counts[set][teamOf[student]]++;
+                }
+            }
+            for (int set = keepApartStart; set < setWeights.length; set++) {
+                boolean isKeepApart = set < keepTogetherStart;
+                long teamsWithStudents = Arrays.stream(counts[set]).filter(count -> count > 0).count();
+                if (isKeepApart) {
+                    keepApartPairsBroken += Arrays.stream(counts[set]).mapToLong(BalancedTeamAllocator::pairs).sum();
+                } else if (teamsWithStudents > 1) {
+                    keepTogetherGroupsBroken++;
+                }
+            }
+            if (timesTogether != null) {
+                for (int student = 0; student < teamOf.length; student++) {
+                    for (int other = 0; other < student; other++) {
+                        if (teamOf[student] == teamOf[other]) {
+                            repeatPairings += timesTogether[student * teamOf.length + other];
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the students of each team, in the order they were given to the allocator.
+         */
+        public List<List<Person>> getTeams() {
+            return teams;
+        }
+
+        /**
+         * Returns the number of pairs of students to keep apart that share a team.
+         */
+        public int getKeepApartPairsBroken() {
+            return keepApartPairsBroken;
+        }
+
+        /**
+         * Returns the number of groups to keep together that are split across teams.
+         */
+        public int getKeepTogetherGroupsBroken() {
+            return keepTogetherGroupsBroken;
+        }
+
+        /**
+         * Returns the number of times the pairs of students in the same team have been teammates before.
+         */
+        public int getRepeatPairings() {
+            return repeatPairings;
+        }
+    }
+}
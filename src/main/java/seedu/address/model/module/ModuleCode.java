@@ -4,7 +4,12 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Module's module code.
@@ -20,9 +25,15 @@ public class ModuleCode {
      * Supports format like "CS1101S", "CS2106" and "ACC1701X".
      */
     public static final String VALIDATION_REGEX = "^[A-Z]{2,3}\\d{4}[A-Z]?$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String moduleCode;
-    private final List<TutorialClass> tutorialClasses;
+    // keyed by tutorial name, in the order the tutorial classes were added
+    private final Map<String, TutorialClass> tutorialClasses = new LinkedHashMap<>();
+    // builds the tutorial classes of a module that was loaded without them, or null once they are built
+    private Supplier<List<TutorialClass>> unbuiltTutorialClasses;
+    // told of the tutorial classes once they are built, or null if nothing is waiting for them
+    private Consumer<List<TutorialClass>> tutorialClassesBuiltListener;
     private String description;
 
     /**
@@ -34,7 +45,6 @@ public class ModuleCode {
         requireAllNonNull(moduleCode);
         checkArgument(isValidModuleCode(moduleCode), MESSAGE_CONSTRAINTS);
         this.moduleCode = moduleCode;
-        this.tutorialClasses = new ArrayList<>();
     }
 
     /**
@@ -47,8 +57,7 @@ public class ModuleCode {
         requireAllNonNull(moduleCode);
         checkArgument(isValidModuleCode(moduleCode), MESSAGE_CONSTRAINTS);
         this.moduleCode = moduleCode;
-        this.tutorialClasses = new ArrayList<>();
-        tutorialClasses.add(new TutorialClass(tutorialClass));
+        addTutorialClass(new TutorialClass(tutorialClass));
     }
     /**
      * Constructs a ModuleCode object with the specified module code, list of tutorial classes, and description.
@@ -64,7 +73,7 @@ public class ModuleCode {
         checkArgument(isValidModuleCode(moduleCode), MESSAGE_CONSTRAINTS);
         this.moduleCode = moduleCode;
         this.description = description != null ? description : "";
-        this.tutorialClasses = new ArrayList<>(tutorialClass);
+        tutorialClass.forEach(this::addTutorialClass);
     }
 
     /**
@@ -78,23 +87,113 @@ public class ModuleCode {
         requireAllNonNull(moduleCode);
         checkArgument(isValidModuleCode(moduleCode), MESSAGE_CONSTRAINTS);
         this.moduleCode = moduleCode;
-        this.tutorialClasses = tutorialClasses;
+        tutorialClasses.forEach(this::addTutorialClass);
+    }
+
+    private ModuleCode(String moduleCode, String description, Supplier<List<TutorialClass>> tutorialClasses,
+            boolean isTrusted) {
+        requireAllNonNull(moduleCode, tutorialClasses);
+        if (!isTrusted) {
+            checkArgument(isValidModuleCode(moduleCode), MESSAGE_CONSTRAINTS);
+        }
+        this.moduleCode = moduleCode;
+        this.description = description;
+        this.unbuiltTutorialClasses = tutorialClasses;
+    }
+
+    private ModuleCode(ModuleCode toBeCopied) {
+        this.moduleCode = toBeCopied.moduleCode;
+        this.description = toBeCopied.description;
+        if (toBeCopied.unbuiltTutorialClasses != null) {
+            // the builder gives new tutorial classes on every call, so the copy can build its own
+            this.unbuiltTutorialClasses = toBeCopied.unbuiltTutorialClasses;
+            return;
+        }
+        toBeCopied.tutorialClasses.values().forEach(tutorialClass -> addTutorialClass(tutorialClass.copy()));
+    }
+
+    /**
+     * Returns a module whose tutorial classes, along with their students and teams, are only built by
+     * {@code tutorialClasses} when they are first used. The module code and description are available at once.
+     * {@code tutorialClasses} must give new tutorial classes on every call, and must not fail.
+     */
+    public static ModuleCode withUnbuiltTutorialClasses(String moduleCode, String description,
+            Supplier<List<TutorialClass>> tutorialClasses) {
+        return withUnbuiltTutorialClasses(moduleCode, description, tutorialClasses, false);
+    }
+
+    /**
+     * Returns a module like {@link #withUnbuiltTutorialClasses(String, String, Supplier)}, checking its module code
+     * unless {@code isTrusted}, as for a module read back from a data file nobody has changed since it was saved.
+     */
+    public static ModuleCode withUnbuiltTutorialClasses(String moduleCode, String description,
+            Supplier<List<TutorialClass>> tutorialClasses, boolean isTrusted) {
+        return new ModuleCode(moduleCode, description, tutorialClasses, isTrusted);
+    }
+
+    /**
+     * Returns true if the tutorial classes of this module have been built, or were never left to be built later.
+     */
+    public boolean hasBuiltTutorialClasses() {
+        return unbuiltTutorialClasses == null;
+    }
+
+    /**
+     * Tells {@code listener} of the tutorial classes of this module once they are built, in place of any listener
+     * set before. A null {@code listener} tells no one. Nothing is told if the tutorial classes are built already.
+     */
+    void setTutorialClassesBuiltListener(Consumer<List<TutorialClass>> listener) {
+        tutorialClassesBuiltListener = hasBuiltTutorialClasses() ? null : listener;
+    }
+
+    private Map<String, TutorialClass> tutorialClasses() {
+        if (unbuiltTutorialClasses != null) {
+            Supplier<List<TutorialClass>> builder = unbuiltTutorialClasses;
+            unbuiltTutorialClasses = null;
+            builder.get().forEach(tutorialClass -> tutorialClasses.putIfAbsent(tutorialClass.tutorialName,
+                    tutorialClass));
+            if (tutorialClassesBuiltListener != null) {
+                Consumer<List<TutorialClass>> listener = tutorialClassesBuiltListener;
+                tutorialClassesBuiltListener = null;
+                listener.accept(new ArrayList<>(tutorialClasses.values()));
+            }
+        }
+        return tutorialClasses;
+    }
+
+    /**
+     * Returns a copy of this module with copies of its tutorial classes and their teams.
+     * Later changes to either module are not reflected in the other.
+     */
+    public ModuleCode copy() {
+        return new ModuleCode(this);
     }
 
     /**
      * Returns true if a given string is a valid module code.
      */
     public static boolean isValidModuleCode(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
-     * Returns the ArrayList of tutorial classes under this module.
+     * Returns the tutorial classes under this module, in the order they were added.
+     * Changes to the returned list are not reflected in the module.
      *
      * @return the ArrayList of tutorial classes.
      */
     public ArrayList<TutorialClass> getTutorialClasses() {
-        return (ArrayList<TutorialClass>) tutorialClasses;
+        return new ArrayList<>(tutorialClasses().values());
+    }
+
+    /**
+     * Returns the tutorial class under this module with the same name as {@code tutorialClass}, if it exists.
+     *
+     * @param tutorialClass to be searched.
+     * @return the tutorial class object in this module, else returns null.
+     */
+    public TutorialClass findTutorialClass(TutorialClass tutorialClass) {
+        return tutorialClasses().get(tutorialClass.tutorialName);
     }
 
     /**
@@ -137,7 +236,7 @@ public class ModuleCode {
      * @return true if the class name is in the list. False otherwise.
      */
     public boolean hasTutorialClass(TutorialClass tutorialClass) {
-        return tutorialClasses.contains(tutorialClass);
+        return tutorialClasses().containsKey(tutorialClass.tutorialName);
     }
 
 
@@ -147,11 +246,11 @@ public class ModuleCode {
      * @return String of tutorial classes under this module.
      */
     public String listTutorialClasses() {
-        if (tutorialClasses.size() == 0) {
+        if (tutorialClasses().size() == 0) {
             return String.format("Tutorials in %s: None!", moduleCode);
         } else {
             StringBuilder tutorialsString = new StringBuilder(String.format("Tutorials in %s:", moduleCode));
-            for (TutorialClass tutorialClass : tutorialClasses) {
+            for (TutorialClass tutorialClass : tutorialClasses().values()) {
                 tutorialsString.append(" ");
                 tutorialsString.append(tutorialClass.toString());
             }
@@ -161,11 +260,12 @@ public class ModuleCode {
 
     /**
      * Adds an empty tutorial with the given name into the module.
+     * A tutorial class with the same name as an existing one is ignored.
      *
      * @param tutorialClass name of tutorial class to be added.
      */
     public void addTutorialClass(TutorialClass tutorialClass) {
-        tutorialClasses.add(tutorialClass);
+        tutorialClasses().putIfAbsent(tutorialClass.tutorialName, tutorialClass);
     }
 
     /**
@@ -177,7 +277,7 @@ public class ModuleCode {
      * @return true if tutorial class was successfully deleted
      */
     public boolean deleteTutorialClass(TutorialClass tutorialClass) {
-        return tutorialClasses.remove(tutorialClass);
+        return tutorialClasses().remove(tutorialClass.tutorialName) != null;
     }
 
     public String getDescription() {
@@ -45,14 +45,19 @@ public class ModuleTutorialPair {
         return "(" + module + ", " + tutorialClass + ")";
     }
 
+    /**
+     * Resolves {@code module} and {@code tutorialClass} to the instances stored in the {@code model}.
+     *
+     * @throws CommandException if the module does not exist, or the tutorial class is not in the module.
+     */
     public static ModuleTutorialPair getModuleAndTutorialClass(Model model, ModuleCode module,
                                                            TutorialClass tutorialClass) throws CommandException {
         requireNonNull(model);
         ModuleCode existingModule = model.findModuleFromList(module);
-        TutorialClass existingTutorialClass = model.findTutorialClassFromList(tutorialClass, existingModule);
         if (existingModule == null) {
             throw new CommandException(String.format(ModuleMessages.MESSAGE_MODULE_NOT_FOUND, module));
         }
+        TutorialClass existingTutorialClass = existingModule.findTutorialClass(tutorialClass);
         if (existingTutorialClass == null) {
             throw new CommandException(
                     String.format(ModuleMessages.MESSAGE_TUTORIAL_DOES_NOT_BELONG_TO_MODULE, tutorialClass, module));
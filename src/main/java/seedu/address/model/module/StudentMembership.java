@@ -0,0 +1,82 @@
+package seedu.address.model.module;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents a student's membership of a tutorial class within a module, and optionally of a team in that class.
+ * Guarantees: immutable.
+ */
+public class StudentMembership {
+    private final ModuleCode module;
+    private final TutorialClass tutorialClass;
+    private final TutorialTeam team;
+
+    /**
+     * Creates a membership of {@code tutorialClass} in {@code module} that is not tied to any team.
+     */
+    public StudentMembership(ModuleCode module, TutorialClass tutorialClass) {
+        requireAllNonNull(module, tutorialClass);
+        this.module = module;
+        this.tutorialClass = tutorialClass;
+        this.team = null;
+    }
+
+    /**
+     * Creates a membership of {@code team} in {@code tutorialClass} of {@code module}.
+     */
+    public StudentMembership(ModuleCode module, TutorialClass tutorialClass, TutorialTeam team) {
+        requireAllNonNull(module, tutorialClass, team);
+        this.module = module;
+        this.tutorialClass = tutorialClass;
+        this.team = team;
+    }
+
+    public ModuleCode getModule() {
+        return module;
+    }
+
+    public TutorialClass getTutorialClass() {
+        return tutorialClass;
+    }
+
+    public Optional<TutorialTeam> getTeam() {
+        return Optional.ofNullable(team);
+    }
+
+    /**
+     * Returns true if this membership is held through {@code tutorialClass} of {@code module}.
+     */
+    public boolean isIn(ModuleCode module, TutorialClass tutorialClass) {
+        return this.module.equals(module) && this.tutorialClass.equals(tutorialClass);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + module + ", " + tutorialClass + (team == null ? "" : ", " + team) + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentMembership)) {
+            return false;
+        }
+
+        StudentMembership otherMembership = (StudentMembership) other;
+        return module.equals(otherMembership.module)
+                && tutorialClass.equals(otherMembership.tutorialClass)
+                && Objects.equals(team, otherMembership.team);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(module, tutorialClass, team);
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A reverse index from a student's {@code StudentId} to the tutorial classes and teams the student belongs to.
+ * It lets deletes, edits and membership queries touch only the classes and teams that actually hold the student,
+ * instead of walking every module.
+ *
+ * The index does not own the modules; whoever mutates a class or team membership must update it alongside.
+ *
+ * Modules whose tutorial classes have not been built yet are only indexed once a student's memberships are asked
+ * for, so that modules nobody touches are never built. Until then, changes to such a module may be recorded
+ * piecemeal; indexing the whole module later adds whatever is missing.
+ */
+public class StudentMembershipIndex {
+
+    private final Map<StudentId, Set<StudentMembership>> membershipsByStudentId = new HashMap<>();
+    private final List<ModuleCode> unindexedModules = new ArrayList<>();
+
+    /**
+     * Clears the index and indexes every student in every class and team of {@code modules}.
+     */
+    public void rebuild(List<ModuleCode> modules) {
+        requireNonNull(modules);
+        membershipsByStudentId.clear();
+        unindexedModules.clear();
+        modules.forEach(this::addModule);
+    }
+
+    /**
+     * Indexes every student in every class and team of {@code module}.
+     */
+    public void addModule(ModuleCode module) {
+        requireNonNull(module);
+        if (!module.hasBuiltTutorialClasses()) {
+            unindexedModules.add(module);
+            return;
+        }
+        indexModule(module);
+    }
+
+    private void indexModule(ModuleCode module) {
+        for (TutorialClass tutorialClass : module.getTutorialClasses()) {
+            for (Person student : tutorialClass.getStudents()) {
+                addClassMembership(student, module, tutorialClass);
+            }
+            for (TutorialTeam team : tutorialClass.getTeams()) {
+                for (Person student : team.getStudents()) {
+                    addTeamMembership(student, module, tutorialClass, team);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every membership held through {@code module}.
+     */
+    public void removeModule(ModuleCode module) {
+        requireNonNull(module);
+        if (unindexedModules.removeIf(unindexed -> unindexed == module) && !module.hasBuiltTutorialClasses()) {
+            return;
+        }
+        for (TutorialClass tutorialClass : module.getTutorialClasses()) {
+            removeClass(module, tutorialClass);
+        }
+    }
+
+    /**
+     * Drops every membership held through {@code tutorialClass} of {@code module}, including its teams.
+     */
+    public void removeClass(ModuleCode module, TutorialClass tutorialClass) {
+        requireAllNonNull(module, tutorialClass);
+        for (Person student : tutorialClass.getStudents()) {
+            removeClassMembership(student, module, tutorialClass);
+        }
+        for (TutorialTeam team : tutorialClass.getTeams()) {
+            for (Person student : team.getStudents()) {
+                removeClassMembership(student, module, tutorialClass);
+            }
+        }
+    }
+
+    /**
+     * Drops every membership held through {@code team} of {@code tutorialClass} in {@code module}.
+     */
+    public void removeTeam(ModuleCode module, TutorialClass tutorialClass, TutorialTeam team) {
+        requireAllNonNull(module, tutorialClass, team);
+        for (Person student : team.getStudents()) {
+            removeTeamMembership(student, module, tutorialClass, team);
+        }
+    }
+
+    /**
+     * Records that {@code student} is in {@code tutorialClass} of {@code module}.
+     */
+    public void addClassMembership(Person student, ModuleCode module, TutorialClass tutorialClass) {
+        add(student, new StudentMembership(module, tutorialClass));
+    }
+
+    /**
+     * Records that {@code student} is in {@code team} of {@code tutorialClass} in {@code module}.
+     */
+    public void addTeamMembership(Person student, ModuleCode module, TutorialClass tutorialClass,
+            TutorialTeam team) {
+        add(student, new StudentMembership(module, tutorialClass, team));
+    }
+
+    /**
+     * Removes the memberships {@code student} holds through {@code tutorialClass} of {@code module},
+     * including those of the teams in that class.
+     */
+    public void removeClassMembership(Person student, ModuleCode module, TutorialClass tutorialClass) {
+        requireAllNonNull(student, module, tutorialClass);
+        Set<StudentMembership> memberships = membershipsByStudentId.get(student.getStudentId());
+        if (memberships == null) {
+            return;
+        }
+        memberships.removeIf(membership -> membership.isIn(module, tutorialClass));
+        removeIfEmpty(student.getStudentId(), memberships);
+    }
+
+    /**
+     * Removes the membership {@code student} holds through {@code team} of {@code tutorialClass} in {@code module}.
+     */
+    public void removeTeamMembership(Person student, ModuleCode module, TutorialClass tutorialClass,
+            TutorialTeam team) {
+        requireNonNull(student);
+        Set<StudentMembership> memberships = membershipsByStudentId.get(student.getStudentId());
+        if (memberships == null) {
+            return;
+        }
+        memberships.remove(new StudentMembership(module, tutorialClass, team));
+        removeIfEmpty(student.getStudentId(), memberships);
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     *
+     * @return the memberships the student held, in the order they were recorded.
+     */
+    public Set<StudentMembership> removeStudent(Person student) {
+        requireNonNull(student);
+        indexUnindexedModules();
+        Set<StudentMembership> memberships = membershipsByStudentId.remove(student.getStudentId());
+        return memberships == null ? Collections.emptySet() : memberships;
+    }
+
+    /**
+     * Moves the memberships of {@code target} over to {@code editedStudent}, whose student ID may differ.
+     */
+    public void replaceStudent(Person target, Person editedStudent) {
+        requireAllNonNull(target, editedStudent);
+        indexUnindexedModules();
+        Set<StudentMembership> memberships = membershipsByStudentId.remove(target.getStudentId());
+        if (memberships != null) {
+            membershipsByStudentId.put(editedStudent.getStudentId(), memberships);
+        }
+    }
+
+    /**
+     * Returns the memberships {@code student} holds, in the order they were recorded.
+     * The returned set is unmodifiable.
+     */
+    public Set<StudentMembership> getMemberships(Person student) {
+        requireNonNull(student);
+        indexUnindexedModules();
+        Set<StudentMembership> memberships = membershipsByStudentId.get(student.getStudentId());
+        return memberships == null ? Collections.emptySet() : Collections.unmodifiableSet(memberships);
+    }
+
+    private void indexUnindexedModules() {
+        if (unindexedModules.isEmpty()) {
+            return;
+        }
+        List<ModuleCode> modules = new ArrayList<>(unindexedModules);
+        unindexedModules.clear();
+        modules.forEach(this::indexModule);
+    }
+
+    private void add(Person student, StudentMembership membership) {
+        requireNonNull(student);
+        membershipsByStudentId.computeIfAbsent(student.getStudentId(), unused -> new LinkedHashSet<>())
+                .add(membership);
+    }
+
+    private void removeIfEmpty(StudentId studentId, Set<StudentMembership> memberships) {
+        if (memberships.isEmpty()) {
+            membershipsByStudentId.remove(studentId);
+        }
+    }
+}
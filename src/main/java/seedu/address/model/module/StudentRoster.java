@@ -0,0 +1,88 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * An insertion-ordered set of students keyed by {@code StudentId}, used to hold the members of a tutorial class or
+ * tutorial team. Membership checks, additions and removals take constant time.
+ *
+ * Persons in the address book are unique by both student ID and email, so keying by student ID alone is enough to
+ * tell whether a person is already in the roster.
+ */
+class StudentRoster {
+
+    private final Map<StudentId, Person> students = new LinkedHashMap<>();
+
+    /**
+     * Adds {@code student} to the end of the roster.
+     *
+     * @return true if no student with the same student ID was in the roster.
+     */
+    boolean add(Person student) {
+        requireNonNull(student);
+        return students.putIfAbsent(student.getStudentId(), student) == null;
+    }
+
+    /**
+     * Removes the student with the same student ID as {@code student}.
+     *
+     * @return the removed student, or null if there was none.
+     */
+    Person remove(Person student) {
+        requireNonNull(student);
+        return students.remove(student.getStudentId());
+    }
+
+    boolean contains(Person student) {
+        requireNonNull(student);
+        return students.containsKey(student.getStudentId());
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudent}, keeping its position in the roster.
+     *
+     * @return true if {@code target} was in the roster.
+     */
+    boolean replace(Person target, Person editedStudent) {
+        requireNonNull(editedStudent);
+        if (!contains(target)) {
+            return false;
+        }
+        if (target.getStudentId().equals(editedStudent.getStudentId())) {
+            students.put(target.getStudentId(), editedStudent);
+            return true;
+        }
+
+        // the key changes, so the entries are re-inserted to keep the order
+        Map<StudentId, Person> reordered = new LinkedHashMap<>();
+        students.forEach((studentId, student) -> {
+            if (studentId.equals(target.getStudentId())) {
+                reordered.put(editedStudent.getStudentId(), editedStudent);
+            } else {
+                reordered.put(studentId, student);
+            }
+        });
+        students.clear();
+        students.putAll(reordered);
+        return true;
+    }
+
+    int size() {
+        return students.size();
+    }
+
+    /**
+     * Returns the students in the order they were added.
+     * Changes to the returned list are not reflected in the roster.
+     */
+    ArrayList<Person> asList() {
+        return new ArrayList<>(students.values());
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Counts how many times each pair of students of a tutorial class have been in the same team.
+ *
+ * Students are numbered in the order they are first recorded, and the counts are kept in a single int array that
+ * holds the lower triangle of the matrix of counts, row by row. A new student adds a row at the end without moving
+ * the rows before it, so a class of n students takes n(n-1)/2 ints however its students arrived.
+ */
+public class TeammateHistory {
+
+    private final List<StudentId> studentIds = new ArrayList<>();
+    private final Map<StudentId, Integer> ordinals = new HashMap<>();
+    private int[] counts = new int[0];
+
+    /**
+     * Creates a history with no students.
+     */
+    public TeammateHistory() {}
+
+    /**
+     * Creates a history of {@code studentIds}, numbered in that order, in which the students numbered
+     * {@code pairCounts[3i]} and {@code pairCounts[3i + 1]} have been in the same team {@code pairCounts[3i + 2]}
+     * times. Pairs that are not given have never been in the same team.
+     *
+     * @throws IllegalArgumentException if a student ID is repeated, or a pair or count is out of range.
+     */
+    public TeammateHistory(List<StudentId> studentIds, int[] pairCounts) {
+        requireNonNull(studentIds);
+        requireNonNull(pairCounts);
+        studentIds.forEach(this::ordinalOf);
+        if (this.studentIds.size() != studentIds.size()) {
+            throw new IllegalArgumentException("A student is in the teammate history more than once.");
+        }
+        if (pairCounts.length % 3 != 0) {
+            throw new IllegalArgumentException("Teammate history pairs must each have two students and a count.");
+        }
+        for (int i = 0; i < pairCounts.length; i += 3) {
+            int ordinal = pairCounts[i];
+            int otherOrdinal = pairCounts[i + 1];
+            boolean isInRange = ordinal >= 0 && otherOrdinal >= 0 && ordinal < studentIds.size()
+                    && otherOrdinal < studentIds.size() && ordinal != otherOrdinal && pairCounts[i + 2] >= 0;
+            if (!isInRange) {
+                throw new IllegalArgumentException("Teammate history pair " + (i / 3) + " is out of range.");
+            }
+            counts[index(ordinal, otherOrdinal)] = pairCounts[i + 2];
+        }
+    }
+
+    /**
+     * Returns a copy of this history. Later changes to either are not reflected in the other.
+     */
+    public TeammateHistory copy() {
+        TeammateHistory copy = new TeammateHistory();
+        studentIds.forEach(copy::ordinalOf);
+        copy.counts = counts.clone();
+        return copy;
+    }
+
+    /**
+     * Returns true if no pair of students has been recorded in the same team.
+     */
+    public boolean isEmpty() {
+        return Arrays.stream(counts).allMatch(count -> count == 0);
+    }
+
+    /**
+     * Records that the students of each of {@code teams} have been in a team together once more.
+     */
+    public void recordTeams(Collection<? extends Collection<Person>> teams) {
+        requireNonNull(teams);
+        for (Collection<Person> team : teams) {
+            int[] teamOrdinals = team.stream().mapToInt(student -> ordinalOf(student.getStudentId())).toArray();
+            for (int i = 0; i < teamOrdinals.length; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (teamOrdinals[i] != teamOrdinals[j]) {
+                        counts[index(teamOrdinals[i], teamOrdinals[j])]++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gives the student with {@code studentId} the new student ID {@code editedStudentId}, keeping their history.
+     */
+    public void replaceStudentId(StudentId studentId, StudentId editedStudentId) {
+        requireNonNull(studentId);
+        requireNonNull(editedStudentId);
+        if (!ordinals.containsKey(studentId) || studentId.equals(editedStudentId)) {
+            return;
+        }
+
+        // any history under the new student ID is of a student who has since been deleted
+        removeStudent(editedStudentId);
+        int ordinal = ordinals.remove(studentId);
+        ordinals.put(editedStudentId, ordinal);
+        studentIds.set(ordinal, editedStudentId);
+    }
+
+    /**
+     * Forgets the student with {@code studentId} and every pair they are in.
+     * The last student numbered takes the place of the student forgotten, so that the history does not grow with
+     * students who are gone.
+     */
+    public void removeStudent(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer ordinal = ordinals.remove(studentId);
+        if (ordinal == null) {
+            return;
+        }
+
+        int last = studentIds.size() - 1;
+        if (ordinal != last) {
+            for (int other = 0; other < last; other++) {
+                if (other != ordinal) {
+                    counts[index(ordinal, other)] = counts[index(last, other)];
+                }
+            }
+            StudentId lastStudentId = studentIds.get(last);
+            studentIds.set(ordinal, lastStudentId);
+            ordinals.put(lastStudentId, ordinal);
+        }
+        studentIds.remove(last);
+        // the row of the last student is cleared, so that the next student numbered starts with no history
+        Arrays.fill(counts, index(last, 0), index(last + 1, 0), 0);
+    }
+
+    /**
+     * Returns the number given to each of {@code students} in this history, or -1 for a student who is not in it.
+     */
+    public int[] ordinalsOf(List<Person> students) {
+        requireNonNull(students);
+        return students.stream()
+                .mapToInt(student -> ordinals.getOrDefault(student.getStudentId(), -1))
+                .toArray();
+    }
+
+    /**
+     * Returns the number of times the students numbered {@code ordinal} and {@code otherOrdinal} have been in the
+     * same team.
+     */
+    public int getTimesTogether(int ordinal, int otherOrdinal) {
+        return ordinal == otherOrdinal ? 0 : counts[index(ordinal, otherOrdinal)];
+    }
+
+    /**
+     * Returns the number of times {@code student} and {@code otherStudent} have been in the same team.
+     */
+    public int getTimesTogether(Person student, Person otherStudent) {
+        Integer ordinal = ordinals.get(student.getStudentId());
+        Integer otherOrdinal = ordinals.get(otherStudent.getStudentId());
+        return ordinal == null || otherOrdinal == null ? 0 : getTimesTogether(ordinal, otherOrdinal);
+    }
+
+    /**
+     * Returns the student IDs of this history in the order they are numbered.
+     */
+    public List<StudentId> getStudentIds() {
+        return new ArrayList<>(studentIds);
+    }
+
+    /**
+     * Returns every pair of students who have been in the same team, as the numbers of the two students followed by
+     * the number of times, in the layout taken by {@link #TeammateHistory(List, int[])}.
+     */
+    public int[] getPairCounts() {
+        int[] pairCounts = new int[3 * (int) Arrays.stream(counts).filter(count -> count > 0).count()];
+        int next = 0;
+        for (int ordinal = 1; ordinal < studentIds.size(); ordinal++) {
+            for (int otherOrdinal = 0; otherOrdinal < ordinal; otherOrdinal++) {
+                int count = counts[index(ordinal, otherOrdinal)];
+                if (count > 0) {
+                    pairCounts[next++] = ordinal;
+                    pairCounts[next++] = otherOrdinal;
+                    pairCounts[next++] = count;
+                }
+            }
+        }
+        return pairCounts;
+    }
+
+    /**
+     * Returns the number of {@code studentId}, numbering it next if it is new.
+     */
+    private int ordinalOf(StudentId studentId) {
+        Integer ordinal = ordinals.get(studentId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        ordinal = studentIds.size();
+        ordinals.put(studentId, ordinal);
+        studentIds.add(studentId);
+        int size = index(ordinal + 1, 0);
+        if (size > counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(size, 2 * counts.length));
+        }
+        return ordinal;
+    }
+
+    /**
+     * Returns the position in {@link #counts} of the pair of two different students.
+     */
+    private static int index(int ordinal, int otherOrdinal) {
+        int row = Math.max(ordinal, otherOrdinal);
+        return row * (row - 1) / 2 + Math.min(ordinal, otherOrdinal);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TeammateHistory)) {
+            return false;
+        }
+
+        TeammateHistory otherHistory = (TeammateHistory) other;
+        return studentIds.equals(otherHistory.studentIds)
+                && Arrays.equals(getPairCounts(), otherHistory.getPairCounts());
+    }
+
+    @Override
+    public int hashCode() {
+        return studentIds.hashCode() * 31 + Arrays.hashCode(getPairCounts());
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.model.module;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A reverse index from a student's {@code StudentId} to the teammate histories of the tutorial classes that hold the
+ * student. It lets an edit of a student ID, or the delete of a student, touch only the histories the student is in,
+ * instead of walking every tutorial class of every module.
+ *
+ * The index does not own the modules; whoever records teammates or adds and removes classes must update it
+ * alongside.
+ *
+ * Modules whose tutorial classes have not been built yet are left unbuilt. The changes of student IDs made in the
+ * meantime are kept, and made to the histories of such a module once its tutorial classes are built.
+ */
+public class TeammateHistoryIndex {
+
+    private final Map<StudentId, Set<TeammateHistory>> historiesByStudentId = new HashMap<>();
+    // the changes to make to the histories of each unbuilt module once its tutorial classes are built
+    private final Map<ModuleCode, List<Consumer<TeammateHistory>>> pendingChanges = new IdentityHashMap<>();
+
+    /**
+     * Clears the index and indexes the teammate history of every class of {@code modules}.
+     */
+    public void rebuild(List<ModuleCode> modules) {
+        requireNonNull(modules);
+        pendingChanges.keySet().forEach(module -> module.setTutorialClassesBuiltListener(null));
+        pendingChanges.clear();
+        historiesByStudentId.clear();
+        modules.forEach(this::addModule);
+    }
+
+    /**
+     * Indexes the teammate history of every class of {@code module}, once its tutorial classes are built.
+     */
+    public void addModule(ModuleCode module) {
+        requireNonNull(module);
+        if (!module.hasBuiltTutorialClasses()) {
+            pendingChanges.put(module, new ArrayList<>());
+            module.setTutorialClassesBuiltListener(tutorialClasses -> indexBuiltModule(module, tutorialClasses));
+            return;
+        }
+        module.getTutorialClasses().forEach(this::addClass);
+    }
+
+    private void indexBuiltModule(ModuleCode module, List<TutorialClass> tutorialClasses) {
+        List<Consumer<TeammateHistory>> changes = pendingChanges.remove(module);
+        if (changes == null) {
+            return;
+        }
+        for (TutorialClass tutorialClass : tutorialClasses) {
+            changes.forEach(change -> change.accept(tutorialClass.getTeammateHistory()));
+            addClass(tutorialClass);
+        }
+    }
+
+    /**
+     * Drops the teammate history of every class of {@code module}.
+     */
+    public void removeModule(ModuleCode module) {
+        requireNonNull(module);
+        if (pendingChanges.remove(module) != null) {
+            module.setTutorialClassesBuiltListener(null);
+            return;
+        }
+        module.getTutorialClasses().forEach(this::removeClass);
+    }
+
+    /**
+     * Indexes the teammate history of {@code tutorialClass}.
+     */
+    public void addClass(TutorialClass tutorialClass) {
+        requireNonNull(tutorialClass);
+        TeammateHistory history = tutorialClass.getTeammateHistory();
+        history.getStudentIds().forEach(studentId -> add(studentId, history));
+    }
+
+    /**
+     * Drops the teammate history of {@code tutorialClass}.
+     */
+    public void removeClass(TutorialClass tutorialClass) {
+        requireNonNull(tutorialClass);
+        TeammateHistory history = tutorialClass.getTeammateHistory();
+        for (StudentId studentId : history.getStudentIds()) {
+            Set<TeammateHistory> histories = historiesByStudentId.get(studentId);
+            if (histories != null) {
+                histories.remove(history);
+                removeIfEmpty(studentId, histories);
+            }
+        }
+    }
+
+    /**
+     * Records the current teams of {@code tutorialClass} in its teammate history, and indexes their students.
+     */
+    public void recordTeammates(TutorialClass tutorialClass) {
+        requireNonNull(tutorialClass);
+        tutorialClass.recordTeammates();
+        TeammateHistory history = tutorialClass.getTeammateHistory();
+        for (TutorialTeam team : tutorialClass.getTeams()) {
+            for (Person student : team.getStudents()) {
+                add(student.getStudentId(), history);
+            }
+        }
+    }
+
+    /**
+     * Gives the student with {@code studentId} the new student ID {@code editedStudentId} in every teammate history,
+     * keeping their history.
+     */
+    public void replaceStudentId(StudentId studentId, StudentId editedStudentId) {
+        requireAllNonNull(studentId, editedStudentId);
+        if (studentId.equals(editedStudentId)) {
+            return;
+        }
+        addPendingChange(history -> history.replaceStudentId(studentId, editedStudentId));
+        Set<TeammateHistory> histories = historiesByStudentId.remove(studentId);
+        if (histories == null) {
+            return;
+        }
+        for (TeammateHistory history : histories) {
+            history.replaceStudentId(studentId, editedStudentId);
+            add(editedStudentId, history);
+        }
+    }
+
+    /**
+     * Forgets the student with {@code studentId} in every teammate history.
+     */
+    public void removeStudent(StudentId studentId) {
+        requireNonNull(studentId);
+        addPendingChange(history -> history.removeStudent(studentId));
+        Set<TeammateHistory> histories = historiesByStudentId.remove(studentId);
+        if (histories != null) {
+            histories.forEach(history -> history.removeStudent(studentId));
+        }
+    }
+
+    private void addPendingChange(Consumer<TeammateHistory> change) {
+        pendingChanges.values().forEach(changes -> changes.add(change));
+    }
+
+    private void add(StudentId studentId, TeammateHistory history) {
+        // histories that are equal in value are still different histories
+        historiesByStudentId.computeIfAbsent(studentId, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(history);
+    }
+
+    private void removeIfEmpty(StudentId studentId, Set<TeammateHistory> histories) {
+        if (histories.isEmpty()) {
+            historiesByStudentId.remove(studentId);
+        }
+    }
+}
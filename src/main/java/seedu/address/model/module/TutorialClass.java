@@ -5,11 +5,14 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * Represents a Module's tutorial class code.
@@ -28,11 +31,18 @@ public class TutorialClass {
      * Supports format like "L07", "T01" and "T015".
      */
     public static final String VALIDATION_REGEX = "^[A-Z]\\d{2}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String tutorialName;
     private final int classSize;
-    private final ArrayList<Person> students;
-    private final ArrayList<TutorialTeam> teams;
+    private final StudentRoster students = new StudentRoster();
+    private final ArrayList<TutorialTeam> teams = new ArrayList<>();
+    // the teams above, keyed by their normalized team name
+    private final Map<String, TutorialTeam> teamsByName = new HashMap<>();
+    // the teams of this class that each student is in, so that team checks do not scan every team
+    private final Map<StudentId, List<TutorialTeam>> teamsByStudentId = new HashMap<>();
+    // how often each pair of students has been in the same team before the current teams
+    private final TeammateHistory teammateHistory;
 
     /**
      * Constructs a {@code TutorialClass} with default values.
@@ -41,9 +51,8 @@ public class TutorialClass {
      */
     public TutorialClass() {
         this.tutorialName = "";
-        this.students = new ArrayList<>();
-        this.teams = new ArrayList<>();
         this.classSize = Integer.MAX_VALUE;
+        this.teammateHistory = new TeammateHistory();
     }
 
     /**
@@ -55,9 +64,8 @@ public class TutorialClass {
         requireAllNonNull(tutorialClass, classSize);
         checkArgument(isValidTutorialClass(tutorialClass), MESSAGE_CONSTRAINTS);
         this.tutorialName = tutorialClass;
-        this.students = new ArrayList<>();
-        this.teams = new ArrayList<>();
         this.classSize = classSize;
+        this.teammateHistory = new TeammateHistory();
     }
 
     /**
@@ -69,9 +77,8 @@ public class TutorialClass {
         requireAllNonNull(tutorialClass);
         checkArgument(isValidTutorialClass(tutorialClass), MESSAGE_CONSTRAINTS);
         this.tutorialName = tutorialClass;
-        this.students = new ArrayList<>();
-        this.teams = new ArrayList<>();
         this.classSize = Integer.MAX_VALUE;
+        this.teammateHistory = new TeammateHistory();
     }
 
     /**
@@ -83,9 +90,9 @@ public class TutorialClass {
         requireAllNonNull(tutorialClass);
         checkArgument(isValidTutorialClass(tutorialClass), MESSAGE_CONSTRAINTS);
         this.tutorialName = tutorialClass;
-        this.students = students;
-        this.teams = new ArrayList<>();
+        students.forEach(this.students::add);
         this.classSize = Integer.MAX_VALUE;
+        this.teammateHistory = new TeammateHistory();
     }
 
     /**
@@ -96,12 +103,54 @@ public class TutorialClass {
      */
     public TutorialClass(String tutorialClass, int classSize, ArrayList<Person> students,
             ArrayList<TutorialTeam> teams) {
-        requireAllNonNull(tutorialClass);
-        checkArgument(isValidTutorialClass(tutorialClass), MESSAGE_CONSTRAINTS);
+        this(tutorialClass, classSize, students, teams, new TeammateHistory());
+    }
+
+    /**
+     * A constructor for TutorialClass. Creates a tutorial class with students, teams and the history of its
+     * earlier teams.
+     * @param tutorialClass   to be created.
+     * @param students        in the tutorial class
+     * @param teams           in the tutorial class
+     * @param teammateHistory of the teams the tutorial class had before {@code teams}
+     */
+    public TutorialClass(String tutorialClass, int classSize, ArrayList<Person> students,
+            ArrayList<TutorialTeam> teams, TeammateHistory teammateHistory) {
+        this(tutorialClass, classSize, students, teams, teammateHistory, false);
+    }
+
+    /**
+     * A constructor for TutorialClass. Creates a tutorial class with students, teams and the history of its
+     * earlier teams, checking its name unless {@code isTrusted}, as for a class read back from a data file nobody
+     * has changed since it was saved.
+     */
+    public TutorialClass(String tutorialClass, int classSize, ArrayList<Person> students,
+            ArrayList<TutorialTeam> teams, TeammateHistory teammateHistory, boolean isTrusted) {
+        requireAllNonNull(tutorialClass, teammateHistory);
+        if (!isTrusted) {
+            checkArgument(isValidTutorialClass(tutorialClass), MESSAGE_CONSTRAINTS);
+        }
         this.tutorialName = tutorialClass;
-        this.students = students;
-        this.teams = teams;
+        students.forEach(this.students::add);
+        teams.forEach(this::addTeam);
         this.classSize = classSize;
+        this.teammateHistory = teammateHistory;
+    }
+
+    private TutorialClass(TutorialClass toBeCopied) {
+        this.tutorialName = toBeCopied.tutorialName;
+        this.classSize = toBeCopied.classSize;
+        toBeCopied.getStudents().forEach(this.students::add);
+        toBeCopied.teams.forEach(team -> addTeam(team.copy()));
+        this.teammateHistory = toBeCopied.teammateHistory.copy();
+    }
+
+    /**
+     * Returns a copy of this tutorial class with copies of its teams.
+     * Later changes to either class or to their teams are not reflected in the other.
+     */
+    public TutorialClass copy() {
+        return new TutorialClass(this);
     }
 
     /**
@@ -109,7 +158,7 @@ public class TutorialClass {
      * @param students
      */
     public void setStudents(ArrayList<Person> students) {
-        this.students.addAll(students);
+        students.forEach(this::addStudent);
     }
 
     /**
@@ -124,7 +173,7 @@ public class TutorialClass {
      * Returns true if a given string is a valid tutorial class code.
      */
     public static boolean isValidTutorialClass(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -136,15 +185,17 @@ public class TutorialClass {
     }
 
     /**
-     * Retrieves the list of students in the tutorial class.
+     * Retrieves the list of students in the tutorial class, in the order they were added.
+     * Changes to the returned list are not reflected in the tutorial class.
      * @return The list of students in the tutorial class.
      */
     public ArrayList<Person> getStudents() {
-        return this.students;
+        return students.asList();
     }
 
     /**
      * Adds a student to the tutorial class.
+     * A student with the same student ID as an existing member is ignored.
      * @param student
      */
     public void addStudent(Person student) {
@@ -160,7 +211,7 @@ public class TutorialClass {
      */
     public boolean deleteStudent(Person student) {
         deleteStudentFromTeams(student);
-        return students.remove(student);
+        return students.remove(student) != null;
     }
 
     /**
@@ -169,12 +220,25 @@ public class TutorialClass {
      * @param student to be deleted
      */
     public void deleteStudentFromTeams(Person student) {
-        ArrayList<TutorialTeam> list = getTeams();
-        for (TutorialTeam team : list) {
+        List<TutorialTeam> studentTeams = teamsByStudentId.get(student.getStudentId());
+        if (studentTeams == null) {
+            return;
+        }
+        for (TutorialTeam team : new ArrayList<>(studentTeams)) {
             team.deleteStudent(student);
         }
     }
 
+    /**
+     * Replaces {@code target} with {@code editedStudent} in the tutorial class, if {@code target} is in it.
+     * Does not touch the teams of the tutorial class.
+     *
+     * @return true if {@code target} was replaced
+     */
+    public boolean replaceStudent(Person target, Person editedStudent) {
+        return students.replace(target, editedStudent);
+    }
+
     /**
      * Checks if the student is in the tutorial class.
      * @param student
@@ -186,18 +250,48 @@ public class TutorialClass {
 
     /**
      * Retrieves the list of teams in the tutorial class.
+     * Changes to the returned list are not reflected in the tutorial class.
      * @return The list of teams in the tutorial class.
      */
     public ArrayList<TutorialTeam> getTeams() {
-        return this.teams;
+        return new ArrayList<>(teams);
     }
 
     /**
      * Adds a team to the tutorial class.
+     * A team with the same name as an existing team is ignored.
      * @param team
      */
     public void addTeam(TutorialTeam team) {
+        if (teamsByName.putIfAbsent(team.teamName.getKey(), team) != null) {
+            return;
+        }
         teams.add(team);
+        team.setTutorialClass(this);
+        for (Person student : team.getStudents()) {
+            recordTeamMembership(student, team);
+        }
+    }
+
+    /**
+     * Records that {@code student} has been added to {@code team} of this tutorial class.
+     */
+    void recordTeamMembership(Person student, TutorialTeam team) {
+        teamsByStudentId.computeIfAbsent(student.getStudentId(), unused -> new ArrayList<>(1)).add(team);
+    }
+
+    /**
+     * Records that {@code student} has been removed from {@code team} of this tutorial class.
+     */
+    void eraseTeamMembership(Person student, TutorialTeam team) {
+        List<TutorialTeam> studentTeams = teamsByStudentId.get(student.getStudentId());
+        if (studentTeams == null) {
+            return;
+        }
+        studentTeams.removeIf(studentTeam -> studentTeam == team);
+        if (studentTeams.isEmpty()) {
+            teamsByStudentId.remove(student.getStudentId());
+        }
     }
 
     /**
@@ -207,8 +301,7 @@ public class TutorialClass {
      * @return a boolean indicating if the student is in that {@code tutorialClass}.
      */
     public boolean isStudentInTutorialClass(Person student, TutorialClass tutorialClass) {
-        List<Person> students = tutorialClass.getStudents();
-        return students.stream().anyMatch(student::isSamePerson);
+        return tutorialClass.hasStudent(student);
     }
 
     /**
@@ -216,12 +309,27 @@ public class TutorialClass {
      * @param team
      */
     public boolean hasTeam(TutorialTeam team) {
-        for (TutorialTeam tutorialTeam : this.teams) {
-            if (tutorialTeam.getTeamName().equals(team.getTeamName())) {
-                return true;
-            }
-        };
-        return false;
+        return teamsByName.containsKey(team.teamName.getKey());
+    }
+
+    /**
+     * Returns the team of this tutorial class named {@code teamName}, ignoring case and extra spaces.
+     * @return the team, or null if there is no such team.
+     */
+    public TutorialTeam findTeam(TutorialTeamName teamName) {
+        requireNonNull(teamName);
+        return teamsByName.get(teamName.getKey());
+    }
+
+    /**
+     * Returns the team at {@code zeroBasedIndex} in the order the teams were added.
+     * @return the team, or null if the index is out of range.
+     */
+    public TutorialTeam findTeamByIndex(int zeroBasedIndex) {
+        if (zeroBasedIndex < 0 || zeroBasedIndex >= teams.size()) {
+            return null;
+        }
+        return teams.get(zeroBasedIndex);
     }
 
     /**
@@ -232,9 +340,7 @@ public class TutorialClass {
     public boolean hasTeamInTutorial(TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
         requireNonNull(tutorialClass);
         requireNonNull(tutorialTeam);
-        ArrayList<TutorialTeam> listOfTeams = tutorialClass.getTeams();
-        ObservableList<TutorialTeam> teams = FXCollections.observableList(listOfTeams);
-        return teams.stream().anyMatch(tutorialClass::hasTeam);
+        return tutorialClass.hasTeam(tutorialTeam);
     }
 
     /**
@@ -246,11 +352,7 @@ public class TutorialClass {
     public TutorialTeam getTutorialTeam(TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
         requireNonNull(tutorialClass);
         requireNonNull(tutorialTeam);
-        TutorialTeam tutTeam = tutorialClass.getTeams().stream()
-                .filter(team -> team.getTeamName().equals(tutorialTeam.getTeamName()))
-                .findFirst()
-                .orElse(null);
-        return tutTeam;
+        return tutorialClass.findTeam(tutorialTeam.teamName);
     }
 
     /**
@@ -259,16 +361,19 @@ public class TutorialClass {
      * @param student to search for.
      */
     public boolean isStudentInAnyTeam(Person student, TutorialClass tutorialClass) {
-        boolean isStudentExist = false;
-        for (TutorialTeam tutorialTeam : tutorialClass.getTeams()) {
-            isStudentExist = tutorialTeam.hasStudentVerified(student, tutorialTeam);
-            if (isStudentExist) {
-                break;
-            }
-        }
-        return isStudentExist;
+        return tutorialClass.teamsByStudentId.containsKey(student.getStudentId());
     };
 
+    /**
+     * Returns the team of this tutorial class that the student with {@code studentId} is in, or null if they are in
+     * none. A student in more than one team is found in the one they joined first.
+     */
+    public TutorialTeam findTeamOfStudent(StudentId studentId) {
+        requireNonNull(studentId);
+        List<TutorialTeam> studentTeams = teamsByStudentId.get(studentId);
+        return studentTeams == null ? null : studentTeams.get(0);
+    }
+
     /**
      * Retrieves the size of the tutorial class.
      * @return The size of the tutorial class.
@@ -282,7 +387,53 @@ public class TutorialClass {
      * @param team to delete.
      */
     public void deleteTeam(TutorialTeam team) {
-        teams.remove(team);
+        TutorialTeam removed = teamsByName.remove(team.teamName.getKey());
+        if (removed == null) {
+            return;
+        }
+        teams.remove(removed);
+        detachTeam(removed);
+    }
+
+    /**
+     * Returns how often each pair of students of the tutorial class has been in the same team before.
+     * Changes to the returned history are reflected in the tutorial class.
+     */
+    public TeammateHistory getTeammateHistory() {
+        return teammateHistory;
+    }
+
+    /**
+     * Returns a copy of the teammate history with the current teams recorded as well, which is the history the
+     * next allocation of teams should avoid repeating.
+     */
+    public TeammateHistory getTeammateHistoryWithCurrentTeams() {
+        TeammateHistory history = teammateHistory.copy();
+        history.recordTeams(teams.stream().map(TutorialTeam::getStudents).collect(Collectors.toList()));
+        return history;
+    }
+
+    /**
+     * Records the current teams of the tutorial class in its teammate history, before they are replaced.
+     */
+    public void recordTeammates() {
+        teammateHistory.recordTeams(teams.stream().map(TutorialTeam::getStudents).collect(Collectors.toList()));
+    }
+
+    /**
+     * Deletes every team from the tutorial class.
+     */
+    public void clearTeams() {
+        teams.forEach(this::detachTeam);
+        teams.clear();
+        teamsByName.clear();
+    }
+
+    private void detachTeam(TutorialTeam team) {
+        for (Person student : team.getStudents()) {
+            eraseTeamMembership(student, team);
+        }
+        team.setTutorialClass(null);
     }
 
     @Override
@@ -5,7 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
-import java.util.Objects;
+import java.util.regex.Pattern;
 
 import seedu.address.model.person.Person;
 
@@ -25,10 +25,13 @@ public class TutorialTeam {
     public static final String MESSAGE_NUMBER_CONSTRAINTS = "Please enter a valid integer for team size";
 
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final TutorialTeamName teamName;
     public final int teamSize;
-    private final ArrayList<Person> students;
+    private final StudentRoster students = new StudentRoster();
+    // the tutorial class this team has been added to, kept informed of the team's members
+    private TutorialClass tutorialClass;
 
     /**
      * Constructs a {@code TutorialTeam} with default values.
@@ -37,7 +40,6 @@ public class TutorialTeam {
      */
     public TutorialTeam() {
         this.teamName = new TutorialTeamName("");
-        this.students = new ArrayList<>();
         this.teamSize = Integer.MAX_VALUE;
     }
 
@@ -50,7 +52,6 @@ public class TutorialTeam {
         requireAllNonNull(tutorialTeam);
         checkArgument(isValidTeamName(tutorialTeam), MESSAGE_NAME_CONSTRAINTS);
         this.teamName = new TutorialTeamName(tutorialTeam);
-        this.students = new ArrayList<>();
         this.teamSize = Integer.MAX_VALUE;
     }
 
@@ -65,7 +66,6 @@ public class TutorialTeam {
         checkArgument(isValidTeamName(tutorialTeam), MESSAGE_NAME_CONSTRAINTS);
         checkArgument(isValidSize(teamSize), MESSAGE_SIZE_CONSTRAINTS);
         this.teamName = new TutorialTeamName(tutorialTeam);
-        this.students = new ArrayList<>();
         this.teamSize = teamSize;
     }
 
@@ -78,7 +78,7 @@ public class TutorialTeam {
         requireAllNonNull(tutorialTeam);
         checkArgument(isValidTeamName(tutorialTeam), MESSAGE_NAME_CONSTRAINTS);
         this.teamName = new TutorialTeamName(tutorialTeam);
-        this.students = students;
+        students.forEach(this.students::add);
         this.teamSize = Integer.MAX_VALUE;
     }
 
@@ -90,20 +90,44 @@ public class TutorialTeam {
      * @param teamSize      of the tutorial team
      */
     public TutorialTeam(String tutorialTeam, ArrayList<Person> students, int teamSize) {
+        this(tutorialTeam, students, teamSize, false);
+    }
+
+    /**
+     * A constructor for TutorialTeam. Creates a tutorial team with students and team size, checking its name and
+     * size unless {@code isTrusted}, as for a team read back from a data file nobody has changed since it was saved.
+     */
+    public TutorialTeam(String tutorialTeam, ArrayList<Person> students, int teamSize, boolean isTrusted) {
         requireAllNonNull(tutorialTeam);
-        checkArgument(isValidTeamName(tutorialTeam), MESSAGE_NAME_CONSTRAINTS);
-        checkArgument(isValidSize(teamSize), MESSAGE_SIZE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidTeamName(tutorialTeam), MESSAGE_NAME_CONSTRAINTS);
+            checkArgument(isValidSize(teamSize), MESSAGE_SIZE_CONSTRAINTS);
+        }
         this.teamName = new TutorialTeamName(tutorialTeam);
-        this.students = students;
+        students.forEach(this.students::add);
         this.teamSize = teamSize;
     }
 
+    private TutorialTeam(TutorialTeam toBeCopied) {
+        this.teamName = toBeCopied.teamName;
+        this.teamSize = toBeCopied.teamSize;
+        toBeCopied.getStudents().forEach(this.students::add);
+    }
+
+    /**
+     * Returns a copy of this team with the same name, size and students, that does not belong to any tutorial class.
+     * Later changes to either team are not reflected in the other.
+     */
+    public TutorialTeam copy() {
+        return new TutorialTeam(this);
+    }
+
     /**
      * Returns true if a given string is a valid tutorial team name.
      * @param test
      */
     public static boolean isValidTeamName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -119,7 +143,7 @@ public class TutorialTeam {
      * @param students
      */
     public void setStudents(ArrayList<Person> students) {
-        this.students.addAll(students);
+        students.forEach(this::addStudent);
     }
 
     /**
@@ -147,19 +171,23 @@ public class TutorialTeam {
     }
 
     /**
-     * Retrieves the list of students in the tutorial team.
+     * Retrieves the list of students in the tutorial team, in the order they were added.
+     * Changes to the returned list are not reflected in the tutorial team.
      * @return The list of students in the tutorial team.
      */
     public ArrayList<Person> getStudents() {
-        return this.students;
+        return students.asList();
     }
 
     /**
      * Adds a student to the tutorial team.
+     * A student with the same student ID as an existing member is ignored.
      * @param student
      */
     public void addStudent(Person student) {
-        students.add(student);
+        if (students.add(student) && tutorialClass != null) {
+            tutorialClass.recordTeamMembership(student, this);
+        }
     }
 
     /**
@@ -168,7 +196,27 @@ public class TutorialTeam {
      * @return true if the student was removed
      */
     public boolean deleteStudent(Person student) {
-        return students.remove(student);
+        Person removed = students.remove(student);
+        if (removed != null && tutorialClass != null) {
+            tutorialClass.eraseTeamMembership(removed, this);
+        }
+        return removed != null;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedStudent} in the tutorial team, if {@code target} is in it.
+     *
+     * @return true if {@code target} was replaced
+     */
+    public boolean replaceStudent(Person target, Person editedStudent) {
+        if (!students.replace(target, editedStudent)) {
+            return false;
+        }
+        if (tutorialClass != null) {
+            tutorialClass.eraseTeamMembership(target, this);
+            tutorialClass.recordTeamMembership(editedStudent, this);
+        }
+        return true;
     }
 
     /**
@@ -185,16 +233,14 @@ public class TutorialTeam {
      * @return true if a person is in {@code tutorialTeam}.
      */
     public boolean hasStudentVerified(Person student, TutorialTeam tutorialTeam) {
-        ArrayList<Person> teamList = tutorialTeam.getStudents();
-        if (teamList.size() == 0 || teamList == null) {
-            return false;
-        }
-        for (Person eachStudent : teamList) {
-            if (eachStudent.getStudentId().value.equals(student.getStudentId().value)) {
-                return true;
-            }
-        }
-        return false;
+        return tutorialTeam.hasStudent(student);
+    }
+
+    /**
+     * Records the tutorial class this team has been added to, so that it can be told about the team's members.
+     */
+    void setTutorialClass(TutorialClass tutorialClass) {
+        this.tutorialClass = tutorialClass;
     }
 
     /**
@@ -205,7 +251,7 @@ public class TutorialTeam {
     public boolean hasTeamSizeExceeded(TutorialTeam tutorialTeam) {
         requireNonNull(tutorialTeam);
         int maxTeamSize = tutorialTeam.getTeamSize();
-        int currTeamSize = tutorialTeam.getStudents().size();
+        int currTeamSize = tutorialTeam.students.size();
         return (maxTeamSize <= currTeamSize);
     };
 
@@ -216,12 +262,7 @@ public class TutorialTeam {
      * @return a boolean true if {@code student} exists in the {@code tutorialTeam}.
      */
     public boolean isSamePersonInTeam(Person student, TutorialTeam tutorialTeam) {
-        for (Person person : tutorialTeam.getStudents()) {
-            if (person.isSamePerson(student)) {
-                return true;
-            }
-        }
-        return false;
+        return tutorialTeam.hasStudent(student);
     }
 
     @Override
@@ -241,11 +282,11 @@ public class TutorialTeam {
         }
 
         TutorialTeam otherTutorialTeam = (TutorialTeam) other;
-        return teamName.toString().equalsIgnoreCase(otherTutorialTeam.teamName.toString());
+        return teamName.equals(otherTutorialTeam.teamName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(teamName, teamSize);
+        return teamName.hashCode();
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tutorial Team's name in TAHelper.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -17,8 +20,10 @@ public class TutorialTeamName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
+    private final String key;
 
     /**
      * Constructs a {@code Name}.
@@ -29,13 +34,31 @@ public class TutorialTeamName {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        key = toKey(name);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the normalized form of {@code name} that team names are compared and looked up by.
+     * Surrounding spaces are dropped, runs of spaces are collapsed and letters are lower-cased,
+     * so "Team 1", "team 1" and "TEAM  1 " share the same key.
+     */
+    public static String toKey(String name) {
+        requireNonNull(name);
+        return name.trim().replaceAll(" +", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the normalized form of this name, as given by {@link #toKey(String)}.
+     */
+    public String getKey() {
+        return key;
     }
 
 
@@ -51,17 +74,17 @@ public class TutorialTeamName {
         }
 
         // instanceof handles nulls
-        if (!(other instanceof seedu.address.model.person.Name)) {
+        if (!(other instanceof TutorialTeamName)) {
             return false;
         }
 
         TutorialTeamName otherName = (TutorialTeamName) other;
-        return fullName.equals(otherName.fullName);
+        return key.equals(otherName.key);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return key.hashCode();
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in TAHelper.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -17,6 +19,7 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -26,8 +29,18 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    /**
+     * Constructs a {@code Name}, checking that it is valid unless {@code isTrusted}. Only values known to be valid
+     * already, such as those read back from a data file this app wrote and nobody has changed since, are trusted.
+     */
+    public Name(String name, boolean isTrusted) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
     }
 
@@ -35,7 +48,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
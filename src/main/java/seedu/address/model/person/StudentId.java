@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's Student ID in TAHelper
  * Guarantees: immutable; is valid as declared in
@@ -17,6 +19,7 @@ public class StudentId {
      * This regex validates the NUS student id of a student in the form "A12345678Z"
      */
     public static final String VALIDATION_REGEX = "^A\\d{7}[A-Z]$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -26,8 +29,18 @@ public class StudentId {
      * @param studentId A valid student ID.
      */
     public StudentId(String studentId) {
+        this(studentId, false);
+    }
+
+    /**
+     * Constructs a {@code StudentId}, checking that it is valid unless {@code isTrusted}. Only values known to be valid
+     * already, such as those read back from a data file this app wrote and nobody has changed since, are trusted.
+     */
+    public StudentId(String studentId, boolean isTrusted) {
         requireNonNull(studentId);
-        checkArgument(isValidStudentId(studentId), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidStudentId(studentId), MESSAGE_CONSTRAINTS);
+        }
         value = studentId;
     }
 
@@ -35,7 +48,7 @@ public class StudentId {
      * Returns true if a given string is a valid student ID.
      */
     public static boolean isValidStudentId(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -70,7 +83,8 @@ public class StudentId {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // consistent with the case-insensitive equals, so that it can be used as a hash key
+        return value.toLowerCase().hashCode();
     }
 
 }
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,20 +23,44 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Secondary hash indexes on {@code StudentId} and {@code Email} are kept alongside the backing list, so identity
+ * checks and lookups run in constant time. Every mutation of the backing list goes through this class and keeps the
+ * indexes in sync.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    public static final String MESSAGE_SHARED_IDENTITY = "%1$s and %2$s share the same %3$s %4$s";
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<StudentId, Person> personsByStudentId = new HashMap<>();
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return containsStudentId(toCheck.getStudentId()) || containsEmail(toCheck.getEmail());
+    }
+
+    /**
+     * Returns true if the list contains a person with the given {@code studentId}.
+     */
+    public boolean containsStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return personsByStudentId.containsKey(studentId);
+    }
+
+    /**
+     * Returns true if the list contains a person with the given {@code email}.
+     */
+    public boolean containsEmail(Email email) {
+        requireNonNull(email);
+        return personsByEmail.containsKey(email);
     }
 
     /**
@@ -41,10 +68,10 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person getPerson(StudentId studentId) {
         requireNonNull(studentId);
-        Person personMatch = internalList.stream()
-                .filter(person -> person.getStudentId().isSameStudentId(studentId))
-                .findFirst()
-                .orElse(null);
+        Person personMatch = personsByStudentId.get(studentId);
+        if (personMatch == null || !personMatch.getStudentId().isSameStudentId(studentId)) {
+            return null;
+        }
         return personMatch;
     }
 
@@ -53,10 +80,10 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Person getPersonByEmail(Email email) {
         requireNonNull(email);
-        Person personMatch = internalList.stream()
-                .filter(person -> person.getEmail().isSameEmail(email))
-                .findFirst()
-                .orElse(null);
+        Person personMatch = personsByEmail.get(email);
+        if (personMatch == null || !personMatch.getEmail().isSameEmail(email)) {
+            return null;
+        }
         return personMatch;
     }
 
@@ -70,6 +97,40 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list at once, so that listeners see a single change.
+     * None of the persons may already exist in the list, or share an identity with another of {@code toAdd}.
+     *
+     * @throws DuplicatePersonException listing every person of {@code toAdd} that clashes with a person in the list
+     *     or with another of {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        for (Person person : toAdd) {
+            requireNonNull(person);
+        }
+        List<String> duplicates = findDuplicatePersons(toAdd);
+        for (Person person : toAdd) {
+            Person withSameStudentId = personsByStudentId.get(person.getStudentId());
+            Person withSameEmail = personsByEmail.get(person.getEmail());
+            if (withSameStudentId != null) {
+                duplicates.add(String.format(MESSAGE_SHARED_IDENTITY, withSameStudentId.getName(), person.getName(),
+                        "student ID", person.getStudentId()));
+            }
+            if (withSameEmail != null && withSameEmail != withSameStudentId) {
+                duplicates.add(String.format(MESSAGE_SHARED_IDENTITY, withSameEmail.getName(), person.getName(),
+                        "email", person.getEmail()));
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::index);
     }
 
     /**
@@ -85,11 +146,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (isClaimedByOtherPerson(editedPerson, internalList.get(index))) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        unindex(replaced);
+        index(editedPerson);
     }
 
 
@@ -99,14 +162,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.remove(index));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByStudentId.clear();
+        personsByStudentId.putAll(replacement.personsByStudentId);
+        personsByEmail.clear();
+        personsByEmail.putAll(replacement.personsByEmail);
     }
 
     /**
@@ -115,11 +184,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<String> duplicates = findDuplicatePersons(persons);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
         internalList.setAll(persons);
+        reindex();
     }
 
     /**
@@ -160,16 +231,53 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns true if the student ID or email of {@code editedPerson} already belongs to a person other than
+     * {@code target}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private boolean isClaimedByOtherPerson(Person editedPerson, Person target) {
+        Person withSameStudentId = personsByStudentId.get(editedPerson.getStudentId());
+        Person withSameEmail = personsByEmail.get(editedPerson.getEmail());
+        return (withSameStudentId != null && withSameStudentId != target)
+                || (withSameEmail != null && withSameEmail != target);
+    }
+
+    private void index(Person person) {
+        personsByStudentId.put(person.getStudentId(), person);
+        personsByEmail.put(person.getEmail(), person);
+    }
+
+    private void unindex(Person person) {
+        personsByStudentId.remove(person.getStudentId(), person);
+        personsByEmail.remove(person.getEmail(), person);
+    }
+
+    private void reindex() {
+        personsByStudentId.clear();
+        personsByEmail.clear();
+        internalList.forEach(this::index);
+    }
+
+    /**
+     * Returns a description of every pair of persons in {@code persons} that share a student ID or an email.
+     * Runs in a single pass over {@code persons}; an empty list means all persons are unique.
+     */
+    public static List<String> findDuplicatePersons(List<Person> persons) {
+        requireNonNull(persons);
+        Map<StudentId, Person> seenStudentIds = new HashMap<>();
+        Map<Email, Person> seenEmails = new HashMap<>();
+        List<String> duplicates = new ArrayList<>();
+        for (Person person : persons) {
+            Person withSameStudentId = seenStudentIds.putIfAbsent(person.getStudentId(), person);
+            Person withSameEmail = seenEmails.putIfAbsent(person.getEmail(), person);
+            if (withSameStudentId != null) {
+                duplicates.add(String.format(MESSAGE_SHARED_IDENTITY, withSameStudentId.getName(), person.getName(),
+                        "student ID", person.getStudentId()));
+            }
+            if (withSameEmail != null && withSameEmail != withSameStudentId) {
+                duplicates.add(String.format(MESSAGE_SHARED_IDENTITY, withSameEmail.getName(), person.getName(),
+                        "email", person.getEmail()));
             }
         }
-        return true;
+        return duplicates;
     }
 }
@@ -1,11 +1,22 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private static final String MESSAGE_DUPLICATE_PERSONS = "Operation would result in duplicate persons";
+
     public DuplicatePersonException() {
-        super("Operation would result in duplicate persons");
+        super(MESSAGE_DUPLICATE_PERSONS);
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that lists every offending pair in {@code duplicates}.
+     */
+    public DuplicatePersonException(List<String> duplicates) {
+        super(MESSAGE_DUPLICATE_PERSONS + ": " + String.join("; ", duplicates));
     }
 }
@@ -0,0 +1,280 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+
+/**
+ * An append-only journal of the changes made to an address book since it was last saved in full.
+ * The journal is kept next to the data file, one JSON line per save. Its first line holds the CRC32 checksum of the
+ * data file it builds on, so that a journal left behind by an older data file is never replayed onto a newer one.
+ *
+ * Entries are queued by the thread that saves the address book, and may be written later on the thread that writes
+ * its data file, in the same order as the saves. The limits of the journal are counted as entries are queued, so
+ * that whether the next save can be appended is known without waiting for the writes.
+ */
+class AddressBookJournal {
+
+    /** Number of entries after which the journal is compacted into a full save. */
+    static final int MAX_ENTRIES = 100;
+
+    /** Size in bytes after which the journal is compacted into a full save. */
+    static final long MAX_SIZE = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final ObjectWriter HEADER_WRITER = JsonUtil.writerFor(JournalHeader.class);
+    private static final ObjectReader HEADER_READER = JsonUtil.readerFor(JournalHeader.class);
+    private static final ObjectWriter ENTRY_WRITER = JsonUtil.writerFor(JsonAdaptedAddressBookDelta.class);
+    private static final ObjectReader ENTRY_READER = JsonUtil.readerFor(JsonAdaptedAddressBookDelta.class);
+
+    private final Path dataFilePath;
+    private final Path journalPath;
+
+    // the journal as the entries and full saves queued so far will leave it, guarded by the journal's lock
+    private boolean isBroken = true;
+    private int entryCount;
+    private long size;
+
+    // true while the journal on disk builds on the data file on disk, so that entries may be appended to it;
+    // only changed by the thread that writes the journal
+    private volatile boolean isAppendable;
+
+    AddressBookJournal(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        this.dataFilePath = dataFilePath;
+        this.journalPath = journalPathFor(dataFilePath);
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code dataFilePath}.
+     */
+    static Path journalPathFor(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Returns true if the next save can be appended to the journal instead of being saved in full.
+     */
+    synchronized boolean canAppend() {
+        return !isBroken && entryCount < MAX_ENTRIES && size < MAX_SIZE;
+    }
+
+    synchronized int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Makes the changes in the journal to {@code addressBook}, which must hold the contents of the data file.
+     * A journal that does not build on the data file is ignored. Replay stops at the first entry that cannot be
+     * read or applied, such as a line cut short by a crash; the journal is then no longer appended to.
+     *
+     * @return the number of entries applied.
+     */
+    int replayOnto(AddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        isAppendable = false;
+        int replayedCount = 0;
+        long replayedSize = 0;
+        synchronized (this) {
+            isBroken = true;
+            entryCount = 0;
+            size = 0;
+        }
+        if (!FileUtil.isFileExists(journalPath) || !FileUtil.isFileExists(savedContentsOf(dataFilePath))) {
+            return 0;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            // the data file was just read, and its checksum record verified or deleted, so the record can be used
+            long checksum = recordedChecksumOf(dataFilePath);
+            if (headerLine == null || !isHeaderFor(headerLine, checksum)) {
+                logger.info("Journal " + journalPath + " does not build on " + dataFilePath + ", ignoring it.");
+                return 0;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    ENTRY_READER.<JsonAdaptedAddressBookDelta>readValue(line).applyTo(addressBook);
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Stopped replaying journal " + journalPath + " after " + replayedCount
+                            + " entries: " + e.getMessage());
+                    return replayedCount;
+                }
+                replayedCount++;
+                replayedSize += line.length() + 1;
+            }
+        }
+        isAppendable = true;
+        synchronized (this) {
+            isBroken = false;
+            entryCount = replayedCount;
+            size = replayedSize;
+        }
+        return replayedCount;
+    }
+
+    /**
+     * Returns the entry to append for {@code delta}, and counts it against the limits of the journal.
+     * The entry must then be written by {@link #append(byte[])}, in the order the entries were queued.
+     *
+     * @throws IllegalStateException if the journal cannot be appended to.
+     */
+    synchronized byte[] queueEntry(AddressBookDelta delta) throws IOException {
+        requireNonNull(delta);
+        if (isBroken || delta.isWholeBookReplaced()) {
+            throw new IllegalStateException("Journal " + journalPath + " cannot be appended to.");
+        }
+
+        byte[] entry = (ENTRY_WRITER.writeValueAsString(new JsonAdaptedAddressBookDelta(delta)) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        entryCount++;
+        size += entry.length;
+        return entry;
+    }
+
+    /**
+     * Appends {@code entry} to the journal and forces it to the disk before returning.
+     *
+     * @throws IOException if the journal on disk does not build on the data file, such as when the full save that
+     *     it was to be started on has failed, or if the entry could not be written.
+     */
+    void append(byte[] entry) throws IOException {
+        requireNonNull(entry);
+        if (!isAppendable) {
+            throw new IOException("Journal " + journalPath + " does not build on " + dataFilePath);
+        }
+
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // the entry may be partly written, so the journal must be started afresh
+            fail();
+            throw e;
+        }
+    }
+
+    /**
+     * Counts the journal as empty from the full save queued now, which must be followed by {@link #reset()} once
+     * it is written, or {@link #fail()} if it cannot be.
+     */
+    synchronized void queueReset() {
+        isBroken = false;
+        entryCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Starts an empty journal on top of the data file as it is now on the disk.
+     * The checksum of the data file is taken from the record written with it, so a data file that was just saved
+     * is not read again.
+     */
+    void reset() throws IOException {
+        isAppendable = false;
+        String header = HEADER_WRITER.writeValueAsString(new JournalHeader(recordedChecksumOf(dataFilePath))) + "\n";
+
+        byte[] headerBytes = header.getBytes(StandardCharsets.UTF_8);
+        try {
+            FileUtil.writeAtomically(journalPath, out -> out.write(headerBytes));
+        } catch (IOException e) {
+            fail();
+            throw e;
+        }
+        isAppendable = true;
+    }
+
+    /**
+     * Stops queueing entries until a full save is queued, as the data file will no longer match the journal.
+     * Entries that were queued before are still appended.
+     */
+    synchronized void invalidate() {
+        isBroken = true;
+    }
+
+    /**
+     * Stops appending to the journal, as a write to it or to the data file failed and the changes are lost from it.
+     * Entries are not queued again until a full save is queued.
+     */
+    void fail() {
+        isAppendable = false;
+        invalidate();
+    }
+
+    private static boolean isHeaderFor(String headerLine, long checksum) {
+        try {
+            return HEADER_READER.<JournalHeader>readValue(headerLine).snapshotChecksum == checksum;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the file whose contents tell one save of the address book at {@code dataFilePath} from another: the
+     * data file itself, or the index of a {@link ShardedAddressBookStorage} directory, which changes on every save.
+     */
+    private static Path savedContentsOf(Path dataFilePath) {
+        return Files.isDirectory(dataFilePath)
+                ? dataFilePath.resolve(ShardedAddressBookStorage.INDEX_FILE_NAME)
+                : dataFilePath;
+    }
+
+    /**
+     * Returns the checksum of the saved contents of the data file at {@code dataFilePath}, from the record written
+     * with it where there is one.
+     */
+    private static long recordedChecksumOf(Path dataFilePath) throws IOException {
+        Path savedContents = savedContentsOf(dataFilePath);
+        if (savedContents.equals(dataFilePath)) {
+            OptionalLong recordedChecksum = DataFileChecksum.recordedChecksumOf(dataFilePath);
+            if (recordedChecksum.isPresent()) {
+                return recordedChecksum.getAsLong();
+            }
+        }
+        return DataFileChecksum.checksumOf(savedContents);
+    }
+
+    /**
+     * The first line of a journal.
+     */
+    static class JournalHeader {
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
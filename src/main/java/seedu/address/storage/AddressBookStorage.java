@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +43,76 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code addressBook} to {@code filePath} like {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, but
+     * tells {@code listener} whether it was written instead of throwing.
+     * Storages that write before returning tell {@code listener} before returning too.
+     */
+    default void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, SaveListener listener) {
+        try {
+            saveAddressBook(addressBook, filePath);
+        } catch (IOException e) {
+            listener.failed(e);
+            return;
+        }
+        listener.saved();
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} like {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, where
+     * {@code changes} are all the changes made to it since it was last read from or saved to {@code filePath}.
+     * Storages that keep parts of the address book in separate files write only the parts that {@code changes}
+     * touch; others save the whole address book.
+     */
+    default void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, AddressBookDelta changes)
+            throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} like
+     * {@link #saveAddressBook(ReadOnlyAddressBook, Path, AddressBookDelta)}, but tells {@code listener} whether it
+     * was written instead of throwing.
+     * Storages that write before returning tell {@code listener} before returning too.
+     */
+    default void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, AddressBookDelta changes,
+            SaveListener listener) {
+        try {
+            saveAddressBook(addressBook, filePath, changes);
+        } catch (IOException e) {
+            listener.failed(e);
+            return;
+        }
+        listener.saved();
+    }
+
+    /**
+     * Runs {@code write} once every save made so far has been written, and tells {@code listener} whether it
+     * succeeded, so that files kept beside the data file are written in order with it.
+     * Storages that write before returning run {@code write} before returning too.
+     */
+    default void writeAfterSaves(FileWrite write, SaveListener listener) {
+        try {
+            write.run();
+        } catch (IOException e) {
+            listener.failed(e);
+            return;
+        }
+        listener.saved();
+    }
+
+    /**
+     * Waits until every save made so far has been written.
+     * @throws IOException if the last of those saves could not be written.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * A write to be made by {@link #writeAfterSaves(FileWrite, SaveListener)}.
+     */
+    @FunctionalInterface
+    interface FileWrite {
+        void run() throws IOException;
+    }
+
 }
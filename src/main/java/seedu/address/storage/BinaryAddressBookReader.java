@@ -0,0 +1,315 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book saved by {@link BinaryAddressBookWriter}.
+ *
+ * A snapshot starts with {@link #MAGIC}, the format version and the schema version of
+ * {@link JsonSerializableAddressBook} it holds, each a big-endian int. Three sections follow, each prefixed by its
+ * length in bytes:
+ * <ol>
+ *     <li>strings: a count, then each string as its length in bytes and its UTF-8 bytes.</li>
+ *     <li>persons: a count, then for each person the string indices of its name, email and student ID, and a
+ *     count of tags followed by their string indices.</li>
+ *     <li>modules: a count, then for each module the string indices of its code and description, and its tutorial
+ *     classes. A class is its name, size, students, teams and teammate history; a team is its name, size and
+ *     students. Students are a count followed by their indices in the persons section. A teammate history is a
+ *     count followed by the string indices of its student IDs, then a count followed by three ints for each pair
+ *     of students that have been in a team together: the positions of the two students in the history and the
+ *     number of times.</li>
+ * </ol>
+ *
+ * Snapshots of format version 1 have no teammate histories, and are still read.
+ *
+ * The snapshot is decoded into the same {@code JsonAdapted*} objects a JSON file is read into, so both formats hold
+ * exactly the same data and are checked the same way.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "File is not a binary address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Binary snapshot format version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Binary snapshot is corrupted: %s";
+
+    /** Bytes that every snapshot starts with. No JSON file starts with them. */
+    static final byte[] MAGIC = {'T', 'A', 'H', 'B'};
+    /** Version of the layout described above. */
+    static final int FORMAT_VERSION = 2;
+    /** Version of the layout before tutorial classes had teammate histories. */
+    static final int FORMAT_VERSION_WITHOUT_HISTORY = 1;
+    /** String index written in place of a null string. */
+    static final int NO_STRING = -1;
+
+    private BinaryAddressBookReader() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC}.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    static boolean isSnapshot(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer start = ByteBuffer.allocate(MAGIC.length);
+            while (start.hasRemaining() && channel.read(start) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            return !start.hasRemaining() && Arrays.equals(start.array(), MAGIC);
+        }
+    }
+
+    /**
+     * Returns true if {@code in} starts with {@link #MAGIC}, leaving {@code in} where it was.
+     * {@code in} must support {@link InputStream#mark(int)}.
+     *
+     * @throws IOException if the stream cannot be read.
+     */
+    static boolean isSnapshot(InputStream in) throws IOException {
+        in.mark(MAGIC.length);
+        byte[] start = in.readNBytes(MAGIC.length);
+        in.reset();
+        return Arrays.equals(start, MAGIC);
+    }
+
+    /**
+     * Reads the address book in {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not a whole snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, false);
+    }
+
+    /**
+     * Reads the address book in {@code filePath}.
+     *
+     * @param isTrusted whether the values of the persons and modules in the file are known to be valid already, so
+     *                  that only duplicates, and the students the modules refer to, are checked for.
+     * @throws IOException if the file cannot be read or is not a whole snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath, boolean isTrusted) throws IOException, IllegalValueException {
+        return readAdapted(filePath).toModelType(isTrusted);
+    }
+
+    /**
+     * Reads the address book in {@code in} like {@link #read(Path, boolean)}, reading the rest of {@code in} into
+     * the heap.
+     *
+     * @throws IOException if the stream cannot be read or is not a whole snapshot.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in, boolean isTrusted) throws IOException, IllegalValueException {
+        return decodeWhole(ByteBuffer.wrap(in.readAllBytes())).toModelType(isTrusted);
+    }
+
+    /**
+     * Reads the snapshot in {@code filePath} into the objects a JSON data file is read into.
+     *
+     * @throws IOException if the file cannot be read or is not a whole snapshot.
+     */
+    static JsonSerializableAddressBook readAdapted(Path filePath) throws IOException {
+        return decodeWhole(load(filePath));
+    }
+
+    private static JsonSerializableAddressBook decodeWhole(ByteBuffer buffer) throws IOException {
+        try {
+            return decode(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "it ends too early or has a bad length"), e);
+        }
+    }
+
+    /**
+     * Reads the whole of {@code filePath} into the heap.
+     * The file is not memory-mapped, as a mapping outlives the channel until it is garbage collected, and on some
+     * platforms stops the data file from being replaced by the next save until then.
+     */
+    private static ByteBuffer load(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "it is too large"));
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    private static JsonSerializableAddressBook decode(ByteBuffer buffer) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        if (buffer.remaining() < magic.length) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION && formatVersion != FORMAT_VERSION_WITHOUT_HISTORY) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_FORMAT, formatVersion));
+        }
+        int schemaVersion = buffer.getInt();
+
+        String[] strings = decodeStrings(section(buffer));
+        List<String> studentIds = new ArrayList<>();
+        List<JsonAdaptedPerson> persons = decodePersons(section(buffer), strings, studentIds);
+        boolean hasHistories = formatVersion != FORMAT_VERSION_WITHOUT_HISTORY;
+        List<JsonAdaptedModule> modules = decodeModules(section(buffer), strings, studentIds, hasHistories);
+        if (buffer.hasRemaining()) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "there are bytes after the last section"));
+        }
+        return new JsonSerializableAddressBook(schemaVersion, persons, modules);
+    }
+
+    /**
+     * Returns the length-prefixed section at the position of {@code buffer}, and moves {@code buffer} past it.
+     */
+    private static ByteBuffer section(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        ByteBuffer section = buffer.slice();
+        section.limit(length);
+        buffer.position(buffer.position() + length);
+        return section;
+    }
+
+    private static String[] decodeStrings(ByteBuffer section) throws IOException {
+        String[] strings = new String[count(section)];
+        for (int i = 0; i < strings.length; i++) {
+            int length = section.getInt();
+            if (length < 0 || length > section.remaining()) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "bad string length " + length));
+            }
+            byte[] bytes = new byte[length];
+            section.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        checkConsumed(section, "strings");
+        return strings;
+    }
+
+    private static List<JsonAdaptedPerson> decodePersons(ByteBuffer section, String[] strings,
+            List<String> studentIds) throws IOException {
+        int count = count(section);
+        List<JsonAdaptedPerson> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = string(section, strings);
+            String email = string(section, strings);
+            String studentId = string(section, strings);
+            int tagCount = count(section);
+            List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+            for (int j = 0; j < tagCount; j++) {
+                tags.add(new JsonAdaptedTag(string(section, strings)));
+            }
+            persons.add(new JsonAdaptedPerson(name, email, studentId, tags));
+            studentIds.add(studentId);
+        }
+        checkConsumed(section, "persons");
+        return persons;
+    }
+
+    private static List<JsonAdaptedModule> decodeModules(ByteBuffer section, String[] strings,
+            List<String> studentIds, boolean hasHistories) throws IOException {
+        int count = count(section);
+        List<JsonAdaptedModule> modules = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = string(section, strings);
+            String description = string(section, strings);
+            int classCount = count(section);
+            List<JsonAdaptedTutorialClass> tutorialClasses = new ArrayList<>(classCount);
+            for (int j = 0; j < classCount; j++) {
+                tutorialClasses.add(decodeTutorialClass(section, strings, studentIds, hasHistories));
+            }
+            modules.add(new JsonAdaptedModule(name, tutorialClasses, description));
+        }
+        checkConsumed(section, "modules");
+        return modules;
+    }
+
+    private static JsonAdaptedTutorialClass decodeTutorialClass(ByteBuffer section, String[] strings,
+            List<String> studentIds, boolean hasHistory) throws IOException {
+        String tutorialName = string(section, strings);
+        int classSize = section.getInt();
+        List<String> classStudentIds = students(section, studentIds);
+        int teamCount = count(section);
+        List<JsonAdaptedTutorialTeam> teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            String teamName = string(section, strings);
+            int teamSize = section.getInt();
+            teams.add(new JsonAdaptedTutorialTeam(teamName, teamSize, students(section, studentIds), null));
+        }
+        if (!hasHistory) {
+            return new JsonAdaptedTutorialClass(tutorialName, teams, classStudentIds, null, classSize, null, null);
+        }
+
+        int teammateCount = count(section);
+        List<String> teammateIds = new ArrayList<>(teammateCount);
+        for (int i = 0; i < teammateCount; i++) {
+            teammateIds.add(string(section, strings));
+        }
+        int[] teammatePairs = new int[count(section)];
+        section.asIntBuffer().get(teammatePairs);
+        section.position(section.position() + teammatePairs.length * Integer.BYTES);
+        return new JsonAdaptedTutorialClass(tutorialName, teams, classStudentIds, null, classSize, teammateIds,
+                teammatePairs);
+    }
+
+    private static List<String> students(ByteBuffer section, List<String> studentIds) throws IOException {
+        int count = count(section);
+        List<String> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = section.getInt();
+            if (index < 0 || index >= studentIds.size()) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED, "no person at index " + index));
+            }
+            students.add(studentIds.get(index));
+        }
+        return students;
+    }
+
+    private static String string(ByteBuffer section, String[] strings) throws IOException {
+        int index = section.getInt();
+        if (index == NO_STRING) {
+            return null;
+        }
+        if (index < 0 || index >= strings.length) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "no string at index " + index));
+        }
+        return strings[index];
+    }
+
+    /**
+     * Reads a count of elements, each of which takes at least one int, so that a corrupted count fails here rather
+     * than when a list of that size is allocated.
+     */
+    private static int count(ByteBuffer section) throws IOException {
+        int count = section.getInt();
+        if (count < 0 || count > section.remaining() / Integer.BYTES) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "bad count " + count));
+        }
+        return count;
+    }
+
+    private static void checkConsumed(ByteBuffer section, String sectionName) throws IOException {
+        if (section.hasRemaining()) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED, "the " + sectionName + " section is too long"));
+        }
+    }
+}
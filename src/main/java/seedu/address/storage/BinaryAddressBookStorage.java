@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk, laid out as described in
+ * {@link BinaryAddressBookReader}. It is smaller and faster to load than a json file, but cannot be edited by hand.
+ *
+ * A json file is read too, and is saved back as a binary snapshot, so switching a data file between the two
+ * formats takes nothing more than saving it with the other storage.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return JsonAddressBookStorage.readDataFile(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        DataFileChecksum.writeAtomically(filePath, out -> BinaryAddressBookWriter.write(addressBook, out));
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // saves are written before saveAddressBook returns
+    }
+
+}
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TeammateHistory;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.module.TutorialTeam;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book as a binary snapshot, laid out as described in {@link BinaryAddressBookReader}.
+ *
+ * Every string is written once into the string table and referred to by its position in it, and the students of
+ * classes and teams are referred to by their position in the persons section.
+ */
+class BinaryAddressBookWriter {
+
+    private BinaryAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, then closes {@code out}.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        Map<StudentId, Integer> personIndices = new HashMap<>();
+        ByteArrayOutputStream persons = writePersons(addressBook.getPersonList(), strings, personIndices);
+        ByteArrayOutputStream modules = writeModules(addressBook.getModuleList(), strings, personIndices);
+
+        try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out))) {
+            data.write(BinaryAddressBookReader.MAGIC);
+            data.writeInt(BinaryAddressBookReader.FORMAT_VERSION);
+            data.writeInt(JsonSerializableAddressBook.CURRENT_SCHEMA_VERSION);
+            writeSection(data, strings.write());
+            writeSection(data, persons);
+            writeSection(data, modules);
+        }
+    }
+
+    private static void writeSection(DataOutputStream data, ByteArrayOutputStream section) throws IOException {
+        data.writeInt(section.size());
+        section.writeTo(data);
+    }
+
+    private static ByteArrayOutputStream writePersons(List<Person> persons, StringTable strings,
+            Map<StudentId, Integer> personIndices) throws IOException {
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(section);
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            personIndices.put(person.getStudentId(), personIndices.size());
+            data.writeInt(strings.indexOf(person.getName().fullName));
+            data.writeInt(strings.indexOf(person.getEmail().value));
+            data.writeInt(strings.indexOf(person.getStudentId().value));
+            data.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                data.writeInt(strings.indexOf(tag.tagName));
+            }
+        }
+        return section;
+    }
+
+    private static ByteArrayOutputStream writeModules(List<ModuleCode> modules, StringTable strings,
+            Map<StudentId, Integer> personIndices) throws IOException {
+        ByteArrayOutputStream section = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(section);
+        data.writeInt(modules.size());
+        for (ModuleCode module : modules) {
+            data.writeInt(strings.indexOf(module.toString()));
+            data.writeInt(strings.indexOf(module.getDescription()));
+            List<TutorialClass> tutorialClasses = module.getTutorialClasses();
+            data.writeInt(tutorialClasses.size());
+            for (TutorialClass tutorialClass : tutorialClasses) {
+                data.writeInt(strings.indexOf(tutorialClass.tutorialName));
+                data.writeInt(tutorialClass.getClassSize());
+                writeStudents(data, tutorialClass.getStudents(), personIndices);
+                List<TutorialTeam> teams = tutorialClass.getTeams();
+                data.writeInt(teams.size());
+                for (TutorialTeam team : teams) {
+                    data.writeInt(strings.indexOf(team.getTeamName()));
+                    data.writeInt(team.getTeamSize());
+                    writeStudents(data, team.getStudents(), personIndices);
+                }
+                writeTeammateHistory(data, tutorialClass.getTeammateHistory(), strings);
+            }
+        }
+        return section;
+    }
+
+    private static void writeStudents(DataOutputStream data, List<Person> students,
+            Map<StudentId, Integer> personIndices) throws IOException {
+        data.writeInt(students.size());
+        for (Person student : students) {
+            Integer index = personIndices.get(student.getStudentId());
+            if (index == null) {
+                throw new IllegalStateException("Student " + student.getStudentId() + " is not in the address book");
+            }
+            data.writeInt(index);
+        }
+    }
+
+    private static void writeTeammateHistory(DataOutputStream data, TeammateHistory history, StringTable strings)
+            throws IOException {
+        List<StudentId> studentIds = history.getStudentIds();
+        data.writeInt(studentIds.size());
+        for (StudentId studentId : studentIds) {
+            data.writeInt(strings.indexOf(studentId.value));
+        }
+        int[] pairCounts = history.getPairCounts();
+        data.writeInt(pairCounts.length);
+        for (int value : pairCounts) {
+            data.writeInt(value);
+        }
+    }
+
+    /**
+     * The strings of a snapshot, each kept once in the order they were first written.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new LinkedHashMap<>();
+
+        /**
+         * Returns the position of {@code string} in the table, adding it if it is new.
+         * A null string is written as {@link BinaryAddressBookReader#NO_STRING}.
+         */
+        int indexOf(String string) {
+            if (string == null) {
+                return BinaryAddressBookReader.NO_STRING;
+            }
+            return indices.computeIfAbsent(string, unused -> indices.size());
+        }
+
+        ByteArrayOutputStream write() throws IOException {
+            ByteArrayOutputStream section = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(section);
+            data.writeInt(indices.size());
+            for (String string : indices.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+            return section;
+        }
+    }
+}
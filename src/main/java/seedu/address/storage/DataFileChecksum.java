@@ -0,0 +1,217 @@
+package seedu.address.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * The checksum recorded beside each data file this app saves, in a file named by {@link #getRecordFilePath(Path)},
+ * so that loading a file nobody has changed since can skip checking the values of its persons again.
+ *
+ * The record holds the schema version the data file was written with, and the size and CRC-32 of its bytes on the
+ * disk. A data file that was edited by hand, cut short, or written by another version of the app does not match its
+ * record, and is checked in full. The checksum is the one {@link AddressBookJournal} starts each journal with, so a
+ * journal can be started on a data file that was just saved without reading the file again.
+ */
+class DataFileChecksum {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileChecksum.class);
+
+    private static final String RECORD_FILE_SUFFIX = ".checksum";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final ObjectReader RECORD_READER = JsonUtil.readerFor(DataFileChecksum.class);
+    private static final ObjectWriter RECORD_WRITER = JsonUtil.writerFor(DataFileChecksum.class);
+
+    private final int schemaVersion;
+    private final long size;
+    private final long checksum;
+
+    @JsonCreator
+    DataFileChecksum(@JsonProperty("schemaVersion") int schemaVersion, @JsonProperty("size") long size,
+            @JsonProperty("checksum") long checksum) {
+        this.schemaVersion = schemaVersion;
+        this.size = size;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the path of the file that records the checksum of the data file at {@code filePath}.
+     */
+    static Path getRecordFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + RECORD_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the data file at {@code filePath} like {@link FileUtil#writeAtomically(Path, FileUtil.ContentWriter)},
+     * then records its checksum, which is worked out as the file is written.
+     * The old record is deleted first, so a record is only ever found beside the file it was worked out from.
+     * A checksum that cannot be recorded only costs the next load its shortcut, so it does not fail the write.
+     */
+    static void writeAtomically(Path filePath, FileUtil.ContentWriter contentWriter) throws IOException {
+        Files.deleteIfExists(getRecordFilePath(filePath));
+        Checksum checksum = new CRC32();
+        FileUtil.writeAtomically(filePath, out -> contentWriter.writeTo(new CheckedOutputStream(out, checksum)));
+
+        DataFileChecksum record = new DataFileChecksum(JsonSerializableAddressBook.CURRENT_SCHEMA_VERSION,
+                Files.size(filePath), checksum.getValue());
+        try {
+            FileUtil.writeAtomically(getRecordFilePath(filePath), out -> RECORD_WRITER.writeValue(out, record));
+        } catch (IOException e) {
+            logger.warning("Could not record the checksum of " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Reads the data file at {@code filePath} with {@code reader}. A data file that still matches its record is
+     * exactly as this version of the app last saved it, and is read with its values trusted. Its checksum is worked
+     * out as it is read, so the file is read only once. If the checksum turns out not to match, the record is deleted,
+     * so that a record left beside a data file has been found to match it and {@link #recordedChecksumOf(Path)} can
+     * be relied on without reading the data file again, and the data file is read once more with its values checked.
+     */
+    static AddressBook read(Path filePath, DataFileReader reader) throws IOException, IllegalValueException {
+        Optional<DataFileChecksum> record = readRecord(filePath);
+        if (record.isPresent()) {
+            Optional<AddressBook> trusted = record.get().matchesSizeOf(filePath)
+                    ? readTrusted(filePath, record.get().checksum, reader)
+                    : Optional.empty();
+            if (trusted.isPresent()) {
+                logger.info("Data file " + filePath + " is unchanged since it was saved; skipped its checks.");
+                return trusted.get();
+            }
+            logger.info("Data file " + filePath + " has changed since its checksum was recorded.");
+            Files.deleteIfExists(getRecordFilePath(filePath));
+        }
+        return reader.read(Files.newInputStream(filePath), false);
+    }
+
+    /**
+     * Returns true if this record was written by this version of the app for a file of the size the data file at
+     * {@code filePath} is now.
+     */
+    private boolean matchesSizeOf(Path filePath) throws IOException {
+        return schemaVersion == JsonSerializableAddressBook.CURRENT_SCHEMA_VERSION && size == Files.size(filePath);
+    }
+
+    /**
+     * Reads the data file at {@code filePath} with its values trusted, if its bytes have {@code checksum}.
+     */
+    private static Optional<AddressBook> readTrusted(Path filePath, long checksum, DataFileReader reader)
+            throws IOException {
+        Checksum actualChecksum = new CRC32();
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), actualChecksum)) {
+            AddressBook addressBook = reader.read(new UnclosedInputStream(in), true);
+            // the reader may stop before the end of the file, but the checksum is of every byte
+            in.transferTo(OutputStream.nullOutputStream());
+            return actualChecksum.getValue() == checksum ? Optional.of(addressBook) : Optional.empty();
+        } catch (IOException | IllegalValueException e) {
+            // only a data file changed since it was saved can fail, and reading it with its values checked tells how
+            logger.info("Could not read " + filePath + " with its values trusted: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the record of the data file at {@code filePath}, if there is one that can be read.
+     */
+    private static Optional<DataFileChecksum> readRecord(Path filePath) {
+        Path recordFilePath = getRecordFilePath(filePath);
+        if (!Files.exists(recordFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(RECORD_READER.readValue(Files.readAllBytes(recordFilePath)));
+        } catch (IOException e) {
+            logger.warning("Could not read the checksum of " + filePath + " in " + recordFilePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the checksum recorded for the data file at {@code filePath} when it was written, if its record is
+     * there and the file is still of the recorded size, without reading the data file.
+     */
+    static OptionalLong recordedChecksumOf(Path filePath) {
+        Path recordFilePath = getRecordFilePath(filePath);
+        if (!Files.exists(recordFilePath)) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            DataFileChecksum record = RECORD_READER.readValue(Files.readAllBytes(recordFilePath));
+            return record.size == Files.size(filePath) ? OptionalLong.of(record.checksum) : OptionalLong.empty();
+        } catch (IOException e) {
+            logger.warning("Could not read the checksum of " + filePath + " in " + recordFilePath + ": " + e);
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Returns the CRC-32 of the bytes of the file at {@code filePath}.
+     */
+    static long checksumOf(Path filePath) throws IOException {
+        Checksum checksum = new CRC32();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                checksum.update(buffer.array(), 0, buffer.limit());
+                buffer.clear();
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Reads an address book from a stream, which it closes.
+     */
+    @FunctionalInterface
+    interface DataFileReader {
+        /**
+         * Reads the address book in {@code in}, and closes {@code in}.
+         *
+         * @param isTrusted whether the values in {@code in} are known to be valid already.
+         */
+        AddressBook read(InputStream in, boolean isTrusted) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * A stream that leaves the stream it reads open when it is closed, so that the rest of a data file can still be
+     * read for its checksum after a reader has closed it.
+     */
+    private static class UnclosedInputStream extends FilterInputStream {
+        UnclosedInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // the stream read is closed by whoever opened it
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookDelta.PersonChange;
+import seedu.address.model.AddressBookDelta.PersonChangeKind;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Jackson-friendly version of {@link AddressBookDelta}, written as one entry of the address book journal.
+ * Changed modules are stored in full, with their students referred to by student ID.
+ */
+class JsonAdaptedAddressBookDelta {
+
+    public static final String MESSAGE_UNKNOWN_CHANGE = "Journal entry has an unknown change '%s'.";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Journal entry refers to student ID %s, which is not in the "
+            + "address book.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal entry adds a person who is already in the "
+            + "address book.";
+
+    private final List<JsonAdaptedPersonChange> persons = new ArrayList<>();
+    private final List<JsonAdaptedModule> modules = new ArrayList<>();
+    private final List<String> removedModules = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookDelta} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookDelta(@JsonProperty("persons") List<JsonAdaptedPersonChange> persons,
+            @JsonProperty("modules") List<JsonAdaptedModule> modules,
+            @JsonProperty("removedModules") List<String> removedModules) {
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (modules != null) {
+            this.modules.addAll(modules);
+        }
+        if (removedModules != null) {
+            this.removedModules.addAll(removedModules);
+        }
+    }
+
+    /**
+     * Converts a given {@code AddressBookDelta} into this class for Jackson use.
+     * The whole-book flag of {@code source} is not kept, since such changes are saved in full instead.
+     */
+    public JsonAdaptedAddressBookDelta(AddressBookDelta source) {
+        for (PersonChange change : source.getPersonChanges()) {
+            persons.add(new JsonAdaptedPersonChange(change));
+        }
+        for (ModuleCode module : source.getChangedModules()) {
+            modules.add(new JsonAdaptedModule(module));
+        }
+        removedModules.addAll(source.getRemovedModuleCodes());
+    }
+
+    /**
+     * Makes the changes in this entry to {@code addressBook}: the person changes in order, then the module changes.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or if the changes do not fit
+     *                               {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        for (JsonAdaptedPersonChange change : persons) {
+            change.applyTo(addressBook);
+        }
+
+        for (String moduleCode : removedModules) {
+            if (moduleCode == null || !ModuleCode.isValidModuleCode(moduleCode)) {
+                throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
+            }
+            ModuleCode moduleInList = addressBook.findModuleFromList(new ModuleCode(moduleCode));
+            if (moduleInList != null) {
+                addressBook.removeModule(moduleInList);
+            }
+        }
+
+        Map<StudentId, Person> personsById = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            personsById.put(person.getStudentId(), person);
+        }
+        for (JsonAdaptedModule module : modules) {
+            addressBook.setModule(module.toModelType(personsById));
+        }
+    }
+
+    /**
+     * Jackson-friendly version of {@link PersonChange}.
+     */
+    static class JsonAdaptedPersonChange {
+        private final String change;
+        private final String studentId;
+        private final JsonAdaptedPerson person;
+
+        /**
+         * Constructs a {@code JsonAdaptedPersonChange} with the given details.
+         */
+        @JsonCreator
+        public JsonAdaptedPersonChange(@JsonProperty("change") String change,
+                @JsonProperty("studentId") String studentId, @JsonProperty("person") JsonAdaptedPerson person) {
+            this.change = change;
+            this.studentId = studentId;
+            this.person = person;
+        }
+
+        /**
+         * Converts a given {@code PersonChange} into this class for Jackson use.
+         */
+        public JsonAdaptedPersonChange(PersonChange source) {
+            change = source.getKind().name();
+            studentId = source.getTarget() == null ? null : source.getTarget().value;
+            person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        }
+
+        void applyTo(AddressBook addressBook) throws IllegalValueException {
+            PersonChangeKind kind = toKind();
+            try {
+                switch (kind) {
+                case ADD:
+                    addressBook.addPerson(toPerson());
+                    break;
+                case SET:
+                    addressBook.setPerson(findTarget(addressBook), toPerson());
+                    break;
+                case REMOVE:
+                    addressBook.removePerson(findTarget(addressBook));
+                    break;
+                default:
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CHANGE, change));
+                }
+            } catch (DuplicatePersonException e) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+
+        private PersonChangeKind toKind() throws IllegalValueException {
+            for (PersonChangeKind kind : PersonChangeKind.values()) {
+                if (kind.name().equals(change)) {
+                    return kind;
+                }
+            }
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CHANGE, change));
+        }
+
+        private Person toPerson() throws IllegalValueException {
+            if (person == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CHANGE, change));
+            }
+            return person.toModelType();
+        }
+
+        private Person findTarget(AddressBook addressBook) throws IllegalValueException {
+            if (studentId == null || !StudentId.isValidStudentId(studentId)) {
+                throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+            }
+            Person target = addressBook.getUniquePersonList().getPerson(new StudentId(studentId));
+            if (target == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, studentId));
+            }
+            return target;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -10,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentId;
 
 /**
@@ -62,31 +65,54 @@ class JsonAdaptedModule {
     }
 
     /**
-     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * Converts this Jackson-friendly adapted module object into the model's {@code ModuleCode} object,
+     * without any persons to resolve student IDs against.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted module.
      */
     public ModuleCode toModelType() throws IllegalValueException {
-        if (!ModuleCode.isValidModuleCode(name)) {
+        return toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted module object into the model's {@code ModuleCode} object,
+     * taking the students of its classes and teams from {@code personsById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted module.
+     */
+    public ModuleCode toModelType(Map<StudentId, Person> personsById) throws IllegalValueException {
+        return toModelType(personsById, false);
+    }
+
+    /**
+     * Converts this adapted module into the model's {@code ModuleCode} object like {@link #toModelType(Map)}.
+     * If {@code isTrusted}, the module was read from a file that is unchanged since it was saved, and the names and
+     * student IDs in it are not checked. The students it refers to are looked up either way, so that one who is not
+     * in {@code personsById} fails the load. Its classes and teams are only built when they are first used, so
+     * {@code personsById} must not be changed afterwards.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted module.
+     */
+    ModuleCode toModelType(Map<StudentId, Person> personsById, boolean isTrusted) throws IllegalValueException {
+        if (name == null || !isTrusted && !ModuleCode.isValidModuleCode(name)) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, name));
         }
-        final List<TutorialClass> listOfClass = new ArrayList<>();
-        for (JsonAdaptedTutorialClass tutorialClass : this.tutorialClasses) {
-            listOfClass.add(tutorialClass.toModelType());
-        }
-
-        ModuleCode moduleCode;
-        if (!ModuleCode.isValidModuleCode(name)) {
-            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        for (JsonAdaptedTutorialClass tutorialClass : tutorialClasses) {
+            tutorialClass.checkValid(personsById, isTrusted);
         }
+        return ModuleCode.withUnbuiltTutorialClasses(name, description != null ? description : "", () ->
+                buildTutorialClasses(personsById, isTrusted), isTrusted);
+    }
 
-        if (description != null && !description.isEmpty()) {
-            moduleCode = new ModuleCode(name, listOfClass,
-                description);
-        } else {
-            moduleCode = new ModuleCode(name, listOfClass);
+    private List<TutorialClass> buildTutorialClasses(Map<StudentId, Person> personsById, boolean isTrusted) {
+        final List<TutorialClass> listOfClass = new ArrayList<>();
+        try {
+            for (JsonAdaptedTutorialClass tutorialClass : tutorialClasses) {
+                listOfClass.add(tutorialClass.toModelType(personsById, isTrusted));
+            }
+        } catch (IllegalValueException e) {
+            throw new IllegalStateException("Tutorial classes were checked before being built", e);
         }
-
-        return moduleCode;
+        return listOfClass;
     }
 }
@@ -95,4 +95,23 @@ class JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelEmail, modelStudentId, modelTags);
     }
+
+    /**
+     * Converts this adapted person into the model's {@code Person} object like {@link #toModelType()}, but without
+     * checking the values of its fields, which must be known to be valid already.
+     *
+     * @throws IllegalValueException if any of its fields is missing.
+     */
+    Person toTrustedModelType() throws IllegalValueException {
+        if (name == null || email == null || studentId == null) {
+            String missingField = name == null ? Name.class.getSimpleName()
+                    : email == null ? Email.class.getSimpleName() : StudentId.class.getSimpleName();
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, missingField));
+        }
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        return new Person(new Name(name, true), new Email(email, true), new StudentId(studentId, true), modelTags);
+    }
 }
@@ -45,4 +45,17 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this adapted tag into the model's {@code Tag} object without checking it, for a tag known to be
+     * valid already.
+     *
+     * @throws IllegalValueException if the tag is missing its name.
+     */
+    Tag toTrustedModelType() throws IllegalValueException {
+        if (tagName == null) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+        return new Tag(tagName, true);
+    }
+
 }
@@ -1,27 +1,45 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.module.TeammateHistory;
 import seedu.address.model.module.TutorialClass;
 import seedu.address.model.module.TutorialTeam;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * Jackson-friendly version of {@link TutorialClass}.
+ * Students are stored by student ID; see {@link StudentReferences}.
  */
 public class JsonAdaptedTutorialClass {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "tutorial name is missing!";
+    public static final String MESSAGE_INVALID_TEAMMATE_HISTORY = "Teammate history of tutorial class %1$s is "
+            + "invalid: %2$s";
     private final String tutorialName;
+    private final List<String> studentIds = new ArrayList<>();
+    // students embedded by older versions of the data file, only ever read
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPerson> students = new ArrayList<>();
     private final List<JsonAdaptedTutorialTeam> teams = new ArrayList<>();
     private final int classSize;
+    // the teammate history, as its student IDs and then (student, student, times) for each pair that has been in a
+    // team together, which is far smaller than the whole matrix of counts
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> teammateIds = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final int[] teammatePairs;
 
     /**
      * Constructs a {@code JsonAdaptedTutorialClass} with the given {@code tutorialName} and {@code classSize}.
@@ -29,16 +47,26 @@ public class JsonAdaptedTutorialClass {
     @JsonCreator
     public JsonAdaptedTutorialClass(@JsonProperty("tutorialName") String tutorialName,
             @JsonProperty("teams") List<JsonAdaptedTutorialTeam> teams,
-            @JsonProperty("students") List<JsonAdaptedPerson> students, @JsonProperty("classSize") int classSize) {
+            @JsonProperty("studentIds") List<String> studentIds,
+            @JsonProperty("students") List<JsonAdaptedPerson> students, @JsonProperty("classSize") int classSize,
+            @JsonProperty("teammateIds") List<String> teammateIds,
+            @JsonProperty("teammatePairs") int[] teammatePairs) {
         this.tutorialName = tutorialName;
         if (teams != null) {
             this.teams.addAll(teams);
         }
 
+        if (studentIds != null) {
+            this.studentIds.addAll(studentIds);
+        }
         if (students != null) {
             this.students.addAll(students);
         }
         this.classSize = classSize;
+        if (teammateIds != null) {
+            this.teammateIds.addAll(teammateIds);
+        }
+        this.teammatePairs = teammatePairs == null ? new int[0] : teammatePairs;
     }
 
     /**
@@ -47,8 +75,11 @@ public class JsonAdaptedTutorialClass {
     public JsonAdaptedTutorialClass(TutorialClass source) {
         this.tutorialName = source.getTutorialClass().tutorialName;
         teams.addAll(source.getTeams().stream().map(JsonAdaptedTutorialTeam::new).collect(Collectors.toList()));
-        students.addAll(source.getStudents().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        studentIds.addAll(StudentReferences.toIds(source.getStudents()));
         this.classSize = source.getClassSize();
+        TeammateHistory history = source.getTeammateHistory();
+        history.getStudentIds().forEach(studentId -> teammateIds.add(studentId.value));
+        this.teammatePairs = history.getPairCounts();
     }
 
     public String getTutorialName() {
@@ -59,35 +90,107 @@ public class JsonAdaptedTutorialClass {
         return new ArrayList<>(teams);
     }
 
-    public List<JsonAdaptedPerson> getStudents() {
-        return new ArrayList<>(students);
+    public List<String> getStudentIds() {
+        return new ArrayList<>(studentIds);
+    }
+
+    public List<String> getTeammateIds() {
+        return new ArrayList<>(teammateIds);
+    }
+
+    public int[] getTeammatePairs() {
+        return teammatePairs.clone();
     }
 
     /**
      * Converts this Jackson-friendly adapted tutorial class object into the model's
-     * {@code TutorialClass} object.
+     * {@code TutorialClass} object, without any persons to resolve student IDs against.
      *
      * @throws IllegalValueException if there were any data constraints violated in
      *                               the adapted tutorial class.
      */
     public TutorialClass toModelType() throws IllegalValueException {
-        ArrayList<Person> listOfStudents = new ArrayList<>();
+        return toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tutorial class object into the model's
+     * {@code TutorialClass} object, taking its students from {@code personsById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in
+     *                               the adapted tutorial class.
+     */
+    public TutorialClass toModelType(Map<StudentId, Person> personsById) throws IllegalValueException {
+        return toModelType(personsById, false);
+    }
+
+    /**
+     * Converts this adapted tutorial class into the model's {@code TutorialClass} object like
+     * {@link #toModelType(Map)}. If {@code isTrusted}, the names and student IDs in it are known to be valid already
+     * and are not checked, but its students are still looked up.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in
+     *                               the adapted tutorial class.
+     */
+    TutorialClass toModelType(Map<StudentId, Person> personsById, boolean isTrusted) throws IllegalValueException {
         ArrayList<TutorialTeam> listOfTeams = new ArrayList<>();
+        checkFields(isTrusted);
+
+        ArrayList<Person> listOfStudents = StudentReferences.resolve(studentIds, students, personsById, isTrusted);
+        for (JsonAdaptedTutorialTeam team : teams) {
+            listOfTeams.add(team.toModelType(personsById, isTrusted));
+        }
+        return new TutorialClass(tutorialName, classSize, listOfStudents, listOfTeams, toTeammateHistory(isTrusted),
+                isTrusted);
+    }
+
+    /**
+     * Checks that {@link #toModelType(Map, boolean)} would succeed, without building the tutorial class.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in
+     *                               the adapted tutorial class.
+     */
+    void checkValid(Map<StudentId, Person> personsById, boolean isTrusted) throws IllegalValueException {
+        checkFields(isTrusted);
+        StudentReferences.checkResolvable(studentIds, students, personsById, isTrusted);
+        for (JsonAdaptedTutorialTeam team : teams) {
+            team.checkValid(personsById, isTrusted);
+        }
+    }
 
+    private void checkFields(boolean isTrusted) throws IllegalValueException {
         if (tutorialName == null) {
             throw new IllegalValueException(MISSING_FIELD_MESSAGE_FORMAT);
         }
-        if (!TutorialClass.isValidTutorialClass(tutorialName)) {
+        if (!isTrusted && !TutorialClass.isValidTutorialClass(tutorialName)) {
             throw new IllegalValueException(TutorialClass.MESSAGE_CONSTRAINTS);
         }
+        toTeammateHistory(isTrusted);
+    }
 
-        for (JsonAdaptedPerson student : students) {
-            listOfStudents.add(student.toModelType());
+    /**
+     * Returns the teammate history of this tutorial class.
+     * The students in it need not be in the address book any more, since they may have been deleted since.
+     *
+     * The format of the student IDs is not checked if {@code isTrusted}.
+     *
+     * @throws IllegalValueException if a student ID is invalid or repeated, or a pair is out of range.
+     */
+    private TeammateHistory toTeammateHistory(boolean isTrusted) throws IllegalValueException {
+        List<StudentId> historyIds = new ArrayList<>();
+        for (String teammateId : teammateIds) {
+            if (teammateId == null || !isTrusted && !StudentId.isValidStudentId(teammateId)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_TEAMMATE_HISTORY, tutorialName,
+                        StudentId.MESSAGE_CONSTRAINTS));
+            }
+            historyIds.add(new StudentId(teammateId, true));
         }
-        for (JsonAdaptedTutorialTeam team : teams) {
-            listOfTeams.add(team.toModelType());
+        try {
+            return new TeammateHistory(historyIds, teammatePairs);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TEAMMATE_HISTORY, tutorialName,
+                    e.getMessage()));
         }
-        return new TutorialClass(tutorialName, classSize, listOfStudents, listOfTeams);
     }
 
     @Override
@@ -101,7 +204,9 @@ public class JsonAdaptedTutorialClass {
         }
 
         JsonAdaptedTutorialClass otherTutorialClass = (JsonAdaptedTutorialClass) other;
-        return tutorialName.equals(otherTutorialClass.tutorialName) && students.equals(otherTutorialClass.students)
-                && teams.equals(otherTutorialClass.teams);
+        return tutorialName.equals(otherTutorialClass.tutorialName)
+                && studentIds.equals(otherTutorialClass.studentIds) && students.equals(otherTutorialClass.students)
+                && teams.equals(otherTutorialClass.teams) && teammateIds.equals(otherTutorialClass.teammateIds)
+                && Arrays.equals(teammatePairs, otherTutorialClass.teammatePairs);
     }
 }
@@ -1,24 +1,31 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.module.TutorialTeam;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
 
 /**
  * Jackson-friendly version of {@link TutorialTeam}.
+ * Members are stored by student ID; see {@link StudentReferences}.
  */
 public class JsonAdaptedTutorialTeam {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "team name is missing!";
     private final String teamName;
     private final int teamSize;
+    private final List<String> studentIds = new ArrayList<>();
+    // members embedded by older versions of the data file, only ever read
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPerson> students = new ArrayList<>();
 
     /**
@@ -28,8 +35,12 @@ public class JsonAdaptedTutorialTeam {
     @JsonCreator
     public JsonAdaptedTutorialTeam(@JsonProperty("teamName") String teamName,
             @JsonProperty("teamSize") int teamSize,
+            @JsonProperty("studentIds") List<String> studentIds,
             @JsonProperty("students") List<JsonAdaptedPerson> students) {
         this.teamName = teamName;
+        if (studentIds != null) {
+            this.studentIds.addAll(studentIds);
+        }
         if (students != null) {
             this.students.addAll(students);
         }
@@ -42,7 +53,7 @@ public class JsonAdaptedTutorialTeam {
     public JsonAdaptedTutorialTeam(TutorialTeam source) {
         this.teamName = source.getTeamName();
         this.teamSize = source.getTeamSize();
-        students.addAll(source.getStudents().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        studentIds.addAll(StudentReferences.toIds(source.getStudents()));
     }
 
     public String getTeamName() {
@@ -53,22 +64,63 @@ public class JsonAdaptedTutorialTeam {
         return teamSize;
     }
 
-    public List<JsonAdaptedPerson> getStudents() {
-        return this.students;
+    public List<String> getStudentIds() {
+        return this.studentIds;
     }
 
     /**
      * Converts this Jackson-friendly adapted tutorial team object into the model's
-     * {@code TutorialTeam} object.
+     * {@code TutorialTeam} object, without any persons to resolve student IDs against.
      *
      * @throws IllegalValueException if there were any data constraints violated in
      *                               the adapted tutorial team.
      */
     public TutorialTeam toModelType() throws IllegalValueException {
-        final ArrayList<Person> listOfStudents = new ArrayList<>();
+        return toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tutorial team object into the model's
+     * {@code TutorialTeam} object, taking its members from {@code personsById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in
+     *                               the adapted tutorial team.
+     */
+    public TutorialTeam toModelType(Map<StudentId, Person> personsById) throws IllegalValueException {
+        return toModelType(personsById, false);
+    }
+
+    /**
+     * Converts this adapted tutorial team into the model's {@code TutorialTeam} object like
+     * {@link #toModelType(Map)}. If {@code isTrusted}, its name and student IDs are known to be valid already and
+     * are not checked, but its students are still looked up.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tutorial team.
+     */
+    TutorialTeam toModelType(Map<StudentId, Person> personsById, boolean isTrusted) throws IllegalValueException {
+        checkFields(isTrusted);
+        final ArrayList<Person> listOfStudents = StudentReferences.resolve(studentIds, students, personsById,
+                isTrusted);
+        return new TutorialTeam(teamName, listOfStudents, teamSize, isTrusted);
+    }
+
+    /**
+     * Checks that {@link #toModelType(Map, boolean)} would succeed, without building the team.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tutorial team.
+     */
+    void checkValid(Map<StudentId, Person> personsById, boolean isTrusted) throws IllegalValueException {
+        checkFields(isTrusted);
+        StudentReferences.checkResolvable(studentIds, students, personsById, isTrusted);
+    }
+
+    private void checkFields(boolean isTrusted) throws IllegalValueException {
         if (teamName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, teamName));
         }
+        if (isTrusted) {
+            return;
+        }
         if (!TutorialTeam.isValidTeamName(teamName)) {
             throw new IllegalValueException(TutorialTeam.MESSAGE_NAME_CONSTRAINTS);
         }
@@ -76,10 +128,6 @@ public class JsonAdaptedTutorialTeam {
         if (!TutorialTeam.isValidSize(teamSize)) {
             throw new IllegalValueException(TutorialTeam.MESSAGE_SIZE_CONSTRAINTS);
         }
-        for (JsonAdaptedPerson student : students) {
-            listOfStudents.add(student.toModelType());
-        }
-        return new TutorialTeam(teamName, listOfStudents, teamSize);
     }
 
     @Override
@@ -93,7 +141,7 @@ public class JsonAdaptedTutorialTeam {
         }
 
         JsonAdaptedTutorialTeam otherTutorialTeam = (JsonAdaptedTutorialTeam) other;
-        return teamName.equals(otherTutorialTeam.teamName) && students.equals(otherTutorialTeam.students)
-                && teamSize == otherTutorialTeam.teamSize;
+        return teamName.equals(otherTutorialTeam.teamName) && studentIds.equals(otherTutorialTeam.studentIds)
+                && students.equals(otherTutorialTeam.students) && teamSize == otherTutorialTeam.teamSize;
     }
 }
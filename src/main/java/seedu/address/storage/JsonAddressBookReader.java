@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Reads an address book saved by {@link JsonSerializableAddressBook} from a file, one person or module at a time.
+ *
+ * Each element is converted into the model as soon as it has been parsed, so the file is never held in memory as a
+ * string or as a whole tree of {@code JsonAdapted*} objects. The result is the same as reading the file into a
+ * {@code JsonSerializableAddressBook} and calling {@code toModelType()}.
+ *
+ * Elements are parsed in batches of {@link #BATCH_SIZE}, and each batch is checked and converted in parallel while
+ * the parser waits, so that memory use stays bounded by the batch size.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Expected the address book to be a JSON object.";
+    public static final String MESSAGE_NOT_A_LIST = "Expected '%s' to be a JSON array.";
+
+    /** Number of persons or modules parsed before they are converted together. */
+    static final int BATCH_SIZE = 4096;
+
+    private static final ObjectReader PERSON_READER = JsonUtil.readerFor(JsonAdaptedPerson.class);
+    private static final ObjectReader MODULE_READER = JsonUtil.readerFor(JsonAdaptedModule.class);
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book in {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, false);
+    }
+
+    /**
+     * Reads the address book in {@code filePath}.
+     *
+     * @param isTrusted whether the values of the persons and modules in the file are known to be valid already, so
+     *                  that only duplicates, and the students the modules refer to, are checked for.
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath, boolean isTrusted) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return read(parser, isTrusted);
+        }
+    }
+
+    /**
+     * Reads the address book in {@code in} like {@link #read(Path, boolean)}, and closes {@code in}.
+     *
+     * @throws IOException if the stream cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(InputStream in, boolean isTrusted) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            return read(parser, isTrusted);
+        }
+    }
+
+    private static AddressBook read(JsonParser parser, boolean isTrusted) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        Map<StudentId, Person> personsById = null;
+        // modules that came before the persons they refer to, which can only happen in a hand-edited file
+        List<JsonAdaptedModule> pendingModules = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "schemaVersion":
+                if (value != JsonToken.VALUE_NULL) {
+                    JsonSerializableAddressBook.checkSchemaVersion(parser.getIntValue());
+                }
+                break;
+            case "persons":
+                personsById = JsonSerializableAddressBook.addPersons(addressBook, readPersons(parser, isTrusted));
+                break;
+            case "modules":
+                if (!isArray(parser, fieldName)) {
+                    break;
+                }
+                List<JsonAdaptedModule> batch = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedModule module = MODULE_READER.readValue(parser);
+                    if (personsById == null) {
+                        pendingModules.add(module);
+                        continue;
+                    }
+                    batch.add(module);
+                    if (batch.size() == BATCH_SIZE) {
+                        addModules(addressBook, batch, personsById, isTrusted);
+                        batch.clear();
+                    }
+                }
+                if (personsById != null) {
+                    addModules(addressBook, batch, personsById, isTrusted);
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        if (personsById == null) {
+            personsById = JsonSerializableAddressBook.addPersons(addressBook, new ArrayList<>());
+        }
+        addModules(addressBook, pendingModules, personsById, isTrusted);
+        return addressBook;
+    }
+
+    private static void addModules(AddressBook addressBook, List<JsonAdaptedModule> modules,
+            Map<StudentId, Person> personsById, boolean isTrusted) throws IllegalValueException {
+        for (ParallelConverter.Converted<ModuleCode> module : ParallelConverter.convertEach(modules,
+                JsonSerializableAddressBook.moduleConversion(personsById, isTrusted))) {
+            JsonSerializableAddressBook.addModule(addressBook, module.get());
+        }
+    }
+
+    private static List<Person> readPersons(JsonParser parser, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        ParallelConverter.Conversion<JsonAdaptedPerson, Person> conversion =
+                JsonSerializableAddressBook.personConversion(isTrusted);
+        List<Person> persons = new ArrayList<>();
+        if (!isArray(parser, "persons")) {
+            return persons;
+        }
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(PERSON_READER.readValue(parser));
+            if (batch.size() == BATCH_SIZE) {
+                persons.addAll(ParallelConverter.convertAll(batch, conversion));
+                batch.clear();
+            }
+        }
+        persons.addAll(ParallelConverter.convertAll(batch, conversion));
+        return persons;
+    }
+
+    /**
+     * Returns true if {@code parser} is at the start of an array, or false if it is at a null, which is read as an
+     * empty list.
+     *
+     * @throws JsonParseException if {@code parser} is at any other value.
+     */
+    private static boolean isArray(JsonParser parser, String fieldName) throws JsonParseException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_A_LIST, fieldName));
+        }
+        return true;
+    }
+}
@@ -2,7 +2,10 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,20 +14,42 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * A binary snapshot left by {@link BinaryAddressBookStorage} is read too, and is saved back as json.
+ * Files may be gzip-compressed; compression is detected when reading, whatever the file is named.
+ * Each save records the file's checksum beside it, and a file that still matches its checksum is loaded without
+ * checking its values again; see {@link DataFileChecksum}.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean prettyPrint;
+    private final boolean compress;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public JsonAddressBookStorage(Path filePath, boolean prettyPrint) {
+        this(filePath, prettyPrint, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath}.
+     *
+     * @param prettyPrint whether saved files are indented for reading by hand, rather than written compactly.
+     * @param compress whether saved files are gzip-compressed. Files named {@code *.gz} are compressed regardless.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean prettyPrint, boolean compress) {
         this.filePath = filePath;
+        this.prettyPrint = prettyPrint;
+        this.compress = compress;
     }
 
     public Path getAddressBookFilePath() {
@@ -44,21 +69,51 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return readDataFile(filePath);
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+    /**
+     * Reads the address book in {@code filePath}, which may hold either a JSON file or a binary snapshot, so that
+     * a data file can be read whichever format it was last saved in.
+     *
+     * @return the address book, or {@code Optional.empty()} if there is no file at {@code filePath}.
+     * @throws DataLoadingException if loading the data from the file failed.
+     */
+    static Optional<ReadOnlyAddressBook> readDataFile(Path filePath) throws DataLoadingException {
+        recoverUnfinishedSave(filePath);
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("Data file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(DataFileChecksum.read(filePath, JsonAddressBookStorage::read));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    private static AddressBook read(Path filePath, boolean isTrusted) throws IOException, IllegalValueException {
+        return read(Files.newInputStream(filePath), isTrusted);
+    }
+
+    /**
+     * Reads the address book in {@code in}, which may hold either a JSON file or a binary snapshot, and closes
+     * {@code in}.
+     */
+    private static AddressBook read(InputStream in, boolean isTrusted) throws IOException, IllegalValueException {
+        try (InputStream buffered = new BufferedInputStream(in)) {
+            if (BinaryAddressBookReader.isSnapshot(buffered)) {
+                return BinaryAddressBookReader.read(buffered, isTrusted);
+            }
+            return JsonAddressBookReader.read(buffered, isTrusted);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +128,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        boolean compressed = compress || FileUtil.hasCompressedFileName(filePath);
+        DataFileChecksum.writeAtomically(filePath, out -> JsonAddressBookWriter.write(addressBook,
+                compressed ? FileUtil.compressing(out) : out, prettyPrint));
+    }
+
+    /**
+     * Deals with the temp file left behind if the app stopped while saving to {@code filePath}.
+     * A temp file that holds a whole address book was written in full and is newer than {@code filePath}, so it
+     * takes the place of {@code filePath}. Any other temp file was cut short, and is deleted.
+     */
+    private static void recoverUnfinishedSave(Path filePath) throws DataLoadingException {
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        if (!FileUtil.isFileExists(tempFilePath)) {
+            return;
+        }
+
+        try {
+            try {
+                read(tempFilePath, false);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Discarding unfinished save " + tempFilePath + ": " + e.getMessage());
+                Files.delete(tempFilePath);
+                return;
+            }
+            logger.warning("Recovering " + filePath + " from unfinished save " + tempFilePath);
+            FileUtil.moveAtomically(tempFilePath, filePath);
+        } catch (IOException e) {
+            logger.warning("Could not recover from unfinished save " + tempFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // saves are written before saveAddressBook returns
     }
 
 }
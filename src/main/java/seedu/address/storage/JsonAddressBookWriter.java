@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book to a file in the layout of {@link JsonSerializableAddressBook}, one person or module at a
+ * time.
+ *
+ * Each element is adapted and written as it is reached, straight into the file through the generator's buffer, so
+ * the document is never built up as a string or as a whole tree of {@code JsonAdapted*} objects.
+ */
+class JsonAddressBookWriter {
+
+    private static final ObjectWriter PERSON_WRITER = JsonUtil.writerFor(JsonAdaptedPerson.class);
+    private static final ObjectWriter MODULE_WRITER = JsonUtil.writerFor(JsonAdaptedModule.class);
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, then closes {@code out}.
+     *
+     * @param prettyPrint whether the output is indented for reading by hand.
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean prettyPrint) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, prettyPrint)) {
+            generator.writeStartObject();
+            generator.writeNumberField("schemaVersion", JsonSerializableAddressBook.CURRENT_SCHEMA_VERSION);
+
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                PERSON_WRITER.writeValue(generator, new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("modules");
+            for (ModuleCode module : addressBook.getModuleList()) {
+                MODULE_WRITER.writeValue(generator, new JsonAdaptedModule(module));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
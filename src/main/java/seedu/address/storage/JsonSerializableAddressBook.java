@@ -1,8 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -14,26 +15,49 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.module.ModuleCode;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * Each person is stored once in {@code persons}; tutorial classes and teams refer to them by student ID.
+ * Files without a {@code schemaVersion} predate this and embed the persons in each class and team instead.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_MODULE = "Modules list contains duplicate module(s).";
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA = "Data file schema version %d is newer than the "
+            + "supported version %d.";
 
+    /** Version of the layout written by this class. */
+    public static final int CURRENT_SCHEMA_VERSION = 2;
+    /** Version assumed for files that do not record one, in which classes and teams embed their persons. */
+    public static final int LEGACY_SCHEMA_VERSION = 1;
+
+    private final int schemaVersion;
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedModule> modules = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons and
+     * Constructs a {@code JsonSerializableAddressBook} of the current schema version with the given persons and
+     * modules.
+     */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons, List<JsonAdaptedModule> modules) {
+        this(CURRENT_SCHEMA_VERSION, persons, modules);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given schema version, persons and
      * modules.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+    public JsonSerializableAddressBook(@JsonProperty("schemaVersion") Integer schemaVersion,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("modules") List<JsonAdaptedModule> modules) {
+        this.schemaVersion = schemaVersion == null ? LEGACY_SCHEMA_VERSION : schemaVersion;
         if (persons != null) {
             this.persons.addAll(persons);
         }
@@ -49,66 +73,97 @@ class JsonSerializableAddressBook {
      *               {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        schemaVersion = CURRENT_SCHEMA_VERSION;
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         modules.addAll(source.getModuleList().stream().map(JsonAdaptedModule::new).collect(Collectors.toList()));
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons and modules are checked and converted in parallel, but errors are reported as if they were not.
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object like {@link #toModelType()}.
+     *
+     * @param isTrusted whether the values of the persons and modules are known to be valid already, so that only
+     *                  duplicates, and the students the modules refer to, are checked for.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook toModelType(boolean isTrusted) throws IllegalValueException {
+        checkSchemaVersion(schemaVersion);
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-        for (JsonAdaptedModule jsonAdaptedModule : modules) {
-            ModuleCode module = jsonAdaptedModule.toModelType();
-            if (addressBook.hasModule(module)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
-            }
-            addressBook.addModule(module,
-                    module.getDescription());
+        List<Person> personList = ParallelConverter.convertAll(persons, personConversion(isTrusted));
+        Map<StudentId, Person> personsById = addPersons(addressBook, personList);
+        for (ParallelConverter.Converted<ModuleCode> module
+                : ParallelConverter.convertEach(modules, moduleConversion(personsById, isTrusted))) {
+            addModule(addressBook, module.get());
         }
         return addressBook;
     }
 
     /**
-     * Adds a person to the students list of a specific tutorial class within a
-     * module.
-     * @param tutorialName The name of the tutorial class to which the person will
-     *                     be added.
-     * @param person       The person to be added.
-     * @throws IllegalValueException if the tutorial class or module does not exist
-     *                               in the address book.
+     * Returns the conversion of adapted persons into the model, which checks their values unless {@code isTrusted}.
      */
-    public void addPersonToTutorialClass(String moduleName, String tutorialName, Person person)
+    static ParallelConverter.Conversion<JsonAdaptedPerson, Person> personConversion(boolean isTrusted) {
+        return isTrusted ? JsonAdaptedPerson::toTrustedModelType : JsonAdaptedPerson::toModelType;
+    }
+
+    /**
+     * Returns the conversion of adapted modules into the model, taking their students from {@code personsById}.
+     * The modules' values are checked unless {@code isTrusted}, but their students are always looked up.
+     */
+    static ParallelConverter.Conversion<JsonAdaptedModule, ModuleCode> moduleConversion(
+            Map<StudentId, Person> personsById, boolean isTrusted) {
+        return module -> module.toModelType(personsById, isTrusted);
+    }
+
+    /**
+     * Throws if a file of {@code schemaVersion} cannot be read by this version of the app.
+     */
+    static void checkSchemaVersion(int schemaVersion) throws IllegalValueException {
+        if (schemaVersion > CURRENT_SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA, schemaVersion,
+                    CURRENT_SCHEMA_VERSION));
+        }
+    }
+
+    /**
+     * Sets the persons of {@code addressBook} to {@code personList}.
+     *
+     * @return the persons keyed by student ID, for the classes and teams to take their students from, so that every
+     *         reference shares the same person.
+     * @throws IllegalValueException if {@code personList} contains duplicate persons.
+     */
+    static Map<StudentId, Person> addPersons(AddressBook addressBook, List<Person> personList)
             throws IllegalValueException {
-        // Find the module that contains the specified tutorial class
-        Optional<JsonAdaptedModule> moduleOptional = modules.stream()
-                .filter(moduleCode -> moduleCode.getModuleName().equals(moduleName))
-                .findFirst();
-
-        if (moduleOptional.isPresent()) {
-            JsonAdaptedModule module = moduleOptional.get();
-            // Find the tutorial class with the specified name
-            Optional<JsonAdaptedTutorialClass> tutorialOptional = module.getTutorialClasses().stream()
-                    .filter(tutorial -> tutorial.getTutorialName().equals(tutorialName))
-                    .findFirst();
-
-            if (tutorialOptional.isPresent()) {
-                JsonAdaptedTutorialClass tutorialClass = tutorialOptional.get();
-                // Add the person to the students list of the tutorial class
-                tutorialClass.getStudents().add(new JsonAdaptedPerson(person));
-            } else {
-                throw new IllegalValueException("Tutorial class '" + tutorialName + "' not found in module.");
-            }
-        } else {
-            throw new IllegalValueException("Module containing tutorial class '" + tutorialName + "' not found.");
+        List<String> duplicatePersons = UniquePersonList.findDuplicatePersons(personList);
+        if (!duplicatePersons.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON + " " + String.join("; ", duplicatePersons));
+        }
+        addressBook.setPersons(personList);
+
+        Map<StudentId, Person> personsById = new HashMap<>();
+        for (Person person : personList) {
+            personsById.put(person.getStudentId(), person);
+        }
+        return personsById;
+    }
+
+    /**
+     * Adds {@code module} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code addressBook} already has the module.
+     */
+    static void addModule(AddressBook addressBook, ModuleCode module) throws IllegalValueException {
+        if (addressBook.hasModule(module)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE);
         }
+        addressBook.addModule(module,
+                module.getDescription());
     }
 }
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Checks and converts lists of Jackson-friendly adapted objects into the model in parallel, on the common fork-join
+ * pool.
+ *
+ * Results keep the order of the objects they were converted from, and a failed conversion is only reported when its
+ * result is reached in that order. A bad file therefore gives the same error as a conversion on one thread would,
+ * no matter which thread fails first.
+ */
+class ParallelConverter {
+
+    /** Lists shorter than this are converted on the calling thread, as splitting them costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private ParallelConverter() {}
+
+    /**
+     * Converts one adapted object into the model.
+     */
+    @FunctionalInterface
+    interface Conversion<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Converts each of {@code adaptedObjects}, returning the results in the same order.
+     * The conversions of different objects may run at the same time, so they must not share mutable state.
+     */
+    static <A, M> List<Converted<M>> convertEach(List<A> adaptedObjects, Conversion<A, M> conversion) {
+        requireNonNull(adaptedObjects);
+        requireNonNull(conversion);
+        if (adaptedObjects.size() < PARALLEL_THRESHOLD) {
+            List<Converted<M>> results = new ArrayList<>(adaptedObjects.size());
+            for (A adapted : adaptedObjects) {
+                results.add(Converted.of(adapted, conversion));
+            }
+            return results;
+        }
+        return adaptedObjects.parallelStream()
+                .map(adapted -> Converted.of(adapted, conversion))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Converts all of {@code adaptedObjects}, returning the results in the same order.
+     *
+     * @throws IllegalValueException the error of the first object, in list order, that could not be converted.
+     */
+    static <A, M> List<M> convertAll(List<A> adaptedObjects, Conversion<A, M> conversion)
+            throws IllegalValueException {
+        List<Converted<M>> results = convertEach(adaptedObjects, conversion);
+        List<M> converted = new ArrayList<>(results.size());
+        for (Converted<M> result : results) {
+            converted.add(result.get());
+        }
+        return converted;
+    }
+
+    /**
+     * The model object converted from an adapted object, or the error that stopped the conversion.
+     */
+    static class Converted<M> {
+        private final M value;
+        private final IllegalValueException illegalValue;
+        private final RuntimeException runtimeException;
+
+        private Converted(M value, IllegalValueException illegalValue, RuntimeException runtimeException) {
+            this.value = value;
+            this.illegalValue = illegalValue;
+            this.runtimeException = runtimeException;
+        }
+
+        private static <A, M> Converted<M> of(A adapted, Conversion<A, M> conversion) {
+            try {
+                return new Converted<>(conversion.convert(adapted), null, null);
+            } catch (IllegalValueException e) {
+                return new Converted<>(null, e, null);
+            } catch (RuntimeException e) {
+                return new Converted<>(null, null, e);
+            }
+        }
+
+        /**
+         * Returns the converted model object, or throws the error that stopped the conversion.
+         */
+        M get() throws IllegalValueException {
+            if (illegalValue != null) {
+                throw illegalValue;
+            }
+            if (runtimeException != null) {
+                throw runtimeException;
+            }
+            return value;
+        }
+    }
+}
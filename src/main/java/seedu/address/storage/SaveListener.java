@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Told whether a save handed to storage was written, once that is known.
+ * Storages that write in the background tell it from their writer thread, after the save has returned.
+ */
+public interface SaveListener {
+
+    /** A {@code SaveListener} that ignores what it is told. */
+    SaveListener NONE = new SaveListener() {
+        @Override
+        public void saved() {}
+
+        @Override
+        public void failed(IOException e) {}
+    };
+
+    /**
+     * Called once the save is on the disk.
+     */
+    void saved();
+
+    /**
+     * Called if the save could not be written, with the reason why.
+     */
+    void failed(IOException e);
+}
@@ -0,0 +1,431 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A class to access AddressBook data stored as a directory of json files on the hard disk: one shard file for the
+ * persons and one for each module, named by an index file.
+ *
+ * A save that is told the changes made since the last read or save writes only the shards those changes touch, each
+ * under a new name, and names the shards of the last read or save again for the rest, so modules that were neither
+ * changed nor looked at are not even built. The shards are committed together by replacing the index. Shards that
+ * the index no longer names are deleted afterwards, or on the next read if the app stopped before then. Module shards
+ * are read and converted in parallel.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    /** Name of the file in the directory that names the current shards. */
+    public static final String INDEX_FILE_NAME = "index.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String DATA_FILE_SUFFIX = ".json";
+    private static final String MODULES_DIRECTORY_NAME = "modules";
+    private static final String PERSONS_SHARD_PREFIX = "persons.";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final ObjectReader INDEX_READER = JsonUtil.readerFor(ShardIndex.class);
+    private static final ObjectWriter INDEX_WRITER = JsonUtil.writerFor(ShardIndex.class);
+    private static final ObjectReader PERSONS_READER = JsonUtil.readerFor(JsonAdaptedPerson[].class);
+    private static final ObjectWriter PERSON_WRITER = JsonUtil.writerFor(JsonAdaptedPerson.class);
+    private static final ObjectReader MODULE_READER = JsonUtil.readerFor(JsonAdaptedModule.class);
+    private static final ObjectWriter MODULE_WRITER = JsonUtil.writerFor(JsonAdaptedModule.class);
+
+    private final Path directoryPath;
+    private final boolean prettyPrint;
+    // the shards known to be on the disk, for each directory read from or saved to
+    private final Map<Path, SavedShards> savedShardsByDirectory = new HashMap<>();
+
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, false);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the directory at {@code directoryPath}.
+     *
+     * @param prettyPrint whether saved shards are indented for reading by hand, rather than written compactly.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, boolean prettyPrint) {
+        requireNonNull(directoryPath);
+        this.directoryPath = directoryPath;
+        this.prettyPrint = prettyPrint;
+    }
+
+    /**
+     * Returns true if the address book at {@code path} is kept in this directory layout rather than as a single
+     * file: either {@code path} is an existing directory, or nothing is there yet and its name has no extension,
+     * such as {@code .json}.
+     */
+    public static boolean isShardedLayout(Path path) {
+        requireNonNull(path);
+        if (Files.isDirectory(path)) {
+            return true;
+        }
+        return !Files.exists(path) && !path.getFileName().toString().contains(".");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath)
+            throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        Path indexPath = directoryPath.resolve(INDEX_FILE_NAME);
+        if (!Files.exists(indexPath)) {
+            return Optional.empty();
+        }
+        logger.info("Sharded data directory " + directoryPath + " found.");
+
+        try {
+            ShardIndex index = INDEX_READER.readValue(Files.readAllBytes(indexPath));
+            JsonSerializableAddressBook.checkSchemaVersion(index.schemaVersion);
+            SavedShards saved = new SavedShards(index.generation);
+            AddressBook addressBook = new AddressBook();
+
+            List<Person> persons = new ArrayList<>();
+            if (index.persons != null) {
+                JsonAdaptedPerson[] adaptedPersons = PERSONS_READER.readValue(readShard(directoryPath, index.persons));
+                saved.persons = index.persons;
+                persons = ParallelConverter.convertAll(Arrays.asList(adaptedPersons), JsonAdaptedPerson::toModelType);
+            }
+            Map<StudentId, Person> personsById = JsonSerializableAddressBook.addPersons(addressBook, persons);
+
+            for (LoadedModule loaded : readModuleShards(directoryPath, index.modules, personsById)) {
+                JsonSerializableAddressBook.addModule(addressBook, loaded.module);
+                saved.modules.put(loaded.module.moduleCode, loaded.shardName);
+            }
+
+            savedShardsByDirectory.put(directoryPath, saved);
+            deleteUnnamedShards(directoryPath, saved);
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from sharded data directory " + directoryPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads and converts the module shards named {@code shardNames} in parallel.
+     * If any shards cannot be read, the error of the first of them in {@code shardNames} is thrown, whichever shard
+     * failed first in time.
+     */
+    private static List<LoadedModule> readModuleShards(Path directoryPath, List<String> shardNames,
+            Map<StudentId, Person> personsById) throws IOException, IllegalValueException {
+        List<LoadedModule> loadedModules = shardNames.parallelStream()
+                .map(shardName -> LoadedModule.read(directoryPath, shardName, personsById))
+                .collect(Collectors.toList());
+        for (LoadedModule loaded : loadedModules) {
+            loaded.throwIfFailed();
+        }
+        return loadedModules;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Every shard is written, as the changes since the last
+     * save are not known.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+        save(addressBook, directoryPath, null);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code directoryPath}, writing only the shards that {@code changes} touch.
+     * The shards of modules that were not changed are named again as they were read or last saved.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath,
+            AddressBookDelta changes) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+        requireNonNull(changes);
+        save(addressBook, directoryPath, changes);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code directoryPath}, given the {@code changes} made since the shards on the disk
+     * were read or saved, or null if they are not known.
+     */
+    private void save(ReadOnlyAddressBook addressBook, Path directoryPath, AddressBookDelta changes)
+            throws IOException {
+        SavedShards saved = savedShardsFor(directoryPath);
+        // the changes will not be told again, so a save that fails leaves nothing known about the shards on the disk
+        savedShardsByDirectory.remove(directoryPath);
+        SavedShards next = new SavedShards(saved.generation + 1);
+        Files.createDirectories(directoryPath.resolve(MODULES_DIRECTORY_NAME));
+
+        boolean isEveryShardWritten = changes == null || changes.isWholeBookReplaced();
+        if (isEveryShardWritten || saved.persons == null || !changes.getPersonChanges().isEmpty()) {
+            next.persons = writeShard(directoryPath, PERSONS_SHARD_PREFIX + next.generation + DATA_FILE_SUFFIX,
+                    generator -> {
+                        generator.writeStartArray();
+                        for (Person person : addressBook.getPersonList()) {
+                            PERSON_WRITER.writeValue(generator, new JsonAdaptedPerson(person));
+                        }
+                        generator.writeEndArray();
+                    });
+        } else {
+            next.persons = saved.persons;
+        }
+
+        // modules refer to students by their IDs, and a module that has not been built cannot have been changed
+        boolean isBuiltModuleChanged = !isEveryShardWritten && isAnyStudentIdChanged(changes);
+        List<String> moduleShardNames = new ArrayList<>();
+        for (ModuleCode module : addressBook.getModuleList()) {
+            String shardName = saved.modules.get(module.moduleCode);
+            if (isEveryShardWritten || shardName == null || changes.getChangedModuleCodes().contains(module.moduleCode)
+                    || isBuiltModuleChanged && module.hasBuiltTutorialClasses()) {
+                JsonAdaptedModule adaptedModule = new JsonAdaptedModule(module);
+                shardName = writeShard(directoryPath, moduleShardName(module.moduleCode, next.generation),
+                        generator -> MODULE_WRITER.writeValue(generator, adaptedModule));
+            }
+            next.modules.put(module.moduleCode, shardName);
+            moduleShardNames.add(shardName);
+        }
+
+        // the new shards only take effect once the index names them
+        ShardIndex index = new ShardIndex(JsonSerializableAddressBook.CURRENT_SCHEMA_VERSION, next.generation,
+                next.persons, moduleShardNames);
+        byte[] indexContents = INDEX_WRITER.writeValueAsBytes(index);
+        FileUtil.writeAtomically(directoryPath.resolve(INDEX_FILE_NAME), out -> out.write(indexContents));
+        savedShardsByDirectory.put(directoryPath, next);
+        deleteUnnamedShards(directoryPath, next);
+    }
+
+    /**
+     * Returns true if {@code changes} removed a person or changed the student ID of one, which changes the modules
+     * that refer to that person.
+     */
+    private static boolean isAnyStudentIdChanged(AddressBookDelta changes) {
+        return changes.getPersonChanges().stream()
+                .anyMatch(change -> change.getTarget() != null && (change.getPerson() == null
+                        || !change.getPerson().getStudentId().equals(change.getTarget())));
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // saves are written before saveAddressBook returns
+    }
+
+    /**
+     * Returns the shards on the disk in {@code directoryPath}, reading its index if it has not been read or saved to
+     * yet. Which module each shard known only from the index holds is unknown, so they are all written again.
+     */
+    private SavedShards savedShardsFor(Path directoryPath) throws IOException {
+        SavedShards saved = savedShardsByDirectory.get(directoryPath);
+        if (saved != null) {
+            return saved;
+        }
+        Path indexPath = directoryPath.resolve(INDEX_FILE_NAME);
+        if (!Files.exists(indexPath)) {
+            return new SavedShards(0);
+        }
+        return new SavedShards(INDEX_READER.<ShardIndex>readValue(Files.readAllBytes(indexPath)).generation);
+    }
+
+    /**
+     * Writes the shard named {@code shardName} in {@code directoryPath}, and returns its name.
+     */
+    private String writeShard(Path directoryPath, String shardName, ShardContents shardContents) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, prettyPrint)) {
+            shardContents.writeTo(generator);
+        }
+        byte[] contents = out.toByteArray();
+        FileUtil.writeAtomically(directoryPath.resolve(shardName), fileOut -> fileOut.write(contents));
+        return shardName;
+    }
+
+    /**
+     * Deletes the shards in {@code directoryPath} that {@code saved} does not name, along with temp files left by
+     * unfinished writes. Files that cannot be deleted are left for the next time.
+     */
+    private static void deleteUnnamedShards(Path directoryPath, SavedShards saved) {
+        Set<String> namedShards = new HashSet<>();
+        if (saved.persons != null) {
+            namedShards.add(saved.persons);
+        }
+        namedShards.addAll(saved.modules.values());
+
+        deleteUnnamedFiles(directoryPath, "", namedShards);
+        deleteUnnamedFiles(directoryPath, MODULES_DIRECTORY_NAME + "/", namedShards);
+    }
+
+    private static void deleteUnnamedFiles(Path directoryPath, String prefix, Set<String> namedShards) {
+        Path shardDirectory = directoryPath.resolve(prefix);
+        if (!Files.isDirectory(shardDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!namedShards.contains(prefix + fileName) && isShardOrTempFile(prefix, fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not delete old shards in " + shardDirectory + ": " + e);
+        }
+    }
+
+    private static boolean isShardOrTempFile(String prefix, String fileName) {
+        if (fileName.endsWith(TEMP_FILE_SUFFIX)) {
+            return true;
+        }
+        // the only shards directly in the directory are persons shards, next to the index
+        boolean isShardName = !prefix.isEmpty() || fileName.startsWith(PERSONS_SHARD_PREFIX);
+        return isShardName && fileName.endsWith(DATA_FILE_SUFFIX);
+    }
+
+    private static String moduleShardName(String moduleCode, long generation) {
+        return MODULES_DIRECTORY_NAME + "/" + moduleCode + "." + generation + DATA_FILE_SUFFIX;
+    }
+
+    private static byte[] readShard(Path directoryPath, String shardName) throws IOException {
+        try {
+            return Files.readAllBytes(directoryPath.resolve(shardName));
+        } catch (NoSuchFileException e) {
+            throw new IOException("Shard " + shardName + " named by the index is missing.", e);
+        }
+    }
+
+    /**
+     * Writes the contents of a shard.
+     */
+    @FunctionalInterface
+    private interface ShardContents {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * The shards named by the index of a directory, with the module code each module shard holds.
+     */
+    private static class SavedShards {
+        private final long generation;
+        private final Map<String, String> modules = new LinkedHashMap<>();
+        private String persons;
+
+        SavedShards(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * A module shard that has been read, or the error that stopped it from being read.
+     */
+    private static class LoadedModule {
+        private final ModuleCode module;
+        private final String shardName;
+        private final Exception failure;
+
+        private LoadedModule(ModuleCode module, String shardName, Exception failure) {
+            this.module = module;
+            this.shardName = shardName;
+            this.failure = failure;
+        }
+
+        static LoadedModule read(Path directoryPath, String shardName, Map<StudentId, Person> personsById) {
+            try {
+                JsonAdaptedModule module = MODULE_READER.readValue(readShard(directoryPath, shardName));
+                return new LoadedModule(module.toModelType(personsById), shardName, null);
+            } catch (IOException | IllegalValueException e) {
+                return new LoadedModule(null, null, e);
+            }
+        }
+
+        void throwIfFailed() throws IOException, IllegalValueException {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly contents of the index file.
+     */
+    static class ShardIndex {
+        private final int schemaVersion;
+        private final long generation;
+        private final String persons;
+        private final List<String> modules = new ArrayList<>();
+
+        @JsonCreator
+        ShardIndex(@JsonProperty("schemaVersion") Integer schemaVersion, @JsonProperty("generation") long generation,
+                @JsonProperty("persons") String persons, @JsonProperty("modules") List<String> modules) {
+            this.schemaVersion = schemaVersion == null ? JsonSerializableAddressBook.CURRENT_SCHEMA_VERSION
+                    : schemaVersion;
+            this.generation = generation;
+            this.persons = persons;
+            if (modules != null) {
+                this.modules.addAll(modules);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +30,11 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves the changes in {@code delta}, which turn the address book last saved into {@code addressBook}.
+     * The changes are appended to a journal when possible, and {@code addressBook} is saved in full otherwise.
+     * {@code listener} is told once the changes are on the disk, or if there was any problem writing them.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta delta, SaveListener listener);
+
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -7,6 +9,8 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,6 +23,9 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final AddressBookJournal journal;
+    // the changes made since the last full save, which the next full save is told of
+    private AddressBookDelta unsavedChanges = new AddressBookDelta();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage}
@@ -27,6 +34,7 @@ public class StorageManager implements Storage {
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.journal = new AddressBookJournal(addressBookStorage.getAddressBookFilePath());
     }
 
     // ================ UserPrefs methods ==============================
@@ -72,9 +80,26 @@ public class StorageManager implements Storage {
             });
         });
 
+        if (addressBookOptional.isPresent() && filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            return Optional.of(replayJournal(addressBookOptional.get()));
+        }
         return addressBookOptional;
     }
 
+    private ReadOnlyAddressBook replayJournal(ReadOnlyAddressBook snapshot) {
+        AddressBook addressBook = snapshot instanceof AddressBook ? (AddressBook) snapshot : new AddressBook(snapshot);
+        // the changes replayed from the journal are not in the data file yet, unlike the rest of the address book
+        addressBook.takeDelta();
+        try {
+            int replayedCount = journal.replayOnto(addressBook);
+            logger.fine("Replayed " + replayedCount + " journal entries from " + journal.getJournalPath());
+        } catch (IOException e) {
+            logger.warning("Could not read journal " + journal.getJournalPath() + ", ignoring it: " + e);
+        }
+        unsavedChanges = addressBook.takeDelta();
+        return addressBook;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -83,7 +108,72 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            journal.invalidate();
+            unsavedChanges = new AddressBookDelta();
+        }
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * Appends {@code delta} to the journal, or saves {@code addressBook} in full and starts the journal afresh.
+     * A full save is told of every change made since the last one, so that it can write only the parts they touch.
+     * Both are written in order with the saves of the address book storage, so they are written in the background
+     * if it writes saves in the background.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta delta,
+            SaveListener listener) {
+        requireAllNonNull(addressBook, delta, listener);
+        unsavedChanges.append(delta);
+        if (journal.canAppend() && !delta.isWholeBookReplaced()) {
+            byte[] entry;
+            try {
+                entry = delta.isEmpty() ? null : journal.queueEntry(delta);
+            } catch (IOException e) {
+                journal.invalidate();
+                listener.failed(e);
+                return;
+            }
+            // an empty delta is still confirmed in order, once the saves before it are written
+            addressBookStorage.writeAfterSaves(() -> {
+                if (entry != null) {
+                    journal.append(entry);
+                }
+            }, listener);
+            return;
+        }
+
+        // the journal is started afresh only once the full save is on the disk, as it builds on that save
+        logger.fine("Compacting journal " + journal.getJournalPath() + " into a full save");
+        journal.queueReset();
+        AddressBookDelta changes = unsavedChanges;
+        unsavedChanges = new AddressBookDelta();
+        addressBookStorage.saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath(), changes,
+                new SaveListener() {
+                    @Override
+                    public void saved() {
+                        try {
+                            journal.reset();
+                        } catch (IOException e) {
+                            listener.failed(e);
+                            return;
+                        }
+                        listener.saved();
+                    }
+
+                    @Override
+                    public void failed(IOException e) {
+                        // the changes are lost from the journal, so the next save must be a full one
+                        journal.fail();
+                        listener.failed(e);
+                    }
+                });
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        addressBookStorage.flushAddressBook();
+    }
+
 }
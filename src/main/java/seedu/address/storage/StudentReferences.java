@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * Resolves the students referred to by a stored tutorial class or team against the persons of the address book.
+ *
+ * Classes and teams are stored as lists of student IDs that point into the top-level persons list, so that each
+ * student is written once and every class and team of a loaded address book shares the same {@code Person}.
+ * Files written before this layout embed whole persons instead; those are still read and resolved the same way.
+ */
+final class StudentReferences {
+
+    public static final String MESSAGE_UNKNOWN_STUDENT = "Student ID %s does not belong to any person in the list.";
+
+    private static final Logger logger = LogsCenter.getLogger(StudentReferences.class);
+
+    private StudentReferences() {}
+
+    /**
+     * Returns the IDs of {@code students}, in order.
+     */
+    static List<String> toIds(List<Person> students) {
+        List<String> studentIds = new ArrayList<>(students.size());
+        for (Person student : students) {
+            studentIds.add(student.getStudentId().value);
+        }
+        return studentIds;
+    }
+
+    /**
+     * Returns the persons referred to by {@code studentIds}, followed by those embedded in {@code legacyStudents}.
+     * Each student is looked up in {@code personsById}, so the same {@code Person} is shared by every reference.
+     * An embedded person who is not in {@code personsById} is a stale copy left behind by older versions, and is
+     * dropped with a warning, since it could not be saved as a student ID reference.
+     * The student IDs are looked up without checking their format if {@code isTrusted}.
+     *
+     * @throws IllegalValueException if a student ID is invalid or is not in {@code personsById}, or if an embedded
+     *                               person is invalid.
+     */
+    static ArrayList<Person> resolve(List<String> studentIds, List<JsonAdaptedPerson> legacyStudents,
+            Map<StudentId, Person> personsById, boolean isTrusted) throws IllegalValueException {
+        ArrayList<Person> students = new ArrayList<>(studentIds.size() + legacyStudents.size());
+        for (String studentId : studentIds) {
+            students.add(lookUp(studentId, personsById, isTrusted));
+        }
+        for (JsonAdaptedPerson legacyStudent : legacyStudents) {
+            Person embedded = legacyStudent.toModelType();
+            Person student = personsById.get(embedded.getStudentId());
+            if (student == null) {
+                logger.warning("Dropping " + embedded.getName() + " (" + embedded.getStudentId()
+                        + ") from a class or team, as they are not in the list of persons");
+                continue;
+            }
+            students.add(student);
+        }
+        return students;
+    }
+
+    /**
+     * Checks that {@link #resolve(List, List, Map, boolean)} would succeed, without building the list of students.
+     *
+     * @throws IllegalValueException if a student ID is invalid or is not in {@code personsById}, or if an embedded
+     *                               person is invalid.
+     */
+    static void checkResolvable(List<String> studentIds, List<JsonAdaptedPerson> legacyStudents,
+            Map<StudentId, Person> personsById, boolean isTrusted) throws IllegalValueException {
+        for (String studentId : studentIds) {
+            lookUp(studentId, personsById, isTrusted);
+        }
+        for (JsonAdaptedPerson legacyStudent : legacyStudents) {
+            legacyStudent.toModelType();
+        }
+    }
+
+    private static Person lookUp(String studentId, Map<StudentId, Person> personsById, boolean isTrusted)
+            throws IllegalValueException {
+        if (studentId == null || !isTrusted && !StudentId.isValidStudentId(studentId)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        Person student = personsById.get(new StudentId(studentId, true));
+        if (student == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_STUDENT, studentId));
+        }
+        return student;
+    }
+}
@@ -0,0 +1,271 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes saves in the background through another {@code AddressBookStorage}.
+ *
+ * A save takes a snapshot of the address book and returns without waiting for the write, so the caller (usually
+ * the JavaFX application thread) is not held up by disk I/O. Saves that arrive while an earlier one is being written
+ * are coalesced: only the latest is written once the writer is free. Writes made through
+ * {@link #writeAfterSaves(FileWrite, SaveListener)} are queued in order with the saves, and are never coalesced.
+ *
+ * Whether a save was written is told to the {@link SaveListener} it was made with, from the writer thread, as soon
+ * as the write is done. A save that is coalesced into a later one is written, or fails, together with that save.
+ * A failed write is also logged, and is thrown from the next call to {@link #flushAddressBook()}.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer;
+
+    private final Object lock = new Object();
+    // the saves and writes that have not been started yet, in the order they were made
+    private final Deque<PendingWrite> pendingWrites = new ArrayDeque<>();
+    private boolean isWriting;
+    // the failure of the last write, until it is thrown from flushAddressBook
+    private IOException failure;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes through {@code storage} on a background thread.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book after any saves made so far have been written.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        awaitWrites();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        saveAddressBook(addressBook, filePath, SaveListener.NONE);
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written to {@code filePath}, replacing any queued save that has
+     * not been started yet, and returns without waiting for the write.
+     * {@code listener} is told from the writer thread once the snapshot has been written or has failed to be.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, SaveListener listener) {
+        queueSave(addressBook, filePath, null, listener);
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written to {@code filePath} like
+     * {@link #saveAddressBook(ReadOnlyAddressBook, Path, SaveListener)}. A queued save it replaces has its
+     * {@code changes} added to those of this one, so the snapshot is written with every change since the last write.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, AddressBookDelta changes,
+            SaveListener listener) {
+        requireNonNull(changes);
+        queueSave(addressBook, filePath, changes, listener);
+    }
+
+    /**
+     * Queues a save of a snapshot of {@code addressBook}, given the {@code changes} made since the last save, or
+     * null if they are not known.
+     */
+    private void queueSave(ReadOnlyAddressBook addressBook, Path filePath, AddressBookDelta changes,
+            SaveListener listener) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        requireNonNull(listener);
+
+        ReadOnlyAddressBook snapshot = AddressBook.snapshotOf(addressBook);
+        synchronized (lock) {
+            List<SaveListener> coalescedListeners = new ArrayList<>();
+            AddressBookDelta unwrittenChanges = changes;
+            PendingWrite lastWrite = pendingWrites.peekLast();
+            if (lastWrite != null && lastWrite.isSaveTo(filePath)) {
+                logger.fine("Coalescing unwritten save to " + filePath);
+                pendingWrites.removeLast();
+                coalescedListeners.addAll(lastWrite.listeners);
+                unwrittenChanges = lastWrite.changes == null || changes == null ? null : lastWrite.changes;
+                if (unwrittenChanges != null) {
+                    unwrittenChanges.append(changes);
+                }
+            }
+
+            AddressBookDelta savedChanges = unwrittenChanges;
+            FileWrite write = savedChanges == null
+                    ? () -> storage.saveAddressBook(snapshot, filePath)
+                    : () -> storage.saveAddressBook(snapshot, filePath, savedChanges);
+            PendingWrite save = new PendingWrite(write, filePath, savedChanges, listener);
+            save.listeners.addAll(0, coalescedListeners);
+            queue(save);
+        }
+    }
+
+    /**
+     * Queues {@code write} to be run on the writer thread once every save made so far has been written, and returns
+     * without waiting for it.
+     * {@code listener} is told from the writer thread once {@code write} has been run or has failed.
+     */
+    @Override
+    public void writeAfterSaves(FileWrite write, SaveListener listener) {
+        requireNonNull(write);
+        requireNonNull(listener);
+        synchronized (lock) {
+            queue(new PendingWrite(write, null, null, listener));
+        }
+    }
+
+    private void queue(PendingWrite write) {
+        assert Thread.holdsLock(lock);
+        pendingWrites.addLast(write);
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::runPendingWrites);
+        }
+    }
+
+    /**
+     * Waits until every save made so far has been written.
+     *
+     * @throws IOException if the last write failed.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        awaitWrites();
+        throwFailure();
+    }
+
+    private void runPendingWrites() {
+        while (true) {
+            PendingWrite write;
+            synchronized (lock) {
+                write = pendingWrites.pollFirst();
+                if (write == null) {
+                    isWriting = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            IOException writeFailure = null;
+            try {
+                write.write.run();
+            } catch (IOException e) {
+                logger.warning("Failed to write " + write.describe() + ": " + StringUtil.getDetails(e));
+                writeFailure = e;
+            }
+            synchronized (lock) {
+                if (failure != null && writeFailure == null) {
+                    logger.info("Wrote " + write.describe() + " after an earlier write failed");
+                }
+                failure = writeFailure;
+            }
+            // the listeners are told before the next write is started, so that they can rely on the order of writes
+            for (SaveListener listener : write.listeners) {
+                if (writeFailure == null) {
+                    listener.saved();
+                } else {
+                    listener.failed(writeFailure);
+                }
+            }
+        }
+    }
+
+    private void awaitWrites() {
+        synchronized (lock) {
+            while (isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Throws the failure of the last write, if it failed, and clears it so that it is only thrown once.
+     */
+    private void throwFailure() throws IOException {
+        IOException lastFailure;
+        synchronized (lock) {
+            lastFailure = failure;
+            failure = null;
+        }
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * A write waiting to be run, with the listeners of every save or write it stands for.
+     * A save of a snapshot of an address book has the {@code filePath} it is written to, and the {@code changes} it
+     * is written with, if they are known; other writes have neither.
+     */
+    private static class PendingWrite {
+        private final FileWrite write;
+        private final Path filePath;
+        private final AddressBookDelta changes;
+        private final List<SaveListener> listeners = new ArrayList<>();
+
+        PendingWrite(FileWrite write, Path filePath, AddressBookDelta changes, SaveListener listener) {
+            this.write = write;
+            this.filePath = filePath;
+            this.changes = changes;
+            listeners.add(listener);
+        }
+
+        boolean isSaveTo(Path path) {
+            return path.equals(filePath);
+        }
+
+        String describe() {
+            return filePath == null ? "file kept beside the data file" : "data file " + filePath;
+        }
+    }
+}
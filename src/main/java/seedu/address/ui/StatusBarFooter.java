@@ -17,6 +17,9 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label saveStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +28,11 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows {@code status} about the saving of the data, or clears it if {@code status} is empty.
+     */
+    public void setSaveStatus(String status) {
+        saveStatus.setText(status);
+    }
+
 }
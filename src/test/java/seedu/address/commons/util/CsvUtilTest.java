@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void readRecord_plainFields_splitAtCommas() throws Exception {
+        BufferedReader reader = reader("a,b,,c\n d \n");
+        assertEquals(Arrays.asList("a", "b", "", "c"), CsvUtil.readRecord(reader));
+        assertEquals(Arrays.asList(" d "), CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_quotedFields_unquoted() throws Exception {
+        BufferedReader reader = reader("\"Tan, Ah Kow\",\"say \"\"hi\"\"\",\"two\nlines\",last\r\nnext");
+        assertEquals(Arrays.asList("Tan, Ah Kow", "say \"hi\"", "two\nlines", "last"), CsvUtil.readRecord(reader));
+        assertEquals(Arrays.asList("next"), CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        assertThrows(IOException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, () ->
+                CsvUtil.readRecord(reader("\"never\nclosed")));
+    }
+
+    @Test
+    public void formatRecord_readBack_sameFields() throws Exception {
+        List<String> fields = Arrays.asList("plain", "with, comma", "with \"quotes\"", "two\nlines", "");
+        String record = CsvUtil.formatRecord(fields);
+
+        assertEquals("plain,\"with, comma\",\"with \"\"quotes\"\"\",\"two\nlines\",", record);
+        assertEquals(fields, CsvUtil.readRecord(reader(record)));
+    }
+
+    private static BufferedReader reader(String contents) {
+        return new BufferedReader(new StringReader(contents));
+    }
+}
@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,54 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void hasCompressedFileName() {
+        assertTrue(FileUtil.hasCompressedFileName(Paths.get("data", "tahelper.json.gz")));
+        assertTrue(FileUtil.hasCompressedFileName(Paths.get("roster.CSV.GZ")));
+        assertFalse(FileUtil.hasCompressedFileName(Paths.get("data", "tahelper.json")));
+        assertFalse(FileUtil.hasCompressedFileName(Paths.get("gz")));
+    }
+
+    @Test
+    public void writeAtomically_newFile_writesContentsAndLeavesNoTempFile() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write("contents".getBytes("UTF-8")));
+
+        assertEquals("contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUntouched() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("new".getBytes("UTF-8"));
+            throw new IOException("disk full");
+        }));
+        assertEquals("old contents", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+
+    @Test
+    public void openForReading_compressedOrPlainFile_readsContents() throws Exception {
+        Path compressedFile = testFolder.resolve("data.json");
+        FileUtil.writeAtomically(compressedFile, out -> {
+            try (OutputStream compressing = FileUtil.compressing(out)) {
+                compressing.write("compressed".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        Path plainFile = testFolder.resolve("plain.json");
+        FileUtil.writeToFile(plainFile, "plain");
+
+        assertFalse(Files.readString(compressedFile, StandardCharsets.ISO_8859_1).contains("compressed"));
+        try (InputStream in = FileUtil.openForReading(compressedFile)) {
+            assertEquals("compressed", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream in = FileUtil.openForReading(plainFile)) {
+            assertEquals("plain", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
@@ -13,7 +14,10 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +30,7 @@ import seedu.address.logic.commands.ListStudentsCommand;
 import seedu.address.logic.commands.deletestudentcommands.DeleteStudentCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -33,6 +38,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SaveListener;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
@@ -77,6 +83,59 @@ public class LogicManagerTest {
         String listCommand = ListStudentsCommand.COMMAND_WORD;
         assertCommandSuccess(listCommand, ListStudentsCommand.MESSAGE_SUCCESS, model);
     }
+    @Test
+    public void execute_readOnlyCommand_skipsSave() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        LogicManager logicManager = (LogicManager) logic;
+
+        logicManager.execute(ListStudentsCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+        assertEquals(1, logicManager.getSkippedSaveCount());
+
+        logicManager.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + STUDENT_ID_DESC_AMY);
+        assertTrue(Files.exists(addressBookPath));
+        assertEquals(1, logicManager.getSkippedSaveCount());
+
+        logicManager.execute(ListStudentsCommand.COMMAND_WORD);
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_saveFailsAfterReturning_reportedAndRetried() throws Exception {
+        List<SaveListener> pendingSaves = new ArrayList<>();
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookDelta delta,
+                    SaveListener listener) {
+                pendingSaves.add(listener);
+            }
+        };
+        LogicManager logicManager = new LogicManager(model, storage);
+        List<String> statuses = new ArrayList<>();
+        logicManager.setSaveStatusHandler(statuses::add);
+        long initialVersion = model.getAddressBookVersion();
+
+        // the command succeeds while its save is still being written
+        logicManager.execute(AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + EMAIL_DESC_AMY + STUDENT_ID_DESC_AMY);
+        logicManager.execute(ListStudentsCommand.COMMAND_WORD);
+        assertEquals(1, pendingSaves.size());
+        assertEquals(initialVersion, logicManager.getSavedVersion());
+
+        pendingSaves.get(0).failed(DUMMY_IO_EXCEPTION);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                statuses);
+        assertEquals(initialVersion, logicManager.getSavedVersion());
+
+        // the next command saves the unsaved changes again, even though it changes nothing itself
+        logicManager.execute(ListStudentsCommand.COMMAND_WORD);
+        assertEquals(2, pendingSaves.size());
+        pendingSaves.get(1).saved();
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()), ""),
+                statuses);
+        assertEquals(model.getAddressBookVersion(), logicManager.getSavedVersion());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
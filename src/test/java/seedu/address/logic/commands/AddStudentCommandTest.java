@@ -11,6 +11,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,10 +24,12 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.messages.PersonMessages;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.StudentMembership;
 import seedu.address.model.module.TutorialClass;
 import seedu.address.model.module.TutorialTeam;
 import seedu.address.model.person.Email;
@@ -136,21 +141,33 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void allocateStudentToTeam(Person student, TutorialTeam tutorialTeam) {
+        public void allocateStudentToTeam(Person student, ModuleCode module, TutorialClass tutorialClass,
+                TutorialTeam tutorialTeam) {
             throw new AssertionError("This method should not be called.");
         };
 
         @Override
-        public void randomTeamAllocation(ModuleCode moduleCode, TutorialClass tutorialClass, int numOfTeams) {
+        public void randomTeamAllocation(ModuleCode moduleCode, TutorialClass tutorialClass, int numOfTeams,
+                Random random) {
             throw new AssertionError("This method should not be called.");
         };
 
+        @Override
+        public void allocateTeams(ModuleCode moduleCode, TutorialClass tutorialClass, List<List<Person>> teams) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasModule(ModuleCode moduleCode) {
             throw new AssertionError("This method should not be called.");
@@ -161,6 +178,16 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookDelta takeAddressBookDelta() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -187,7 +214,7 @@ public class AddStudentCommandTest {
         }
 
         @Override
-        public void addTeam(TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
+        public void addTeam(ModuleCode module, TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
             throw new AssertionError("This method should not be called.");
         };
 
@@ -202,7 +229,23 @@ public class AddStudentCommandTest {
             return null;
         }
         @Override
-        public void deleteStudentFromTeam(Person person, TutorialTeam tutorialTeam) {
+        public void deleteStudentFromTeam(Person person, ModuleCode module, TutorialClass tutorialClass,
+                TutorialTeam tutorialTeam) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteTeam(ModuleCode module, TutorialClass tutorialClass, TutorialTeam tutorialTeam) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteTutorialClass(ModuleCode module, TutorialClass tutorialClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<StudentMembership> getStudentMemberships(Person student) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -221,6 +264,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addTutorialClass(ModuleCode module, TutorialClass tutorialClass) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ModuleCode findModuleFromList(ModuleCode module) {
             throw new AssertionError("This method should not be called.");
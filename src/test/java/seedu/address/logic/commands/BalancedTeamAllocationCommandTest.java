@@ -0,0 +1,199 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getTeamStudents;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ModuleBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BalancedTeamAllocationCommandTest {
+
+    private Model model;
+    private ModuleCode module;
+    private TutorialClass tutorialClass;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        module = new ModuleBuilder().withModuleCode("CS2101").withTutorialClasses("T02").build();
+        model.addModule(module);
+        tutorialClass = module.getTutorialClasses().get(0);
+        for (int i = 0; i < 12; i++) {
+            PersonBuilder student = new PersonBuilder().withName("Student " + i).withStudentId(studentId(i))
+                    .withEmail("student" + i + "@u.nus.edu");
+            tutorialClass.addStudent(i % 4 == 0 ? student.withTags("leader").build() : student.build());
+        }
+    }
+
+    @Test
+    public void execute_allTagsBalanced_success() throws CommandException {
+        CommandResult commandResult = command(3, Collections.emptyList(), Collections.emptyList()).execute(model);
+
+        assertEquals(String.format(BalancedTeamAllocationCommand.MESSAGE_SUCCESS, tutorialClass, 3),
+                commandResult.getFeedbackToUser());
+        List<List<Person>> teams = getTeamStudents(tutorialClass);
+        assertEquals(3, teams.size());
+        for (List<Person> team : teams) {
+            assertEquals(4, team.size());
+            assertEquals(1, team.stream().filter(student -> !student.getTags().isEmpty()).count());
+        }
+    }
+
+    @Test
+    public void execute_keepApartAndTogether_success() throws CommandException {
+        List<StudentId> apart = ids(0, 4, 8);
+        List<StudentId> together = ids(1, 2, 3);
+
+        command(3, Collections.singletonList(apart), Collections.singletonList(together)).execute(model);
+
+        for (List<Person> team : getTeamStudents(tutorialClass)) {
+            List<StudentId> teamIds = team.stream().map(Person::getStudentId).collect(Collectors.toList());
+            assertEquals(1, teamIds.stream().filter(apart::contains).count());
+            assertTrue(Collections.disjoint(teamIds, together) || teamIds.containsAll(together));
+        }
+    }
+
+    @Test
+    public void execute_sameSeed_sameTeams() throws CommandException {
+        command(3, Collections.emptyList(), Collections.emptyList()).execute(model);
+        List<List<Person>> firstTeams = getTeamStudents(tutorialClass);
+        command(3, Collections.emptyList(), Collections.emptyList()).execute(model);
+
+        assertEquals(firstTeams, getTeamStudents(tutorialClass));
+    }
+
+    @Test
+    public void execute_avoidRepeats_newTeammates() throws CommandException {
+        BalancedTeamAllocationCommand avoidRepeats = new BalancedTeamAllocationCommand(module, tutorialClass, 4,
+                Collections.emptySet(), Collections.emptyList(), Collections.emptyList(), true, Optional.of(42L));
+        avoidRepeats.execute(model);
+        List<List<Person>> firstTeams = getTeamStudents(tutorialClass);
+
+        CommandResult commandResult = avoidRepeats.execute(model);
+
+        // 4 teams of 3 can be reshuffled so that everyone has new teammates
+        assertEquals(String.format(BalancedTeamAllocationCommand.MESSAGE_SUCCESS, tutorialClass, 4),
+                commandResult.getFeedbackToUser());
+        for (List<Person> team : getTeamStudents(tutorialClass)) {
+            for (List<Person> firstTeam : firstTeams) {
+                assertTrue(team.stream().filter(firstTeam::contains).count() <= 1);
+            }
+        }
+        assertEquals(1, tutorialClass.getTeammateHistory().getTimesTogether(firstTeams.get(0).get(0),
+                firstTeams.get(0).get(1)));
+    }
+
+    @Test
+    public void execute_studentNotInClass_throwsCommandException() {
+        StudentId outsider = new StudentId("A9999999Z");
+        BalancedTeamAllocationCommand command = command(3,
+                Collections.singletonList(Arrays.asList(new StudentId(studentId(0)), outsider)),
+                Collections.emptyList());
+
+        assertThrows(CommandException.class, String.format(BalancedTeamAllocationCommand.MESSAGE_STUDENT_NOT_IN_CLASS,
+                outsider, tutorialClass), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_keepApartLargerThanTeams_throwsCommandException() {
+        BalancedTeamAllocationCommand command = command(3, Collections.singletonList(ids(0, 1, 2, 3)),
+                Collections.emptyList());
+
+        assertThrows(CommandException.class, String.format(BalancedTeamAllocationCommand.MESSAGE_KEEP_APART_TOO_LARGE,
+                4, 3), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_keepTogetherLargerThanTeam_throwsCommandException() {
+        BalancedTeamAllocationCommand command = command(3, Collections.emptyList(),
+                Collections.singletonList(ids(0, 1, 2, 3, 4)));
+
+        assertThrows(CommandException.class, String.format(
+                BalancedTeamAllocationCommand.MESSAGE_KEEP_TOGETHER_TOO_LARGE, 5, 4), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_moreTeamsThanStudents_throwsCommandException() {
+        BalancedTeamAllocationCommand command = command(13, Collections.emptyList(), Collections.emptyList());
+
+        assertThrows(CommandException.class, String.format(RandomTeamAllocationCommand.MESSAGE_ALLOCATION_NOT_POSSIBLE,
+                12, 13), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_tutorialNotInModule_throwsCommandException() {
+        BalancedTeamAllocationCommand command = new BalancedTeamAllocationCommand(module, new TutorialClass("T12"),
+                3, Collections.emptySet(), Collections.emptyList(), Collections.emptyList(), Optional.empty());
+
+        assertThrows(CommandException.class, RandomTeamAllocationCommand.MESSAGE_MODULE_TUTORIAL_NOT_EXIST, () ->
+                command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        BalancedTeamAllocationCommand command = command(3, Collections.emptyList(), Collections.emptyList());
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(command(3, Collections.emptyList(), Collections.emptyList())));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different number of teams -> returns false
+        assertFalse(command.equals(command(2, Collections.emptyList(), Collections.emptyList())));
+
+        // avoiding repeats -> returns false
+        assertFalse(command.equals(new BalancedTeamAllocationCommand(module, tutorialClass, 3,
+                Collections.emptySet(), Collections.emptyList(), Collections.emptyList(), true, Optional.of(42L))));
+
+        // different groups to keep apart -> returns false
+        assertFalse(command.equals(command(3, Collections.singletonList(ids(0, 1)), Collections.emptyList())));
+
+        // different tags -> returns false
+        assertFalse(command.equals(new BalancedTeamAllocationCommand(module, tutorialClass, 3,
+                Collections.singleton(new Tag("leader")), Collections.emptyList(), Collections.emptyList(),
+                Optional.of(42L))));
+    }
+
+    private BalancedTeamAllocationCommand command(int numOfTeams, List<List<StudentId>> keepApart,
+            List<List<StudentId>> keepTogether) {
+        return new BalancedTeamAllocationCommand(module, tutorialClass, numOfTeams, Collections.emptySet(),
+                keepApart, keepTogether, Optional.of(42L));
+    }
+
+    private static String studentId(int i) {
+        return String.format("A%07dZ", i);
+    }
+
+    private static List<StudentId> ids(int... indices) {
+        return Arrays.stream(indices).mapToObj(i -> new StudentId(studentId(i))).collect(Collectors.toList());
+    }
+}
@@ -85,7 +85,8 @@ public class DeleteStudentFromClassCommandTest {
     @Test
     public void execute_studentDoesNotExist_fail() {
         Person person = new PersonBuilder().build();
-        Person otherPerson = new PersonBuilder().withName("otherPerson").build();
+        Person otherPerson = new PersonBuilder().withName("otherPerson").withStudentId(VALID_STUDENT_ID_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
         model.addPerson(person);
         tutorialClass.addStudent(otherPerson);
 
@@ -0,0 +1,174 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.messages.ModuleMessages;
+import seedu.address.logic.messages.TutorialTeamMessages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.module.TutorialTeam;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(createAddressBook(), new UserPrefs());
+        ModuleCode module = model.findModuleFromList(new ModuleCode("CS2103T"));
+        TutorialClass tutorialClass = module.findTutorialClass(new TutorialClass("T01"));
+        model.addPersonToTutorialClass(ALICE, module, tutorialClass);
+        model.addPersonToTutorialClass(BENSON, module, tutorialClass);
+        model.addPersonToTutorialClass(CARL, module, tutorialClass);
+        TutorialTeam team = tutorialClass.findTeam(new TutorialTeam("Team 1").teamName);
+        model.allocateStudentToTeam(BENSON, module, tutorialClass, team);
+    }
+
+    /**
+     * Returns the typical persons, and an empty module CS2101 beside a module CS2103T with class T01 and its
+     * team "Team 1".
+     */
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addModule(new ModuleCode("CS2101"), null);
+        addressBook.addModule(new ModuleCode("CS2103T"), null);
+        ModuleCode module = addressBook.findModuleFromList(new ModuleCode("CS2103T"));
+        TutorialClass tutorialClass = new TutorialClass("T01", 10);
+        addressBook.addTutorialClass(module, tutorialClass);
+        addressBook.addTeam(module, tutorialClass, new TutorialTeam("Team 1", 2));
+        return addressBook;
+    }
+
+    @Test
+    public void execute_allClassesToCsv_success() throws Exception {
+        Path filePath = testFolder.resolve("all.csv");
+        CommandResult result = new ExportCommand(filePath, ExportCommand.Format.CSV).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 3, filePath), result.getFeedbackToUser());
+        assertEquals("module,tutorial,team,name,email,id,tags\n"
+                + "CS2103T,T01,,Alice Pauline,alice@example.com,A1234567A,friends\n"
+                + "CS2103T,T01,Team 1,Benson Meier,johnd@example.com,A1234567B,friends;owesMoney\n"
+                + "CS2103T,T01,,Carl Kurz,heinz@example.com,A1234567C,\n", Files.readString(filePath));
+    }
+
+    @Test
+    public void execute_teamHoldsEqualCopyOfStudent_teamExported() throws Exception {
+        // a team loaded from an older data file may hold an equal copy of the student rather than the same object
+        ModuleCode module = model.findModuleFromList(new ModuleCode("CS2103T"));
+        TutorialClass tutorialClass = module.findTutorialClass(new TutorialClass("T01"));
+        TutorialTeam team = tutorialClass.findTeam(new TutorialTeam("Team 1").teamName);
+        team.addStudent(new PersonBuilder(CARL).build());
+
+        Path filePath = testFolder.resolve("copy.csv");
+        new ExportCommand(filePath, ExportCommand.Format.CSV).execute(model);
+        assertTrue(Files.readString(filePath).contains("CS2103T,T01,Team 1,Carl Kurz,"));
+    }
+
+    @Test
+    public void execute_teamToJsonLines_success() throws Exception {
+        Path filePath = testFolder.resolve("team.jsonl");
+        new ExportCommand(filePath, ExportCommand.Format.JSON_LINES, new ModuleCode("CS2103T"),
+                new TutorialClass("T01"), new TutorialTeam("team 1")).execute(model);
+
+        assertEquals("{\"module\":\"CS2103T\",\"tutorial\":\"T01\",\"team\":\"Team 1\",\"name\":\"Benson Meier\","
+                + "\"email\":\"johnd@example.com\",\"id\":\"A1234567B\",\"tags\":[\"friends\",\"owesMoney\"]}\n",
+                Files.readString(filePath));
+    }
+
+    @Test
+    public void execute_compressedFileName_compressed() throws Exception {
+        Path filePath = testFolder.resolve("all.jsonl.gz");
+        new ExportCommand(filePath, ExportCommand.Format.JSON_LINES).execute(model);
+
+        ByteArrayOutputStream contents = new ByteArrayOutputStream();
+        try (InputStream in = FileUtil.openForReading(filePath)) {
+            in.transferTo(contents);
+        }
+        assertEquals(3, contents.toString(StandardCharsets.UTF_8).split("\n").length);
+        assertFalse(Files.readString(filePath, StandardCharsets.ISO_8859_1).contains("Alice"));
+    }
+
+    @Test
+    public void execute_csvImportedAgain_sameClassesAndTeams() throws Exception {
+        Path filePath = testFolder.resolve("all.csv");
+        new ExportCommand(filePath, ExportCommand.Format.CSV).execute(model);
+
+        Model importedModel = new ModelManager(createAddressBook(), new UserPrefs());
+        importedModel.deletePerson(ALICE);
+        importedModel.deletePerson(BENSON);
+        importedModel.deletePerson(CARL);
+        new ImportStudentsCommand(filePath).execute(importedModel);
+
+        assertEquals(model.getAddressBook().getModuleList(), importedModel.getAddressBook().getModuleList());
+        TutorialClass importedClass = importedModel.findModuleFromList(new ModuleCode("CS2103T"))
+                .findTutorialClass(new TutorialClass("T01"));
+        assertEquals(3, importedClass.getStudents().size());
+        assertTrue(importedClass.getTeams().get(0).hasStudent(BENSON));
+    }
+
+    @Test
+    public void execute_missingModule_throwsCommandException() {
+        assertCommandFailure(new ExportCommand(testFolder.resolve("a.csv"), ExportCommand.Format.CSV,
+                new ModuleCode("CS9999"), null, null), model,
+                String.format(ModuleMessages.MESSAGE_MODULE_NOT_FOUND, "CS9999"));
+    }
+
+    @Test
+    public void execute_missingTeam_throwsCommandException() {
+        assertCommandFailure(new ExportCommand(testFolder.resolve("a.csv"), ExportCommand.Format.CSV,
+                new ModuleCode("CS2103T"), new TutorialClass("T01"), new TutorialTeam("Team 2")), model,
+                String.format(TutorialTeamMessages.MESSAGE_TEAM_DOES_NOT_EXIST, "Team 2", "T01"));
+    }
+
+    @Test
+    public void formatOf() {
+        assertEquals(ExportCommand.Format.CSV, ExportCommand.Format.of(Paths.get("data", "All.CSV")).get());
+        assertEquals(ExportCommand.Format.JSON_LINES, ExportCommand.Format.of(Paths.get("all.jsonl.gz")).get());
+        assertEquals(ExportCommand.Format.CSV, ExportCommand.Format.of(Paths.get("roster.CSV.GZ")).get());
+        assertFalse(ExportCommand.Format.of(Paths.get("all.json")).isPresent());
+        assertFalse(ExportCommand.Format.of(Paths.get("all.gz")).isPresent());
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportAll = new ExportCommand(Paths.get("all.csv"), ExportCommand.Format.CSV);
+        ExportCommand exportModule = new ExportCommand(Paths.get("all.csv"), ExportCommand.Format.CSV,
+                new ModuleCode("CS2103T"), null, null);
+
+        assertTrue(exportAll.equals(exportAll));
+        assertTrue(exportAll.equals(new ExportCommand(Paths.get("all.csv"), ExportCommand.Format.CSV)));
+        assertFalse(exportAll.equals(null));
+        assertFalse(exportAll.equals(exportModule));
+        assertFalse(exportAll.equals(new ExportCommand(Paths.get("all.jsonl"), ExportCommand.Format.JSON_LINES)));
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.messages.PersonMessages;
+import seedu.address.logic.messages.TutorialTeamMessages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.module.TutorialTeam;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportStudentsCommand}.
+ */
+public class ImportStudentsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private ModuleCode module;
+    private TutorialClass tutorialClass;
+    private TutorialTeam team;
+
+    @BeforeEach
+    public void setUp() {
+        model = createModel();
+        module = model.findModuleFromList(new ModuleCode("CS2103T"));
+        tutorialClass = module.findTutorialClass(new TutorialClass("T01"));
+        team = tutorialClass.findTeam(new TutorialTeam("Team 1").teamName);
+    }
+
+    /**
+     * Returns a model of the typical persons, and a module with a tutorial class of 3 that has a team of 1.
+     */
+    private static Model createModel() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addModule(new ModuleCode("CS2103T"));
+        ModuleCode module = model.findModuleFromList(new ModuleCode("CS2103T"));
+        TutorialClass tutorialClass = new TutorialClass("T01", 3);
+        model.addTutorialClass(module, tutorialClass);
+        model.addTeam(module, tutorialClass, new TutorialTeam("Team 1", 1));
+        return model;
+    }
+
+    @Test
+    public void execute_validRows_allImported() throws Exception {
+        Path filePath = writeFile("\uFEFFName,Student_ID,E-mail,Tags,Module,Tutorial,Team\n"
+                + "\"Tan Ah Kow\",A7654321B,ahkow@u.nus.edu,cohort1;repeat,CS2103T,T01,Team 1\n"
+                + "\n"
+                + "Zack,A7654321C,zack@u.nus.edu,,,,\n");
+        Person ahKow = new PersonBuilder().withName("Tan Ah Kow").withStudentId("A7654321B")
+                .withEmail("ahkow@u.nus.edu").withTags("cohort1", "repeat").build();
+        Person zack = new PersonBuilder().withName("Zack").withStudentId("A7654321C")
+                .withEmail("zack@u.nus.edu").withTags().build();
+
+        Model expectedModel = createModel();
+        ModuleCode expectedModule = expectedModel.findModuleFromList(module);
+        TutorialClass expectedClass = expectedModule.findTutorialClass(tutorialClass);
+        expectedModel.addPerson(ahKow);
+        expectedModel.addPerson(zack);
+        expectedModel.addPersonToTutorialClass(ahKow, expectedModule, expectedClass);
+        expectedModel.allocateStudentToTeam(ahKow, expectedModule, expectedClass,
+                expectedClass.findTeam(team.teamName));
+
+        assertCommandSuccess(new ImportStudentsCommand(filePath), model,
+                String.format(ImportStudentsCommand.MESSAGE_SUCCESS, 2, 2, filePath), expectedModel);
+        assertTrue(team.hasStudent(ahKow));
+    }
+
+    @Test
+    public void execute_invalidRows_reportedAndOthersImported() throws Exception {
+        Path filePath = writeFile("name,email,id,module,tutorial,team\n"
+                + "Amy,not an email,A7654321B,,,\n"
+                + "Alice Again,alice2@u.nus.edu," + ALICE.getStudentId() + ",,,\n"
+                + "Ben,ben@u.nus.edu,A7654321C,CS2103T,T01,Team 1\n"
+                + "Ben Twin,ben@u.nus.edu,A7654321D,,,\n"
+                + "Cal,cal@u.nus.edu,A7654321E,CS2103T,T01,Team 1\n"
+                + "Dan,dan@u.nus.edu,A7654321F,CS2103T,,\n"
+                + "Eve,eve@u.nus.edu,A7654321G,CS2103T,T01,\n");
+
+        String expectedMessage = String.format(ImportStudentsCommand.MESSAGE_SUCCESS, 2, 7, filePath)
+                + "\nRow 2: " + Email.MESSAGE_CONSTRAINTS
+                + "\nRow 3: " + String.format(PersonMessages.MESSAGE_DUPLICATE_STUDENTID, ALICE.getStudentId())
+                + "\nRow 5: " + String.format(ImportStudentsCommand.MESSAGE_DUPLICATE_EMAIL_IN_FILE, 4,
+                        "ben@u.nus.edu")
+                + "\nRow 6: " + String.format(TutorialTeamMessages.MESSAGE_TEAM_SIZE_EXCEEDED, 1)
+                + "\nRow 7: " + ImportStudentsCommand.MESSAGE_INCOMPLETE_PLACEMENT;
+        CommandResult result = new ImportStudentsCommand(filePath).execute(model);
+
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertTrue(model.hasPersonWithStudentId(new StudentId("A7654321C")));
+        assertTrue(model.hasPersonWithStudentId(new StudentId("A7654321G")));
+        assertFalse(model.hasPersonWithStudentId(new StudentId("A7654321E")));
+        assertEquals(2, tutorialClass.getStudents().size());
+        assertEquals(1, team.getStudents().size());
+    }
+
+    @Test
+    public void execute_manyErrors_reportCapped() throws Exception {
+        StringBuilder contents = new StringBuilder("name,email,id\n");
+        int rowCount = ImportStudentsCommand.MAX_REPORTED_ERRORS + 5;
+        for (int i = 0; i < rowCount; i++) {
+            // each row clashes with an existing student, which is reported on one line
+            contents.append("Student ").append(i).append(",student").append(i).append("@u.nus.edu,")
+                    .append(ALICE.getStudentId()).append('\n');
+        }
+        Path filePath = writeFile(contents.toString());
+
+        String feedback = new ImportStudentsCommand(filePath).execute(model).getFeedbackToUser();
+        assertTrue(feedback.endsWith(String.format(ImportStudentsCommand.MESSAGE_MORE_ERRORS, 5)));
+        assertEquals(ImportStudentsCommand.MAX_REPORTED_ERRORS + 2, feedback.split("\n").length);
+    }
+
+    @Test
+    public void execute_largeFile_allImported() throws Exception {
+        StringBuilder contents = new StringBuilder("name,email,id,tags\n");
+        int rowCount = 2000;
+        for (int i = 0; i < rowCount; i++) {
+            contents.append("Student ").append(i).append(",student").append(i).append("@u.nus.edu,")
+                    .append(String.format("A%07dZ", i)).append(",cohort").append(i % 4).append('\n');
+        }
+        Path filePath = writeFile(contents.toString());
+        int personCount = model.getAddressBook().getPersonList().size();
+
+        assertEquals(String.format(ImportStudentsCommand.MESSAGE_SUCCESS, rowCount, rowCount, filePath),
+                new ImportStudentsCommand(filePath).execute(model).getFeedbackToUser());
+        assertEquals(personCount + rowCount, model.getAddressBook().getPersonList().size());
+        assertEquals(new Email("student1999@u.nus.edu"),
+                model.getAddressBook().getPersonList().get(personCount + rowCount - 1).getEmail());
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path filePath = writeFile("name,tags\nAmy,friends\n");
+        assertCommandFailure(new ImportStudentsCommand(filePath), model,
+                String.format(ImportStudentsCommand.MESSAGE_MISSING_COLUMNS, filePath, "email, id"));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path filePath = writeFile("");
+        assertCommandFailure(new ImportStudentsCommand(filePath), model,
+                String.format(ImportStudentsCommand.MESSAGE_NO_HEADER, filePath));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertThrows(CommandException.class, () ->
+                new ImportStudentsCommand(testFolder.resolve("missing.csv")).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportStudentsCommand importCohort = new ImportStudentsCommand(Paths.get("cohort.csv"));
+
+        assertTrue(importCohort.equals(importCohort));
+        assertTrue(importCohort.equals(new ImportStudentsCommand(Paths.get("cohort.csv"))));
+        assertFalse(importCohort.equals(null));
+        assertFalse(importCohort.equals(1));
+        assertFalse(importCohort.equals(new ImportStudentsCommand(Paths.get("other.csv"))));
+    }
+
+    private Path writeFile(String contents) throws Exception {
+        Path filePath = testFolder.resolve("students.csv");
+        Files.writeString(filePath, contents);
+        return filePath;
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getTeamStudents;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.messages.ModuleMessages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.ModuleBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ModuleTeamAllocationCommandTest {
+
+    private Model model;
+    private ModuleCode module;
+    private TutorialClass firstClass;
+    private TutorialClass secondClass;
+    private TutorialClass emptyClass;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        firstClass = new TutorialClass("T01");
+        secondClass = new TutorialClass("T02");
+        emptyClass = new TutorialClass("T03");
+        module = new ModuleCode("CS2101", new ArrayList<>(List.of(firstClass, secondClass, emptyClass)));
+        model.addModule(module);
+        for (int i = 0; i < 12; i++) {
+            PersonBuilder student = new PersonBuilder().withName("Student " + i)
+                    .withStudentId(String.format("A%07dZ", i)).withEmail("student" + i + "@u.nus.edu");
+            TutorialClass tutorialClass = i < 6 ? firstClass : secondClass;
+            tutorialClass.addStudent(i % 3 == 0 ? student.withTags("leader").build() : student.build());
+        }
+    }
+
+    @Test
+    public void execute_everyClassAllocated_success() throws CommandException {
+        CommandResult commandResult = new ModuleTeamAllocationCommand(module, 2, false, Optional.of(42L))
+                .execute(model);
+
+        assertEquals(String.format(ModuleTeamAllocationCommand.MESSAGE_SUCCESS, 2, module, 2)
+                + String.format(ModuleTeamAllocationCommand.MESSAGE_CLASSES_SKIPPED, emptyClass),
+                commandResult.getFeedbackToUser());
+        for (TutorialClass tutorialClass : List.of(firstClass, secondClass)) {
+            List<List<Person>> teams = getTeamStudents(tutorialClass);
+            assertEquals(2, teams.size());
+            for (List<Person> team : teams) {
+                assertEquals(3, team.size());
+                assertEquals(1, team.stream().filter(student -> !student.getTags().isEmpty()).count());
+            }
+        }
+        assertTrue(emptyClass.getTeams().isEmpty());
+    }
+
+    @Test
+    public void execute_sameSeed_sameTeams() throws CommandException {
+        ModuleTeamAllocationCommand command = new ModuleTeamAllocationCommand(module, 3, false, Optional.of(7L));
+        command.execute(model);
+        List<List<Person>> firstTeams = getTeamStudents(firstClass);
+        List<List<Person>> secondTeams = getTeamStudents(secondClass);
+        command.execute(model);
+
+        assertEquals(firstTeams, getTeamStudents(firstClass));
+        assertEquals(secondTeams, getTeamStudents(secondClass));
+    }
+
+    @Test
+    public void execute_avoidRepeats_historyRecordedPerClass() throws CommandException {
+        ModuleTeamAllocationCommand command = new ModuleTeamAllocationCommand(module, 2, true, Optional.of(42L));
+        command.execute(model);
+        List<List<Person>> firstTeams = getTeamStudents(firstClass);
+        command.execute(model);
+
+        assertEquals(1, firstClass.getTeammateHistory().getTimesTogether(firstTeams.get(0).get(0),
+                firstTeams.get(0).get(1)));
+        assertTrue(emptyClass.getTeammateHistory().isEmpty());
+    }
+
+    @Test
+    public void execute_moreTeamsThanStudents_noClassChanged() throws CommandException {
+        new ModuleTeamAllocationCommand(module, 2, false, Optional.of(42L)).execute(model);
+        List<List<Person>> firstTeams = getTeamStudents(firstClass);
+        secondClass.deleteStudent(secondClass.getStudents().get(0));
+        secondClass.deleteStudent(secondClass.getStudents().get(0));
+        ModuleTeamAllocationCommand command = new ModuleTeamAllocationCommand(module, 5, false, Optional.of(42L));
+
+        assertThrows(CommandException.class, String.format(ModuleTeamAllocationCommand.MESSAGE_ALLOCATION_NOT_POSSIBLE,
+                secondClass, 4, 5), () -> command.execute(model));
+        assertEquals(firstTeams, getTeamStudents(firstClass));
+    }
+
+    @Test
+    public void execute_noStudents_throwsCommandException() {
+        ModuleCode emptyModule = new ModuleBuilder().withModuleCode("CS2102").withTutorialClasses("T01").build();
+        model.addModule(emptyModule);
+        ModuleTeamAllocationCommand command = new ModuleTeamAllocationCommand(emptyModule, 2, false,
+                Optional.empty());
+
+        assertThrows(CommandException.class, String.format(ModuleTeamAllocationCommand.MESSAGE_NO_STUDENTS,
+                emptyModule), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_moduleNotFound_throwsCommandException() {
+        ModuleCode missingModule = new ModuleCode("CS9999");
+        ModuleTeamAllocationCommand command = new ModuleTeamAllocationCommand(missingModule, 2, false,
+                Optional.empty());
+
+        assertThrows(CommandException.class, String.format(ModuleMessages.MESSAGE_MODULE_NOT_FOUND, missingModule), ()
+                -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ModuleTeamAllocationCommand command = new ModuleTeamAllocationCommand(module, 3, false, Optional.of(42L));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ModuleTeamAllocationCommand(module, 3, false, Optional.of(42L))));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different number of teams -> returns false
+        assertFalse(command.equals(new ModuleTeamAllocationCommand(module, 2, false, Optional.of(42L))));
+
+        // avoiding repeats -> returns false
+        assertFalse(command.equals(new ModuleTeamAllocationCommand(module, 3, true, Optional.of(42L))));
+
+        // different seed -> returns false
+        assertFalse(command.equals(new ModuleTeamAllocationCommand(module, 3, false, Optional.empty())));
+    }
+}
@@ -3,10 +3,20 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MODULE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENT_ID_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getTeamStudents;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -34,7 +44,8 @@ public class RandomTeamAllocationCommandTest {
     public void setUp() {
         model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
         alice = new PersonBuilder().withName("Alice").build();
-        bob = new PersonBuilder().withName("Bob").build();
+        bob = new PersonBuilder().withName("Bob").withStudentId(VALID_STUDENT_ID_BOB).withEmail(VALID_EMAIL_BOB)
+                .build();
         testModuleCode = new ModuleBuilder().withTutorialClasses("T01").build();
         model.addModule(testModuleCode);
         testTutClass = testModuleCode.getTutorialClasses().get(0);
@@ -119,6 +130,46 @@ public class RandomTeamAllocationCommandTest {
                 commandResult.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_sameSeed_sameTeams() throws CommandException {
+        ModuleCode module = addClassOfSize(23);
+        TutorialClass tutorialClass = module.getTutorialClasses().get(0);
+
+        new RandomTeamAllocationCommand(module, tutorialClass, 4, Optional.of(42L)).execute(model);
+        List<List<Person>> firstTeams = getTeamStudents(tutorialClass);
+        new RandomTeamAllocationCommand(module, tutorialClass, 4, Optional.of(42L)).execute(model);
+
+        assertEquals(firstTeams, getTeamStudents(tutorialClass));
+    }
+
+    @Test
+    public void execute_unevenClass_balancedTeams() throws CommandException {
+        ModuleCode module = addClassOfSize(23);
+        TutorialClass tutorialClass = module.getTutorialClasses().get(0);
+
+        new RandomTeamAllocationCommand(module, tutorialClass, 4).execute(model);
+
+        List<Integer> teamSizes = getTeamStudents(tutorialClass).stream().map(List::size).collect(Collectors.toList());
+        assertEquals(Arrays.asList(6, 6, 6, 5), teamSizes);
+        Set<Person> allocated = new HashSet<>();
+        getTeamStudents(tutorialClass).forEach(allocated::addAll);
+        assertEquals(new HashSet<>(tutorialClass.getStudents()), allocated);
+    }
+
+    /**
+     * Adds a module whose only tutorial class has {@code classSize} students to the model.
+     */
+    private ModuleCode addClassOfSize(int classSize) {
+        ModuleCode module = new ModuleBuilder().withModuleCode("CS2101").withTutorialClasses("T02").build();
+        model.addModule(module);
+        TutorialClass tutorialClass = module.getTutorialClasses().get(0);
+        for (int i = 0; i < classSize; i++) {
+            tutorialClass.addStudent(new PersonBuilder().withName("Student " + i)
+                    .withStudentId(String.format("A%07dZ", i)).withEmail("student" + i + "@u.nus.edu").build());
+        }
+        return module;
+    }
+
     @Test
     public void equals() {
 
@@ -143,5 +194,9 @@ public class RandomTeamAllocationCommandTest {
         RandomTeamAllocationCommand randTeamAllocationLesserTeams = new
                 RandomTeamAllocationCommand(testModuleCode, testTutClass, 1);
         assertFalse(randTeamAllocation.equals(randTeamAllocationLesserTeams));
+
+        // adding with a seed --> returns false
+        assertFalse(randTeamAllocation.equals(new RandomTeamAllocationCommand(testModuleCode, testTutClass, 2,
+                Optional.of(1L))));
     }
 }
@@ -0,0 +1,116 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.MODULE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.TUTORIAL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MODULE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NUM_OF_TEAMS;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NUM_OF_TEAMS_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENT_ID_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENT_ID_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TUTORIAL_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_APART;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEATS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOGETHER;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.BalancedTeamAllocationCommand;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+public class BalancedTeamAllocationCommandParserTest {
+
+    private static final String REQUIRED_FIELDS = MODULE_DESC_AMY + TUTORIAL_DESC_AMY + VALID_NUM_OF_TEAMS_DESC;
+    private static final List<StudentId> PAIR = Arrays.asList(new StudentId(VALID_STUDENT_ID_AMY),
+            new StudentId(VALID_STUDENT_ID_BOB));
+
+    private BalancedTeamAllocationCommandParser parser = new BalancedTeamAllocationCommandParser();
+
+    @Test
+    public void parse_requiredFieldsPresent_success() {
+        assertParseSuccess(parser, REQUIRED_FIELDS, new BalancedTeamAllocationCommand(
+                new ModuleCode(VALID_MODULE_AMY), new TutorialClass(VALID_TUTORIAL_AMY), VALID_NUM_OF_TEAMS,
+                Collections.emptySet(), Collections.emptyList(), Collections.emptyList(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        String userInput = REQUIRED_FIELDS + TAG_DESC_FRIEND + TAG_DESC_HUSBAND
+                + " " + PREFIX_APART + VALID_STUDENT_ID_AMY + " " + VALID_STUDENT_ID_BOB
+                + " " + PREFIX_TOGETHER + VALID_STUDENT_ID_AMY + "," + VALID_STUDENT_ID_BOB
+                + " " + PREFIX_APART + VALID_STUDENT_ID_BOB + ", " + VALID_STUDENT_ID_AMY
+                + " " + PREFIX_SEED + "7";
+
+        assertParseSuccess(parser, userInput, new BalancedTeamAllocationCommand(
+                new ModuleCode(VALID_MODULE_AMY), new TutorialClass(VALID_TUTORIAL_AMY), VALID_NUM_OF_TEAMS,
+                new HashSet<>(Arrays.asList(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_HUSBAND))),
+                Arrays.asList(PAIR, Arrays.asList(PAIR.get(1), PAIR.get(0))), Collections.singletonList(PAIR),
+                Optional.of(7L)));
+    }
+
+    @Test
+    public void parse_repeats_success() {
+        BalancedTeamAllocationCommand avoidRepeats = new BalancedTeamAllocationCommand(
+                new ModuleCode(VALID_MODULE_AMY), new TutorialClass(VALID_TUTORIAL_AMY), VALID_NUM_OF_TEAMS,
+                Collections.emptySet(), Collections.emptyList(), Collections.emptyList(), true, Optional.empty());
+        assertParseSuccess(parser, REQUIRED_FIELDS + " " + PREFIX_REPEATS + "avoid", avoidRepeats);
+        assertParseSuccess(parser, REQUIRED_FIELDS + " " + PREFIX_REPEATS + "AVOID ", avoidRepeats);
+
+        assertParseSuccess(parser, REQUIRED_FIELDS + " " + PREFIX_REPEATS + "allow", new BalancedTeamAllocationCommand(
+                new ModuleCode(VALID_MODULE_AMY), new TutorialClass(VALID_TUTORIAL_AMY), VALID_NUM_OF_TEAMS,
+                Collections.emptySet(), Collections.emptyList(), Collections.emptyList(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidRepeats_failure() {
+        assertParseFailure(parser, REQUIRED_FIELDS + " " + PREFIX_REPEATS + "never",
+                BalancedTeamAllocationCommand.MESSAGE_INVALID_REPEATS);
+    }
+
+    @Test
+    public void parse_groupOfOneStudent_failure() {
+        // the same student twice is still one student
+        assertParseFailure(parser, REQUIRED_FIELDS + " " + PREFIX_APART + VALID_STUDENT_ID_AMY + " "
+                + VALID_STUDENT_ID_AMY, ParserUtil.MESSAGE_STUDENT_ID_GROUP_TOO_SMALL);
+        assertParseFailure(parser, REQUIRED_FIELDS + " " + PREFIX_TOGETHER + VALID_STUDENT_ID_AMY,
+                ParserUtil.MESSAGE_STUDENT_ID_GROUP_TOO_SMALL);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, REQUIRED_FIELDS + INVALID_TAG_DESC, Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, REQUIRED_FIELDS + " " + PREFIX_APART + VALID_STUDENT_ID_AMY + " B12",
+                StudentId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, REQUIRED_FIELDS + " " + PREFIX_SEED + "abc", ParserUtil.MESSAGE_INVALID_SEED);
+    }
+
+    @Test
+    public void parse_repeatedSeed_failure() {
+        assertParseFailure(parser, REQUIRED_FIELDS + " " + PREFIX_SEED + "1 " + PREFIX_SEED + "2",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SEED));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        assertParseFailure(parser, MODULE_DESC_AMY + TUTORIAL_DESC_AMY, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                BalancedTeamAllocationCommand.MESSAGE_USAGE));
+    }
+}
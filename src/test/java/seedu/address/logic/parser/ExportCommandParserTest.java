@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.module.TutorialTeam;
+
+public class ExportCommandParserTest {
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_fileOnly_exportsAll() {
+        assertParseSuccess(parser, " file/all.csv",
+                new ExportCommand(Paths.get("all.csv"), ExportCommand.Format.CSV));
+    }
+
+    @Test
+    public void parse_team_success() {
+        assertParseSuccess(parser, " file/team.jsonl module/CS2103T tutorial/T01 team/Team 1",
+                new ExportCommand(Paths.get("team.jsonl"), ExportCommand.Format.JSON_LINES,
+                        new ModuleCode("CS2103T"), new TutorialClass("T01"), new TutorialTeam("Team 1")));
+    }
+
+    @Test
+    public void parse_incompleteSelection_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " module/CS2103T", expectedMessage);
+        assertParseFailure(parser, " file/all.csv tutorial/T01", expectedMessage);
+        assertParseFailure(parser, " file/all.csv module/CS2103T team/Team 1", expectedMessage);
+    }
+
+    @Test
+    public void parse_unknownFormat_failure() {
+        assertParseFailure(parser, " file/all.txt", ExportCommand.MESSAGE_UNKNOWN_FORMAT);
+    }
+}
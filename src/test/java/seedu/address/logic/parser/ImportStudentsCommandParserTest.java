@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ImportStudentsCommand;
+
+public class ImportStudentsCommandParserTest {
+    private final ImportStudentsCommandParser parser = new ImportStudentsCommandParser();
+
+    @Test
+    public void parse_validFilePath_success() {
+        assertParseSuccess(parser, " file/ data/cohort.csv ",
+                new ImportStudentsCommand(Paths.get("data", "cohort.csv")));
+    }
+
+    @Test
+    public void parse_missingFilePath_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportStudentsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " data/cohort.csv", expectedMessage);
+        assertParseFailure(parser, " preamble file/data/cohort.csv", expectedMessage);
+    }
+
+    @Test
+    public void parse_blankFilePath_failure() {
+        assertParseFailure(parser, " file/ ", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_repeatedFilePath_failure() {
+        assertParseFailure(parser, " file/a.csv file/b.csv",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FILE));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.MODULE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MODULE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NUM_OF_TEAMS;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NUM_OF_TEAMS_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUM_OF_TEAMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REPEATS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.BalancedTeamAllocationCommand;
+import seedu.address.logic.commands.ModuleTeamAllocationCommand;
+import seedu.address.logic.commands.RandomTeamAllocationCommand;
+import seedu.address.model.module.ModuleCode;
+
+public class ModuleTeamAllocationCommandParserTest {
+
+    private static final String REQUIRED_FIELDS = MODULE_DESC_AMY + VALID_NUM_OF_TEAMS_DESC;
+
+    private ModuleTeamAllocationCommandParser parser = new ModuleTeamAllocationCommandParser();
+
+    @Test
+    public void parse_requiredFieldsPresent_success() {
+        assertParseSuccess(parser, REQUIRED_FIELDS, new ModuleTeamAllocationCommand(
+                new ModuleCode(VALID_MODULE_AMY), VALID_NUM_OF_TEAMS, false, Optional.empty()));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, REQUIRED_FIELDS + " " + PREFIX_REPEATS + "Avoid " + PREFIX_SEED + "7",
+                new ModuleTeamAllocationCommand(new ModuleCode(VALID_MODULE_AMY), VALID_NUM_OF_TEAMS, true,
+                        Optional.of(7L)));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, REQUIRED_FIELDS + " " + PREFIX_REPEATS + "never",
+                BalancedTeamAllocationCommand.MESSAGE_INVALID_REPEATS);
+        assertParseFailure(parser, REQUIRED_FIELDS + " " + PREFIX_SEED + "abc", ParserUtil.MESSAGE_INVALID_SEED);
+        assertParseFailure(parser, MODULE_DESC_AMY + " " + PREFIX_NUM_OF_TEAMS + "0",
+                RandomTeamAllocationCommand.MESSAGE_NUM_OF_TEAMS_NONZERO);
+    }
+
+    @Test
+    public void parse_repeatedSeed_failure() {
+        assertParseFailure(parser, REQUIRED_FIELDS + " " + PREFIX_SEED + "1 " + PREFIX_SEED + "2",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SEED));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        assertParseFailure(parser, MODULE_DESC_AMY, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ModuleTeamAllocationCommand.MESSAGE_USAGE));
+    }
+}
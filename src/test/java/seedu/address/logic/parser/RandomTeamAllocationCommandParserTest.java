@@ -22,6 +22,8 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.model.module.ModuleCodeTest.VALID_MODULE_CODE;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
@@ -43,6 +45,19 @@ public class RandomTeamAllocationCommandParserTest {
                         new ModuleCode(VALID_MODULE_AMY), new TutorialClass(VALID_TUTORIAL_AMY), expectedNumOfTeams));
     }
 
+    @Test
+    public void parse_seedPresent_success() {
+        assertParseSuccess(parser, MODULE_DESC_AMY + TUTORIAL_DESC_AMY + VALID_NUM_OF_TEAMS_DESC + " seed/-42",
+                new RandomTeamAllocationCommand(new ModuleCode(VALID_MODULE_AMY),
+                        new TutorialClass(VALID_TUTORIAL_AMY), VALID_NUM_OF_TEAMS, Optional.of(-42L)));
+    }
+
+    @Test
+    public void parse_invalidSeed_failure() {
+        assertParseFailure(parser, MODULE_DESC_AMY + TUTORIAL_DESC_AMY + VALID_NUM_OF_TEAMS_DESC + " seed/abc",
+                ParserUtil.MESSAGE_INVALID_SEED);
+    }
+
     @Test
     public void parse_repeatedPrefixes_failure() {
         String validExpectedAllocatorString = MODULE_DESC_AMY + TUTORIAL_DESC_AMY + NUM_OF_TEAMS_DESC;
@@ -2,20 +2,27 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENT_ID_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MODULE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TEAM_NAME;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TUTORIAL_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.StudentMembership;
 import seedu.address.model.module.TutorialClass;
 import seedu.address.model.module.TutorialTeam;
 import seedu.address.model.person.Person;
@@ -107,25 +115,132 @@ public class AddressBookTest {
     @Test
     public void allocateStudentToTeam_personIsNull_failure() {
         TutorialTeam tutorialTeam = new TutorialTeam(VALID_TEAM_NAME);
-        assertThrows(NullPointerException.class, () -> addressBook.allocateStudentToTeam(null, tutorialTeam));
+        assertThrows(NullPointerException.class, () -> addressBook.allocateStudentToTeam(null,
+                new ModuleCode(VALID_MODULE_AMY), new TutorialClass(VALID_TUTORIAL_AMY), tutorialTeam));
     }
 
     @Test
     public void deleteStudentFromTeam_personIsNull_failure() {
         TutorialTeam tutorialTeam = new TutorialTeam(VALID_TEAM_NAME);
-        assertThrows(NullPointerException.class, () -> addressBook.deleteStudentFromTeam(null, tutorialTeam));
+        assertThrows(NullPointerException.class, () -> addressBook.deleteStudentFromTeam(null,
+                new ModuleCode(VALID_MODULE_AMY), new TutorialClass(VALID_TUTORIAL_AMY), tutorialTeam));
     }
 
     @Test
     public void deleteStudentFromTeam_teamIsNull_failure() {
         Person person = new PersonBuilder(ALICE).build();
-        assertThrows(NullPointerException.class, () -> addressBook.deleteStudentFromTeam(person, null));
+        assertThrows(NullPointerException.class, () -> addressBook.deleteStudentFromTeam(person,
+                new ModuleCode(VALID_MODULE_AMY), new TutorialClass(VALID_TUTORIAL_AMY), null));
     }
 
     @Test
     public void allocateStudentToTeam_tutorialTeamIsNull_failure() {
         Person person = new PersonBuilder(ALICE).build();
-        assertThrows(NullPointerException.class, () -> addressBook.allocateStudentToTeam(person, null));
+        assertThrows(NullPointerException.class, () -> addressBook.allocateStudentToTeam(person,
+                new ModuleCode(VALID_MODULE_AMY), new TutorialClass(VALID_TUTORIAL_AMY), null));
+    }
+
+    @Test
+    public void findModuleFromList_moduleAddedThenRemoved_resolvesOnlyWhilePresent() {
+        ModuleCode module = new ModuleCode(VALID_MODULE_AMY);
+        addressBook.addModule(module, "");
+        assertSame(module, addressBook.findModuleFromList(new ModuleCode(VALID_MODULE_AMY)));
+
+        addressBook.removeModule(new ModuleCode(VALID_MODULE_AMY));
+        assertNull(addressBook.findModuleFromList(module));
+        assertFalse(addressBook.hasModule(module));
+    }
+
+    @Test
+    public void getStudentMemberships_studentInClassAndTeam_returnsBothMemberships() {
+        ModuleCode module = new ModuleCode(VALID_MODULE_AMY);
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL_AMY);
+        TutorialTeam tutorialTeam = new TutorialTeam(VALID_TEAM_NAME);
+        module.addTutorialClass(tutorialClass);
+        tutorialClass.addTeam(tutorialTeam);
+        addressBook.addModule(module, "");
+        addressBook.addPerson(ALICE);
+        addressBook.addPersonToTutorialClass(ALICE, module, tutorialClass);
+        addressBook.allocateStudentToTeam(ALICE, module, tutorialClass, tutorialTeam);
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList(new StudentMembership(module, tutorialClass),
+                new StudentMembership(module, tutorialClass, tutorialTeam))),
+                addressBook.getStudentMemberships(ALICE));
+
+        addressBook.deleteStudentFromTeam(ALICE, module, tutorialClass, tutorialTeam);
+        assertEquals(Collections.singleton(new StudentMembership(module, tutorialClass)),
+                addressBook.getStudentMemberships(ALICE));
+    }
+
+    @Test
+    public void getStudentMemberships_modulesReset_rebuildsIndex() {
+        ModuleCode module = new ModuleCode(VALID_MODULE_AMY);
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL_AMY);
+        tutorialClass.addStudent(ALICE);
+        module.addTutorialClass(tutorialClass);
+        addressBook.setModules(Collections.singletonList(module));
+
+        assertEquals(Collections.singleton(new StudentMembership(module, tutorialClass)),
+                addressBook.getStudentMemberships(ALICE));
+    }
+
+    @Test
+    public void removePerson_studentInClassAndTeam_removedFromBoth() {
+        ModuleCode module = new ModuleCode(VALID_MODULE_AMY);
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL_AMY);
+        TutorialTeam tutorialTeam = new TutorialTeam(VALID_TEAM_NAME);
+        module.addTutorialClass(tutorialClass);
+        tutorialClass.addTeam(tutorialTeam);
+        addressBook.addModule(module, "");
+        addressBook.addPerson(ALICE);
+        addressBook.addPersonToTutorialClass(ALICE, module, tutorialClass);
+        addressBook.allocateStudentToTeam(ALICE, module, tutorialClass, tutorialTeam);
+
+        addressBook.removePerson(ALICE);
+        assertFalse(tutorialClass.hasStudent(ALICE));
+        assertFalse(tutorialTeam.hasStudent(ALICE));
+        assertTrue(addressBook.getStudentMemberships(ALICE).isEmpty());
+    }
+
+    @Test
+    public void setPerson_studentInClassAndTeam_replacedInBoth() {
+        ModuleCode module = new ModuleCode(VALID_MODULE_AMY);
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL_AMY);
+        TutorialTeam tutorialTeam = new TutorialTeam(VALID_TEAM_NAME);
+        module.addTutorialClass(tutorialClass);
+        tutorialClass.addTeam(tutorialTeam);
+        addressBook.addModule(module, "");
+        addressBook.addPerson(ALICE);
+        addressBook.addPersonToTutorialClass(ALICE, module, tutorialClass);
+        addressBook.allocateStudentToTeam(ALICE, module, tutorialClass, tutorialTeam);
+
+        Person editedAlice = new PersonBuilder(ALICE).withStudentId(VALID_STUDENT_ID_AMY).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), tutorialClass.getStudents());
+        assertEquals(Collections.singletonList(editedAlice), tutorialTeam.getStudents());
+        assertTrue(addressBook.getStudentMemberships(ALICE).isEmpty());
+        assertEquals(2, addressBook.getStudentMemberships(editedAlice).size());
+    }
+
+    @Test
+    public void setPerson_studentIdEdited_teammateHistoryKept() {
+        ModuleCode module = new ModuleCode(VALID_MODULE_AMY);
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL_AMY);
+        module.addTutorialClass(tutorialClass);
+        addressBook.addModule(module, "");
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.allocateTeams(module, tutorialClass, List.of(List.of(ALICE, BENSON)));
+        // the teams replaced are recorded in the teammate history
+        addressBook.allocateTeams(module, tutorialClass, List.of(List.of(ALICE), List.of(BENSON)));
+
+        Person editedAlice = new PersonBuilder(ALICE).withStudentId(VALID_STUDENT_ID_AMY).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(1, tutorialClass.getTeammateHistory().getTimesTogether(editedAlice, BENSON));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Collections.singletonList(BENSON.getStudentId()),
+                tutorialClass.getTeammateHistory().getStudentIds());
     }
 
     @Test
@@ -169,6 +284,64 @@ public class AddressBookTest {
 
     }
 
+    @Test
+    public void snapshotOf_laterChanges_notReflected() {
+        ModuleCode module = new ModuleCode(VALID_MODULE_AMY);
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL_AMY);
+        TutorialTeam tutorialTeam = new TutorialTeam(VALID_TEAM_NAME);
+        module.addTutorialClass(tutorialClass);
+        tutorialClass.addTeam(tutorialTeam);
+        addressBook.addModule(module, "");
+        addressBook.addPerson(ALICE);
+        addressBook.addPersonToTutorialClass(ALICE, module, tutorialClass);
+
+        AddressBook snapshot = AddressBook.snapshotOf(addressBook);
+        addressBook.allocateStudentToTeam(ALICE, module, tutorialClass, tutorialTeam);
+        addressBook.deletePersonFromTutorialClass(ALICE, module, tutorialClass);
+
+        TutorialClass classInSnapshot = snapshot.findModuleFromList(module).findTutorialClass(tutorialClass);
+        assertEquals(List.of(ALICE), classInSnapshot.getStudents());
+        assertTrue(classInSnapshot.findTeam(tutorialTeam.teamName).getStudents().isEmpty());
+    }
+
+    @Test
+    public void removePerson_inUnbuiltModule_removedFromItsClass() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(AMY);
+        ModuleCode module = ModuleCode.withUnbuiltTutorialClasses(VALID_MODULE_AMY, "", () ->
+                List.of(new TutorialClass(VALID_TUTORIAL_AMY, new ArrayList<>(List.of(ALICE, AMY)))));
+        addressBook.addModule(module, "");
+        assertFalse(module.hasBuiltTutorialClasses());
+
+        Person editedAmy = new PersonBuilder(AMY).withName("Amy Tan").build();
+        addressBook.setPerson(AMY, editedAmy);
+        addressBook.removePerson(ALICE);
+
+        assertEquals(List.of(editedAmy), addressBook.findModuleFromList(module)
+                .findTutorialClass(new TutorialClass(VALID_TUTORIAL_AMY)).getStudents());
+    }
+
+    @Test
+    public void getVersion_changesOnlyOnDataChange() {
+        long version = addressBook.getVersion();
+        addressBook.setSortedPersonList(Comparator.comparing(person -> person.getName().fullName));
+        addressBook.hasPerson(ALICE);
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+    }
+
+    @Test
+    public void getVersion_failedChange_unchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPersons(List.of(ALICE)));
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
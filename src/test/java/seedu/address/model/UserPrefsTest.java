@@ -1,7 +1,12 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -21,4 +26,49 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setDataFilePrettyPrinted_default_compact() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isDataFilePrettyPrinted());
+
+        userPrefs.setDataFilePrettyPrinted(true);
+        assertNotEquals(new UserPrefs(), userPrefs);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+    }
+
+    @Test
+    public void setDataFileFormat_default_json() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(DataFileFormat.JSON, userPrefs.getDataFileFormat());
+        assertThrows(NullPointerException.class, () -> userPrefs.setDataFileFormat(null));
+
+        userPrefs.setDataFileFormat(DataFileFormat.BINARY);
+        assertNotEquals(new UserPrefs(), userPrefs);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+    }
+
+    @Test
+    public void getAddressBookFilePath_binaryFormat_defaultPathKept() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(Paths.get("data", "tahelper.json"), userPrefs.getAddressBookFilePath());
+
+        // the format is told from the contents of the data file, so switching formats keeps the data file
+        userPrefs.setDataFileFormat(DataFileFormat.BINARY);
+        assertEquals(Paths.get("data", "tahelper.json"), userPrefs.getAddressBookFilePath());
+
+        // a path chosen by the user is kept whatever the format
+        userPrefs.setAddressBookFilePath(Paths.get("data", "class.json"));
+        assertEquals(Paths.get("data", "class.json"), userPrefs.getAddressBookFilePath());
+    }
+
+    @Test
+    public void setDataFileCompressed_default_uncompressed() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertFalse(userPrefs.isDataFileCompressed());
+
+        userPrefs.setDataFileCompressed(true);
+        assertNotEquals(new UserPrefs(), userPrefs);
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+    }
+
 }
@@ -0,0 +1,179 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class BalancedTeamAllocatorTest {
+
+    private static final Tag LEADER = new Tag("leader");
+    private static final Tag SENIOR = new Tag("senior");
+
+    @Test
+    public void constructor_moreTeamsThanStudents_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BalancedTeamAllocator(students(3), 4,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    public void constructor_groupWithOtherStudent_throwsIllegalArgumentException() {
+        List<List<Person>> keepApart = Collections.singletonList(students(2));
+        assertThrows(IllegalArgumentException.class, () -> new BalancedTeamAllocator(students(3), 2,
+                Collections.emptyList(), keepApart, Collections.emptyList()));
+    }
+
+    @Test
+    public void allocate_taggedStudents_spreadEvenly() {
+        // every fourth student is a leader and every other student is a senior
+        List<Person> students = students(12);
+        BalancedTeamAllocator allocator = new BalancedTeamAllocator(students, 3, Arrays.asList(LEADER, SENIOR),
+                Collections.emptyList(), Collections.emptyList());
+
+        List<List<Person>> teams = allocator.allocate(new Random(1)).getTeams();
+
+        for (List<Person> team : teams) {
+            assertEquals(4, team.size());
+            assertEquals(1, team.stream().filter(student -> student.getTags().contains(LEADER)).count());
+            assertEquals(2, team.stream().filter(student -> student.getTags().contains(SENIOR)).count());
+        }
+    }
+
+    @Test
+    public void allocate_keepApartAndTogether_constraintsMet() {
+        List<Person> students = students(12);
+        List<Person> apart = Arrays.asList(students.get(0), students.get(1), students.get(2));
+        List<Person> together = Arrays.asList(students.get(3), students.get(4), students.get(5));
+
+        BalancedTeamAllocator.Allocation allocation = new BalancedTeamAllocator(students, 3,
+                Collections.singletonList(LEADER), Collections.singletonList(apart),
+                Collections.singletonList(together)).allocate(new Random(1));
+
+        assertEquals(0, allocation.getKeepApartPairsBroken());
+        assertEquals(0, allocation.getKeepTogetherGroupsBroken());
+        assertEquals(3, allocation.getTeams().stream().filter(team -> !Collections.disjoint(team, apart)).count());
+        assertTrue(allocation.getTeams().stream().anyMatch(team -> team.containsAll(together)));
+    }
+
+    @Test
+    public void allocate_conflictingConstraints_brokenConstraintsCounted() {
+        List<Person> students = students(4);
+        List<Person> pair = Arrays.asList(students.get(0), students.get(1));
+
+        BalancedTeamAllocator.Allocation allocation = new BalancedTeamAllocator(students, 2,
+                Collections.emptyList(), Collections.singletonList(pair), Collections.singletonList(pair))
+                .allocate(new Random(1));
+
+        assertEquals(1, allocation.getKeepApartPairsBroken() + allocation.getKeepTogetherGroupsBroken());
+    }
+
+    @Test
+    public void allocate_sameSeed_sameTeams() {
+        List<Person> students = students(40);
+        BalancedTeamAllocator allocator = new BalancedTeamAllocator(students, 6, Arrays.asList(LEADER, SENIOR),
+                Collections.emptyList(), Collections.emptyList());
+
+        assertEquals(allocator.allocate(new Random(7)).getTeams(), allocator.allocate(new Random(7)).getTeams());
+    }
+
+    @Test
+    public void allocate_lectureGroup_balancedTeams() {
+        List<Person> students = students(200);
+        List<List<Person>> keepApart = new ArrayList<>();
+        List<List<Person>> keepTogether = new ArrayList<>();
+        for (int i = 0; i < 20; i += 2) {
+            keepApart.add(Arrays.asList(students.get(i), students.get(i + 1)));
+            keepTogether.add(Arrays.asList(students.get(100 + i), students.get(101 + i)));
+        }
+
+        BalancedTeamAllocator.Allocation allocation = new BalancedTeamAllocator(students, 40,
+                Arrays.asList(LEADER, SENIOR), keepApart, keepTogether).allocate(new Random(3));
+
+        assertEquals(0, allocation.getKeepApartPairsBroken());
+        assertEquals(0, allocation.getKeepTogetherGroupsBroken());
+        for (List<Person> team : allocation.getTeams()) {
+            assertEquals(5, team.size());
+            long leaders = team.stream().filter(student -> student.getTags().contains(LEADER)).count();
+            long seniors = team.stream().filter(student -> student.getTags().contains(SENIOR)).count();
+            // 50 leaders and 100 seniors in 40 teams
+            assertTrue(leaders == 1 || leaders == 2);
+            assertTrue(seniors == 2 || seniors == 3);
+        }
+    }
+
+    @Test
+    public void allocate_teammateHistory_noRepeatPairings() {
+        // 16 students in 4 teams of 4 for a phase, then reshuffled so that no two teammates meet again
+        List<Person> students = students(16);
+        TeammateHistory history = new TeammateHistory();
+        history.recordTeams(Arrays.asList(students.subList(0, 4), students.subList(4, 8), students.subList(8, 12),
+                students.subList(12, 16)));
+
+        BalancedTeamAllocator.Allocation allocation = new BalancedTeamAllocator(students, 4,
+                Collections.singletonList(LEADER), Collections.emptyList(), Collections.emptyList(), history)
+                .allocate(new Random(5));
+
+        assertEquals(0, allocation.getRepeatPairings());
+        for (List<Person> team : allocation.getTeams()) {
+            assertEquals(4, team.size());
+            for (int i = 0; i < team.size(); i++) {
+                for (int j = 0; j < i; j++) {
+                    assertEquals(0, history.getTimesTogether(team.get(i), team.get(j)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void allocate_teammateHistoryOfLectureGroup_fewerRepeatsThanRandom() {
+        List<Person> students = students(300);
+        TeammateHistory history = new TeammateHistory();
+        Random random = new Random(11);
+        for (int phase = 0; phase < 3; phase++) {
+            List<Person> shuffled = new ArrayList<>(students);
+            Collections.shuffle(shuffled, random);
+            List<List<Person>> teams = new ArrayList<>();
+            for (int team = 0; team < 60; team++) {
+                teams.add(shuffled.subList(team * 5, team * 5 + 5));
+            }
+            history.recordTeams(teams);
+        }
+
+        BalancedTeamAllocator.Allocation allocation = new BalancedTeamAllocator(students, 60,
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), history)
+                .allocate(new Random(3));
+
+        // 3 phases of 60 teams of 5 make 1800 pairings, so a random team of 5 repeats about 0.24 of them
+        assertEquals(0, allocation.getRepeatPairings());
+    }
+
+    /**
+     * Returns {@code count} students, where every fourth student is a leader and every other student is a senior.
+     */
+    private static List<Person> students(int count) {
+        List<Person> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<String> tags = new ArrayList<>();
+            if (i % 4 == 0) {
+                tags.add(LEADER.tagName);
+            }
+            if (i % 2 == 0) {
+                tags.add(SENIOR.tagName);
+            }
+            students.add(new PersonBuilder().withName("Student " + i).withStudentId(String.format("A%07dZ", i))
+                    .withEmail("student" + i + "@u.nus.edu").withTags(tags.toArray(new String[0])).build());
+        }
+        return students;
+    }
+}
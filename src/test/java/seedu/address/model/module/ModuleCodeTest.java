@@ -2,9 +2,15 @@ package seedu.address.model.module;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.module.ModuleCode.isValidModuleCode;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -115,4 +121,56 @@ public class ModuleCodeTest {
         assertTrue(moduleCode.deleteTutorialClass(tutorialClass1));
         assertEquals(0, moduleCode.getTutorialClasses().size());
     }
+
+    @Test
+    void findTutorialClass_inList_returnsStoredInstance() {
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL_1);
+        ModuleCode moduleCode = new ModuleCode(VALID_MODULE_CODE);
+        moduleCode.addTutorialClass(tutorialClass);
+
+        assertSame(tutorialClass, moduleCode.findTutorialClass(new TutorialClass(VALID_TUTORIAL_1)));
+        assertNull(moduleCode.findTutorialClass(new TutorialClass(VALID_TUTORIAL_2)));
+    }
+
+    @Test
+    void getTutorialClasses_keepsInsertionOrder() {
+        ModuleCode moduleCode = new ModuleCode(VALID_MODULE_CODE);
+        moduleCode.addTutorialClass(new TutorialClass(VALID_TUTORIAL_2));
+        moduleCode.addTutorialClass(new TutorialClass(VALID_TUTORIAL_1));
+        moduleCode.addTutorialClass(new TutorialClass(VALID_TUTORIAL_2));
+
+        assertEquals(Arrays.asList(new TutorialClass(VALID_TUTORIAL_2), new TutorialClass(VALID_TUTORIAL_1)),
+                moduleCode.getTutorialClasses());
+    }
+
+    @Test
+    public void withUnbuiltTutorialClasses_builtOnceOnFirstUse() {
+        AtomicInteger buildCount = new AtomicInteger();
+        ModuleCode module = ModuleCode.withUnbuiltTutorialClasses(VALID_MODULE_CODE, "Software Engineering", () -> {
+            buildCount.incrementAndGet();
+            return List.of(new TutorialClass(VALID_TUTORIAL_1), new TutorialClass(VALID_TUTORIAL_2));
+        });
+
+        assertEquals("Software Engineering", module.getDescription());
+        assertEquals(0, buildCount.get());
+        assertFalse(module.hasBuiltTutorialClasses());
+
+        assertTrue(module.hasTutorialClass(new TutorialClass(VALID_TUTORIAL_2)));
+        assertEquals(2, module.getTutorialClasses().size());
+        assertEquals(1, buildCount.get());
+        assertTrue(module.hasBuiltTutorialClasses());
+    }
+
+    @Test
+    public void copy_unbuiltModule_copyBuildsItsOwnTutorialClasses() {
+        ModuleCode module = ModuleCode.withUnbuiltTutorialClasses(VALID_MODULE_CODE, "", () ->
+                List.of(new TutorialClass(VALID_TUTORIAL_1)));
+        ModuleCode copy = module.copy();
+        assertFalse(module.hasBuiltTutorialClasses());
+
+        copy.deleteTutorialClass(new TutorialClass(VALID_TUTORIAL_1));
+        assertFalse(module.hasBuiltTutorialClasses());
+        assertTrue(module.hasTutorialClass(new TutorialClass(VALID_TUTORIAL_1)));
+        assertFalse(copy.hasTutorialClass(new TutorialClass(VALID_TUTORIAL_1)));
+    }
 }
@@ -0,0 +1,54 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class TeammateHistoryIndexTest {
+
+    private final TeammateHistoryIndex index = new TeammateHistoryIndex();
+
+    @Test
+    public void replaceStudentIdAndRemoveStudent_recordedTeammates_historyUpdated() {
+        TutorialClass tutorialClass = new TutorialClass("T01");
+        TutorialTeam team = new TutorialTeam("Team1");
+        team.addStudent(ALICE);
+        team.addStudent(BENSON);
+        tutorialClass.addTeam(team);
+        index.addModule(new ModuleCode("CS2103T", List.of(tutorialClass)));
+        index.recordTeammates(tutorialClass);
+
+        index.replaceStudentId(ALICE.getStudentId(), CARL.getStudentId());
+        assertEquals(1, tutorialClass.getTeammateHistory().getTimesTogether(CARL, BENSON));
+
+        index.removeStudent(CARL.getStudentId());
+        assertEquals(List.of(BENSON.getStudentId()), tutorialClass.getTeammateHistory().getStudentIds());
+    }
+
+    @Test
+    public void replaceStudentIdAndRemoveStudent_unbuiltModule_madeOnceBuilt() {
+        TeammateHistory history = new TeammateHistory();
+        history.recordTeams(List.of(List.of(ALICE, BENSON), List.of(ALICE, CARL)));
+        ModuleCode module = ModuleCode.withUnbuiltTutorialClasses("CS2103T", "", () -> List.of(new TutorialClass(
+                "T01", 0, new ArrayList<Person>(), new ArrayList<TutorialTeam>(), history.copy())));
+        index.addModule(module);
+
+        index.replaceStudentId(ALICE.getStudentId(), BENSON.getStudentId());
+        index.removeStudent(CARL.getStudentId());
+        assertFalse(module.hasBuiltTutorialClasses());
+
+        TeammateHistory builtHistory = module.getTutorialClasses().get(0).getTeammateHistory();
+        assertTrue(module.hasBuiltTutorialClasses());
+        assertEquals(List.of(BENSON.getStudentId()), builtHistory.getStudentIds());
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.module;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.StudentId;
+
+public class TeammateHistoryTest {
+
+    @Test
+    public void recordTeams_countsEveryPairOfEachTeam() {
+        TeammateHistory history = new TeammateHistory();
+        assertTrue(history.isEmpty());
+
+        history.recordTeams(Arrays.asList(Arrays.asList(ALICE, BENSON, CARL), Collections.singletonList(DANIEL)));
+        history.recordTeams(Arrays.asList(Arrays.asList(ALICE, BENSON), Arrays.asList(CARL, DANIEL)));
+
+        assertFalse(history.isEmpty());
+        assertEquals(2, history.getTimesTogether(ALICE, BENSON));
+        assertEquals(2, history.getTimesTogether(BENSON, ALICE));
+        assertEquals(1, history.getTimesTogether(ALICE, CARL));
+        assertEquals(1, history.getTimesTogether(CARL, DANIEL));
+        assertEquals(0, history.getTimesTogether(ALICE, DANIEL));
+        int[] ordinals = history.ordinalsOf(Arrays.asList(ALICE, BENSON, CARL, ELLE));
+        assertTrue(Arrays.equals(new int[] {0, 1, 2, -1}, ordinals));
+    }
+
+    @Test
+    public void constructor_pairCounts_sameAsRecorded() {
+        TeammateHistory history = new TeammateHistory();
+        history.recordTeams(Arrays.asList(Arrays.asList(ALICE, BENSON, CARL), Arrays.asList(CARL, DANIEL)));
+
+        TeammateHistory rebuilt = new TeammateHistory(history.getStudentIds(), history.getPairCounts());
+
+        assertEquals(history, rebuilt);
+        assertEquals(1, rebuilt.getTimesTogether(CARL, DANIEL));
+    }
+
+    @Test
+    public void constructor_invalidPairCounts_throwsIllegalArgumentException() {
+        List<StudentId> studentIds = Arrays.asList(ALICE.getStudentId(), BENSON.getStudentId());
+
+        // repeated student
+        assertThrows(IllegalArgumentException.class, () -> new TeammateHistory(
+                Arrays.asList(ALICE.getStudentId(), ALICE.getStudentId()), new int[0]));
+        // not a whole number of pairs
+        assertThrows(IllegalArgumentException.class, () -> new TeammateHistory(studentIds, new int[] {1, 0}));
+        // student out of range
+        assertThrows(IllegalArgumentException.class, () -> new TeammateHistory(studentIds, new int[] {2, 0, 1}));
+        // student paired with themself
+        assertThrows(IllegalArgumentException.class, () -> new TeammateHistory(studentIds, new int[] {1, 1, 1}));
+        // negative count
+        assertThrows(IllegalArgumentException.class, () -> new TeammateHistory(studentIds, new int[] {1, 0, -1}));
+    }
+
+    @Test
+    public void copy_independentOfOriginal() {
+        TeammateHistory history = new TeammateHistory();
+        history.recordTeams(Collections.singletonList(Arrays.asList(ALICE, BENSON)));
+
+        TeammateHistory copy = history.copy();
+        copy.recordTeams(Collections.singletonList(Arrays.asList(ALICE, BENSON, CARL)));
+
+        assertEquals(1, history.getTimesTogether(ALICE, BENSON));
+        assertEquals(0, history.getTimesTogether(ALICE, CARL));
+        assertEquals(2, copy.getTimesTogether(ALICE, BENSON));
+    }
+
+    @Test
+    public void removeStudent_forgetsTheirPairsAndKeepsOthers() {
+        TeammateHistory history = new TeammateHistory();
+        history.recordTeams(Arrays.asList(Arrays.asList(ALICE, BENSON, CARL), Arrays.asList(CARL, DANIEL)));
+
+        history.removeStudent(BENSON.getStudentId());
+
+        assertEquals(Arrays.asList(ALICE.getStudentId(), DANIEL.getStudentId(), CARL.getStudentId()),
+                history.getStudentIds());
+        assertEquals(0, history.getTimesTogether(ALICE, BENSON));
+        assertEquals(1, history.getTimesTogether(ALICE, CARL));
+        assertEquals(1, history.getTimesTogether(CARL, DANIEL));
+        assertEquals(0, history.getTimesTogether(ALICE, DANIEL));
+
+        // a student numbered after the removal starts with no history
+        history.recordTeams(Collections.singletonList(Arrays.asList(ELLE, ALICE)));
+        assertEquals(0, history.getTimesTogether(ELLE, CARL));
+        assertEquals(1, history.getTimesTogether(ELLE, ALICE));
+    }
+
+    @Test
+    public void replaceStudentId_keepsTheirPairs() {
+        TeammateHistory history = new TeammateHistory();
+        history.recordTeams(Collections.singletonList(Arrays.asList(ALICE, BENSON)));
+
+        history.replaceStudentId(ALICE.getStudentId(), CARL.getStudentId());
+
+        assertEquals(Arrays.asList(CARL.getStudentId(), BENSON.getStudentId()), history.getStudentIds());
+        assertEquals(0, history.getTimesTogether(ALICE, BENSON));
+        assertEquals(1, history.getTimesTogether(CARL, BENSON));
+    }
+}
@@ -3,13 +3,11 @@ package seedu.address.model.module;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TEAM_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TEAM_NAME_BOB;
 import static seedu.address.model.module.TutorialClass.isValidTutorialClass;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
@@ -111,14 +109,8 @@ public class TutorialClassTest {
     void testEmptyConstructor() {
         TutorialClass tutorialClass = new TutorialClass();
         assertEquals("", tutorialClass.getTutorialClass().toString());
-        try {
-            Field field = TutorialClass.class.getDeclaredField("students");
-            field.setAccessible(true); // Allow access to private field
-            Object value = field.get(tutorialClass); // Get the value of the field
-            assertTrue(((ArrayList<?>) value).isEmpty()); // Check if it's empty
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            fail("Exception thrown while accessing private field: " + e.getMessage());
-        }
+        assertTrue(tutorialClass.getStudents().isEmpty());
+        assertTrue(tutorialClass.getTeams().isEmpty());
     }
 
     @Test
@@ -229,4 +221,39 @@ public class TutorialClassTest {
         assertEquals(expectedNumOfStudentsInTeamAfterDelete,
                 tutorialClass.getTutorialTeam(tutorialClass, team2).getStudents().size());
     }
+
+    @Test
+    void isStudentInAnyTeam_studentAddedToTeamOfClass_tracksTeamMembership() {
+        Person student = new PersonBuilder().build();
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL);
+        TutorialTeam team = new TutorialTeam(VALID_TEAM_NAME_AMY);
+        tutorialClass.addStudent(student);
+        tutorialClass.addTeam(team);
+        assertFalse(tutorialClass.isStudentInAnyTeam(student, tutorialClass));
+
+        team.addStudent(student);
+        assertTrue(tutorialClass.isStudentInAnyTeam(student, tutorialClass));
+
+        team.deleteStudent(student);
+        assertFalse(tutorialClass.isStudentInAnyTeam(student, tutorialClass));
+
+        team.addStudent(student);
+        tutorialClass.deleteTeam(team);
+        assertFalse(tutorialClass.isStudentInAnyTeam(student, tutorialClass));
+    }
+
+    @Test
+    void getStudents_studentAddedTwice_keptOnceInInsertionOrder() {
+        Person first = new PersonBuilder().build();
+        Person second = new PersonBuilder(ALICE).build();
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL);
+        tutorialClass.addStudent(first);
+        tutorialClass.addStudent(second);
+        tutorialClass.addStudent(first);
+
+        ArrayList<Person> expectedStudents = new ArrayList<>();
+        expectedStudents.add(first);
+        expectedStudents.add(second);
+        assertEquals(expectedStudents, tutorialClass.getStudents());
+    }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.module;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.module.TutorialTeam.isValidSize;
 import static seedu.address.model.module.TutorialTeam.isValidTeamName;
@@ -108,4 +110,35 @@ public class TutorialTeamTest {
     void constructor_invalidTeamSize_failure() {
         assertThrows(IllegalArgumentException.class, () -> new TutorialTeam(VALID_TEAM_NAME_1, INVALID_TEAM_SIZE));
     }
+
+    /**
+     * Tests that team names differing only in case and spacing are equal and hash alike.
+     */
+    @Test
+    void equals_sameNameDifferentCaseAndSpacing_equalWithSameHashCode() {
+        TutorialTeam team = new TutorialTeam(VALID_TEAM_NAME_1, VALID_TEAM_SIZE);
+        TutorialTeam sameTeam = new TutorialTeam("TEAM  1 ", VALID_TEAM_SIZE + 1);
+        assertTrue(team.equals(sameTeam));
+        assertEquals(team.hashCode(), sameTeam.hashCode());
+    }
+
+    /**
+     * Tests that a tutorial class resolves its teams by normalized name and by position.
+     */
+    @Test
+    void findTeam_teamsInClass_resolvedByNameAndIndex() {
+        TutorialClass tutorialClass = new TutorialClass("T01");
+        TutorialTeam team1 = new TutorialTeam(VALID_TEAM_NAME_1, VALID_TEAM_SIZE);
+        TutorialTeam team2 = new TutorialTeam(VALID_TEAM_NAME_2, VALID_TEAM_SIZE);
+        tutorialClass.addTeam(team1);
+        tutorialClass.addTeam(team2);
+
+        assertSame(team2, tutorialClass.findTeam(new TutorialTeamName("team 2")));
+        assertSame(team1, tutorialClass.findTeamByIndex(0));
+        assertNull(tutorialClass.findTeamByIndex(2));
+
+        tutorialClass.deleteTeam(new TutorialTeam("TEAM 1"));
+        assertFalse(tutorialClass.hasTeam(team1));
+        assertSame(team2, tutorialClass.findTeamByIndex(0));
+    }
 }
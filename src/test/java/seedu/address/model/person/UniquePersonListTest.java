@@ -2,13 +2,16 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENT_ID_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
@@ -52,6 +55,45 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void containsEmail_differentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.containsEmail(new Email(ALICE.getEmail().value.toUpperCase())));
+    }
+
+    @Test
+    public void getPerson_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withStudentId(VALID_STUDENT_ID_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(editedAlice, uniquePersonList.getPerson(editedAlice.getStudentId()));
+        assertEquals(editedAlice, uniquePersonList.getPersonByEmail(ALICE.getEmail()));
+        assertNull(uniquePersonList.getPerson(ALICE.getStudentId()));
+    }
+
+    @Test
+    public void getPerson_afterRemove_returnsNull() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.getPerson(ALICE.getStudentId()));
+        assertNull(uniquePersonList.getPersonByEmail(ALICE.getEmail()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getPerson_afterSetPersons_usesReplacementIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertNull(uniquePersonList.getPerson(ALICE.getStudentId()));
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getStudentId()));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        assertNull(uniquePersonList.getPersonByEmail(BOB.getEmail()));
+        assertEquals(ALICE, uniquePersonList.getPersonByEmail(ALICE.getEmail()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -63,6 +105,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(Arrays.asList(ALICE, null)));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void addAll_personInList_reportsExistingPerson() {
+        uniquePersonList.add(ALICE);
+        Person aliceCopy = new PersonBuilder(ALICE).withName("Alice Copy").withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicatePersonException.class, "Operation would result in duplicate persons: "
+                + String.format(UniquePersonList.MESSAGE_SHARED_IDENTITY, ALICE.getName(), aliceCopy.getName(),
+                        "student ID", ALICE.getStudentId()), () -> uniquePersonList.addAll(List.of(BENSON, aliceCopy)));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -114,6 +172,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonTakesEmailOfAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -167,6 +233,26 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findDuplicatePersons_uniquePersons_returnsEmptyList() {
+        assertTrue(UniquePersonList.findDuplicatePersons(Arrays.asList(ALICE, BENSON, BOB)).isEmpty());
+    }
+
+    @Test
+    public void findDuplicatePersons_severalDuplicates_reportsEveryPair() {
+        Person aliceWithBobEmail = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        Person bensonWithAliceId = new PersonBuilder(BENSON).withStudentId(ALICE.getStudentId().value).build();
+        List<String> duplicates = UniquePersonList.findDuplicatePersons(
+                Arrays.asList(ALICE, BOB, aliceWithBobEmail, bensonWithAliceId));
+        assertEquals(Arrays.asList(
+                String.format(UniquePersonList.MESSAGE_SHARED_IDENTITY, ALICE.getName(),
+                        aliceWithBobEmail.getName(), "student ID", ALICE.getStudentId()),
+                String.format(UniquePersonList.MESSAGE_SHARED_IDENTITY, BOB.getName(),
+                        aliceWithBobEmail.getName(), "email", BOB.getEmail()),
+                String.format(UniquePersonList.MESSAGE_SHARED_IDENTITY, ALICE.getName(),
+                        bensonWithAliceId.getName(), "student ID", ALICE.getStudentId())), duplicates);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
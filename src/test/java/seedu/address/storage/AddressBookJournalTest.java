@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFilePath;
+    private JsonAddressBookStorage addressBookStorage;
+    private StorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        dataFilePath = testFolder.resolve("addressbook.json");
+        addressBookStorage = new JsonAddressBookStorage(dataFilePath);
+        storageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterFullSave_appendsToJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.takeDelta();
+        saveChanges(storageManager, addressBook);
+        String savedContents = Files.readString(dataFilePath);
+
+        ModuleCode module = new ModuleCode("CS2103T");
+        addressBook.addModule(module, "Software Engineering");
+        addressBook.addTutorialClass(module, new TutorialClass("T01"));
+        saveChanges(storageManager, addressBook);
+        addressBook.addPerson(AMY);
+        addressBook.addPersonToTutorialClass(AMY, module, new TutorialClass("T01"));
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        addressBook.removePerson(ALICE);
+        saveChanges(storageManager, addressBook);
+
+        // the data file is left alone and the changes are replayed from the journal
+        assertEquals(savedContents, Files.readString(dataFilePath));
+        AddressBook retrieved = (AddressBook) storageManager.readAddressBook().get();
+        assertEquals(addressBook, retrieved);
+        TutorialClass retrievedClass = retrieved.findTutorialClassFromList(new TutorialClass("T01"),
+                retrieved.findModuleFromList(module));
+        assertEquals(addressBook.findTutorialClassFromList(new TutorialClass("T01"), module).getStudents(),
+                retrievedClass.getStudents());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderDataFile_ignored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        saveChanges(storageManager, addressBook);
+        addressBook.addPerson(AMY);
+        saveChanges(storageManager, addressBook);
+
+        // the data file is replaced behind the journal's back
+        addressBookStorage.saveAddressBook(getTypicalAddressBook(), dataFilePath);
+        Files.writeString(dataFilePath, " ", StandardOpenOption.APPEND);
+
+        assertFalse(storageManager.readAddressBook().get().getPersonList().contains(AMY));
+    }
+
+    @Test
+    public void readAddressBook_truncatedLastEntry_replaysEntriesBeforeIt() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        saveChanges(storageManager, addressBook);
+        addressBook.addPerson(AMY);
+        saveChanges(storageManager, addressBook);
+        addressBook.removePerson(BENSON);
+        saveChanges(storageManager, addressBook);
+
+        Path journalPath = AddressBookJournal.journalPathFor(dataFilePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, new String(journal, 0, journal.length - 10, StandardCharsets.UTF_8)
+                .getBytes(StandardCharsets.UTF_8));
+
+        AddressBook retrieved = (AddressBook) storageManager.readAddressBook().get();
+        assertTrue(retrieved.hasPerson(AMY));
+        assertTrue(retrieved.hasPerson(BENSON));
+
+        // the cut entry cannot be appended after, so the next save is a full one
+        retrieved.addPerson(new PersonBuilder().withStudentId("A7654321X").withEmail("new@example.com").build());
+        saveChanges(storageManager, retrieved);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(retrieved, storageManager.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChanges_entryLimitReached_compactsJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        saveChanges(storageManager, addressBook);
+        Path journalPath = AddressBookJournal.journalPathFor(dataFilePath);
+
+        for (int i = 0; i < AddressBookJournal.MAX_ENTRIES; i++) {
+            addressBook.addModule(new ModuleCode(String.format("CS%04d", i)), null);
+            saveChanges(storageManager, addressBook);
+        }
+        assertEquals(AddressBookJournal.MAX_ENTRIES + 1, Files.readAllLines(journalPath).size());
+
+        addressBook.addModule(new ModuleCode("MA1505"), null);
+        saveChanges(storageManager, addressBook);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook.getModuleList(), storageManager.readAddressBook().get().getModuleList());
+    }
+
+    @Test
+    public void saveAddressBookChanges_wholeBookReplaced_savesInFull() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        saveChanges(storageManager, addressBook);
+        addressBook.resetData(new AddressBook());
+        saveChanges(storageManager, addressBook);
+
+        assertEquals(1, Files.readAllLines(AddressBookJournal.journalPathFor(dataFilePath)).size());
+        assertTrue(storageManager.readAddressBook().get().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBookChanges_shardedStorage_replaysJournal() throws Exception {
+        Path directoryPath = testFolder.resolve("addressbook");
+        StorageManager shardedStorageManager = new StorageManager(new ShardedAddressBookStorage(directoryPath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        AddressBook addressBook = getTypicalAddressBook();
+        saveChanges(shardedStorageManager, addressBook);
+        addressBook.addPerson(AMY);
+        saveChanges(shardedStorageManager, addressBook);
+
+        assertEquals(2, Files.readAllLines(AddressBookJournal.journalPathFor(directoryPath)).size());
+        assertTrue(shardedStorageManager.readAddressBook().get().getPersonList().contains(AMY));
+    }
+
+    @Test
+    public void saveAddressBookChanges_writeBehindStorage_writesInOrderInBackground() throws Exception {
+        StorageManager writeBehindStorageManager = new StorageManager(
+                new WriteBehindAddressBookStorage(addressBookStorage),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        AddressBook addressBook = getTypicalAddressBook();
+        saveChanges(writeBehindStorageManager, addressBook);
+        // queued behind the full save, so they are appended to the journal it starts
+        addressBook.addPerson(AMY);
+        saveChanges(writeBehindStorageManager, addressBook);
+        addressBook.removePerson(BENSON);
+        saveChanges(writeBehindStorageManager, addressBook);
+        writeBehindStorageManager.flushAddressBook();
+
+        assertEquals(3, Files.readAllLines(AddressBookJournal.journalPathFor(dataFilePath)).size());
+        assertEquals(addressBook, storageManager.readAddressBook().get());
+    }
+
+    private static void saveChanges(StorageManager storageManager, AddressBook addressBook) {
+        storageManager.saveAddressBookChanges(addressBook, addressBook.takeDelta(), new SaveListener() {
+            @Override
+            public void saved() {}
+
+            @Override
+            public void failed(IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+}
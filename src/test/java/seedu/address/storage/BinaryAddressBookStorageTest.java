@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.module.TutorialTeam;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = getTypicalAddressBook();
+        addressBook.addModule(new ModuleCode("CS2103T"), "Software Engineering");
+        ModuleCode module = addressBook.findModuleFromList(new ModuleCode("CS2103T"));
+        TutorialClass tutorialClass = new TutorialClass("T01", 10);
+        addressBook.addTutorialClass(module, tutorialClass);
+        addressBook.addPersonToTutorialClass(ALICE, module, tutorialClass);
+        addressBook.addPersonToTutorialClass(BENSON, module, tutorialClass);
+        addressBook.addPersonToTutorialClass(CARL, module, tutorialClass);
+        TutorialTeam team = new TutorialTeam("Team 1", 2);
+        addressBook.addTeam(module, tutorialClass, team);
+        addressBook.allocateStudentToTeam(BENSON, module, tutorialClass, team);
+        addressBook.allocateStudentToTeam(CARL, module, tutorialClass, team);
+        addressBook.addModule(new ModuleCode("CS2101"), null);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertFalse(storage.readAddressBook().isPresent());
+
+        storage.saveAddressBook(addressBook);
+        assertTrue(BinaryAddressBookReader.isSnapshot(filePath));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+        jsonStorage.saveAddressBook(addressBook);
+
+        binaryStorage.saveAddressBook(jsonStorage.readAddressBook().get());
+        jsonStorage.saveAddressBook(binaryStorage.readAddressBook().get(), convertedFilePath);
+
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedFilePath));
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_readsAndSavesInOwnFormat() throws Exception {
+        Path filePath = testFolder.resolve("addressbook");
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+
+        binaryStorage.saveAddressBook(binaryStorage.readAddressBook().get());
+        assertTrue(BinaryAddressBookReader.isSnapshot(filePath));
+
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(jsonStorage.readAddressBook().get());
+        assertFalse(BinaryAddressBookReader.isSnapshot(filePath));
+        assertEquals(addressBook, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_largeFile_readsMappedFile() throws Exception {
+        for (int i = 0; i < 2000; i++) {
+            Person person = new PersonBuilder().withName("Student " + i).withEmail("student" + i + "@u.nus.edu")
+                    .withStudentId(String.format("A%07dZ", i)).withTags("cohort" + (i % 4)).build();
+            addressBook.addPerson(person);
+        }
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(Files.size(filePath) >= 64 * 1024);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        byte[] contents = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(contents, contents.length - 3));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_teammateHistory_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        ModuleCode module = addressBook.findModuleFromList(new ModuleCode("CS2103T"));
+        TutorialClass tutorialClass = module.getTutorialClasses().get(0);
+        addressBook.randomTeamAllocation(module, tutorialClass, 1, new Random(1));
+        storage.saveAddressBook(addressBook);
+
+        TutorialClass readClass = new AddressBook(storage.readAddressBook().get()).getModuleList().get(0)
+                .getTutorialClasses().get(0);
+        assertEquals(tutorialClass.getTeammateHistory(), readClass.getTeammateHistory());
+        assertEquals(1, readClass.getTeammateHistory().getTimesTogether(BENSON, CARL));
+
+        // and the same history comes back from a JSON file
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        jsonStorage.saveAddressBook(addressBook);
+        TutorialClass jsonClass = new AddressBook(jsonStorage.readAddressBook().get()).getModuleList().get(0)
+                .getTutorialClasses().get(0);
+        assertEquals(tutorialClass.getTeammateHistory(), jsonClass.getTeammateHistory());
+    }
+
+    @Test
+    public void readAddressBook_formatWithoutHistories_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook withoutTeams = new AddressBook();
+        withoutTeams.setPersons(Arrays.asList(ALICE));
+        withoutTeams.addModule(new ModuleCode("CS2103T"), "");
+        ModuleCode module = withoutTeams.findModuleFromList(new ModuleCode("CS2103T"));
+        withoutTeams.addTutorialClass(module, new TutorialClass("T01"));
+        withoutTeams.addPersonToTutorialClass(ALICE, module, new TutorialClass("T01"));
+        storage.saveAddressBook(withoutTeams);
+
+        // drop the two counts of the empty teammate history at the end, then shorten the modules section to match
+        ByteBuffer contents = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        contents.putInt(BinaryAddressBookReader.MAGIC.length, BinaryAddressBookReader.FORMAT_VERSION_WITHOUT_HISTORY);
+        int sectionStart = BinaryAddressBookReader.MAGIC.length + 2 * Integer.BYTES;
+        for (int section = 0; section < 2; section++) {
+            sectionStart += Integer.BYTES + contents.getInt(sectionStart);
+        }
+        contents.putInt(sectionStart, contents.getInt(sectionStart) - 2 * Integer.BYTES);
+        Files.write(filePath, Arrays.copyOf(contents.array(), contents.capacity() - 2 * Integer.BYTES));
+
+        assertEquals(withoutTeams, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_badPersonIndex_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook withoutStudents = new AddressBook();
+        withoutStudents.setPersons(Arrays.asList(ALICE));
+        withoutStudents.addModule(new ModuleCode("CS2103T"), "");
+        ModuleCode module = withoutStudents.findModuleFromList(new ModuleCode("CS2103T"));
+        withoutStudents.addTutorialClass(module, new TutorialClass("T01"));
+        withoutStudents.addPersonToTutorialClass(ALICE, module, new TutorialClass("T01"));
+        storage.saveAddressBook(withoutStudents);
+
+        // the class's only student is the int before its team count and the two counts of its teammate history,
+        // which are the last three ints of the file
+        byte[] contents = Files.readAllBytes(filePath);
+        contents[contents.length - 13] = 7;
+        Files.write(filePath, contents);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class DataFileChecksumTest {
+    private static final Path INVALID_PERSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "invalidPersonAddressBook.json");
+    private static final Path UNKNOWN_STUDENT_FILE = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+            "unknownStudentIdAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_savedFile_recordKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.exists(DataFileChecksum.getRecordFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_editedFile_recordDeleted() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(filePath, Files.readString(filePath).replace("Alice", "Alicia"));
+        storage.readAddressBook();
+        // the record no longer matches, so it is not left to be relied on
+        assertFalse(Files.exists(DataFileChecksum.getRecordFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_editedFileOfSameSize_valuesChecked() throws Exception {
+        // the size of the file still matches its record, so only its checksum shows that it was changed
+        Path filePath = testFolder.resolve("addressbook.json");
+        byte[] invalidContents = Files.readAllBytes(INVALID_PERSON_FILE);
+        DataFileChecksum.writeAtomically(filePath, out -> out.write(invalidContents));
+        Files.writeString(filePath, new String(invalidContents, StandardCharsets.UTF_8).replace("hans@", "hanz@"));
+
+        assertThrows(DataLoadingException.class, new JsonAddressBookStorage(filePath)::readAddressBook);
+        assertFalse(Files.exists(DataFileChecksum.getRecordFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_unchangedFileWithUnknownStudent_loadFails() throws Exception {
+        // the students of classes and teams are checked even when the values of the persons are not
+        Path filePath = testFolder.resolve("addressbook.json");
+        byte[] contents = Files.readAllBytes(UNKNOWN_STUDENT_FILE);
+        DataFileChecksum.writeAtomically(filePath, out -> out.write(contents));
+
+        assertThrows(DataLoadingException.class, new JsonAddressBookStorage(filePath)::readAddressBook);
+    }
+
+    @Test
+    public void recordedChecksumOf_savedFile_checksumOfFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(OptionalLong.of(DataFileChecksum.checksumOf(filePath)),
+                DataFileChecksum.recordedChecksumOf(filePath));
+
+        Files.writeString(filePath, " ", StandardOpenOption.APPEND);
+        assertEquals(OptionalLong.empty(), DataFileChecksum.recordedChecksumOf(filePath));
+    }
+
+    @Test
+    public void readAddressBook_unchangedFile_valuesNotChecked() throws Exception {
+        // only a file this app saved can match its checksum, so one with an invalid value shows the checks are skipped
+        Path filePath = testFolder.resolve("addressbook.json");
+        byte[] invalidContents = Files.readAllBytes(INVALID_PERSON_FILE);
+        DataFileChecksum.writeAtomically(filePath, out -> out.write(invalidContents));
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        assertEquals(1, new AddressBook(storage.readAddressBook().get()).getPersonList().size());
+
+        // once the file is changed by hand, its values are checked again
+        Files.write(filePath, invalidContents);
+        Files.writeString(filePath, "\n", StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unchangedFile_moduleCodesNotChecked() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        String invalidContents = "{ \"modules\": [ { \"name\": \"cs2101\", \"tutorialClasses\": [] } ] }";
+        DataFileChecksum.writeAtomically(filePath, out -> out.write(invalidContents.getBytes(StandardCharsets.UTF_8)));
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        assertEquals(1, new AddressBook(storage.readAddressBook().get()).getModuleList().size());
+
+        Files.writeString(filePath, invalidContents + "\n");
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -32,4 +34,22 @@ class JsonAdaptedModuleTest {
         String expectedMessage = JsonAdaptedModule.MISSING_FIELD_MESSAGE_FORMAT;
         assertThrows(IllegalValueException.class, expectedMessage, jsonModule::toModelType);
     }
+
+    @Test
+    void toModelType_tutorialClassesLeftUnbuilt() throws Exception {
+        ModuleCode module = new ModuleCode(VALID_MODULE, List.of(new TutorialClass("T01")));
+        ModuleCode converted = new JsonAdaptedModule(module).toModelType();
+
+        assertFalse(converted.hasBuiltTutorialClasses());
+        assertEquals(List.of(new TutorialClass("T01")), converted.getTutorialClasses());
+    }
+
+    @Test
+    void toModelType_invalidTutorialClass_throwsIllegalValueExceptionBeforeBuilding() {
+        JsonAdaptedTutorialClass invalidClass = new JsonAdaptedTutorialClass("T1", new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), 10, null, null);
+        JsonAdaptedModule jsonModule = new JsonAdaptedModule(VALID_MODULE,
+                new ArrayList<>(List.of(invalidClass)), "");
+        assertThrows(IllegalValueException.class, TutorialClass.MESSAGE_CONSTRAINTS, jsonModule::toModelType);
+    }
 }
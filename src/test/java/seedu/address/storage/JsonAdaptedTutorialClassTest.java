@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.StudentId;
 import seedu.address.testutil.PersonBuilder;
 
 class JsonAdaptedTutorialClassTest {
@@ -24,7 +28,7 @@ class JsonAdaptedTutorialClassTest {
             .map(JsonAdaptedPerson::new)
             .collect(Collectors.toList());
     private static final List<JsonAdaptedTutorialTeam> VALID_TEAMS_LIST = new ArrayList<>(
-            Arrays.asList(new JsonAdaptedTutorialTeam("Team 1", 1, VALID_STUDENTS_LIST)));
+            Arrays.asList(new JsonAdaptedTutorialTeam("Team 1", 1, null, VALID_STUDENTS_LIST)));
 
     @Test
     void toModelType_success() throws Exception {
@@ -40,10 +44,33 @@ class JsonAdaptedTutorialClassTest {
         assertEquals(tutorialClass, jsonTutorialClass.toModelType());
     }
 
+    @Test
+    void toModelType_teammateHistory_success() throws Exception {
+        TutorialClass tutorialClass = new TutorialClass(VALID_TUTORIAL_NAME);
+        tutorialClass.getTeammateHistory().recordTeams(Collections.singletonList(Arrays.asList(ALICE, BENSON)));
+        JsonAdaptedTutorialClass jsonTutorialClass = new JsonAdaptedTutorialClass(tutorialClass);
+        assertEquals(tutorialClass.getTeammateHistory(), jsonTutorialClass.toModelType().getTeammateHistory());
+    }
+
+    @Test
+    void toModelType_invalidTeammateHistory_throwsIllegalValueException() {
+        List<String> teammateIds = Arrays.asList(ALICE.getStudentId().value, BENSON.getStudentId().value);
+
+        JsonAdaptedTutorialClass pairOutOfRange = new JsonAdaptedTutorialClass(VALID_TUTORIAL_NAME, null, null, null,
+                VALID_CLASS_SIZE, teammateIds, new int[] {2, 0, 1});
+        assertThrows(IllegalValueException.class, pairOutOfRange::toModelType);
+
+        JsonAdaptedTutorialClass invalidStudentId = new JsonAdaptedTutorialClass(VALID_TUTORIAL_NAME, null, null,
+                null, VALID_CLASS_SIZE, Arrays.asList("B12", BENSON.getStudentId().value), new int[] {1, 0, 1});
+        assertThrows(IllegalValueException.class, String.format(
+                JsonAdaptedTutorialClass.MESSAGE_INVALID_TEAMMATE_HISTORY, VALID_TUTORIAL_NAME,
+                StudentId.MESSAGE_CONSTRAINTS), invalidStudentId::toModelType);
+    }
+
     @Test
     void toModelType_invalidTutorialName_throwsIllegalValueException() {
         JsonAdaptedTutorialClass jsonTutorialClass = new JsonAdaptedTutorialClass(INVALID_TUTORIAL_NAME,
-                VALID_TEAMS_LIST, VALID_STUDENTS_LIST, VALID_CLASS_SIZE);
+                VALID_TEAMS_LIST, null, VALID_STUDENTS_LIST, VALID_CLASS_SIZE, null, null);
         String expectedMessage = TutorialClass.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, jsonTutorialClass::toModelType);
     }
@@ -41,7 +41,7 @@ class JsonAdaptedTutorialTeamTest {
 
     @Test
     void toModelType_invalidTeamName_throwsIllegalValueException() {
-        JsonAdaptedTutorialTeam jsonTutorialTeam = new JsonAdaptedTutorialTeam(INVALID_TEAM_NAME, VALID_TEAM_SIZE,
+        JsonAdaptedTutorialTeam jsonTutorialTeam = new JsonAdaptedTutorialTeam(INVALID_TEAM_NAME, VALID_TEAM_SIZE, null,
                 VALID_STUDENTS_LIST);
         String expectedMessage = TutorialTeam.MESSAGE_NAME_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, jsonTutorialTeam::toModelType);
@@ -49,7 +49,7 @@ class JsonAdaptedTutorialTeamTest {
 
     @Test
     void toModelType_invalidTeamSize_throwsIllegalValueException() {
-        JsonAdaptedTutorialTeam jsonTutorialTeam = new JsonAdaptedTutorialTeam(VALID_TEAM_NAME, INVALID_TEAM_SIZE,
+        JsonAdaptedTutorialTeam jsonTutorialTeam = new JsonAdaptedTutorialTeam(VALID_TEAM_NAME, INVALID_TEAM_SIZE, null,
                 VALID_STUDENTS_LIST);
         String expectedMessage = TutorialTeam.MESSAGE_SIZE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, jsonTutorialTeam::toModelType);
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.module.TutorialClass;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @Test
+    public void read_typicalPersonsFile_sameAsTreeModel() throws Exception {
+        assertSameAsTreeModel(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"));
+    }
+
+    @Test
+    public void read_legacyEmbeddedStudentsFile_sameAsTreeModel() throws Exception {
+        assertSameAsTreeModel(SERIALIZABLE_TEST_DATA_FOLDER.resolve("legacyEmbeddedStudentsAddressBook.json"));
+    }
+
+    @Test
+    public void read_modulesBeforePersons_sharesPersons() throws Exception {
+        AddressBook addressBook = JsonAddressBookReader.read(
+                TEST_DATA_FOLDER.resolve("modulesBeforePersonsAddressBook.json"));
+        TutorialClass tutorialClass = addressBook.getModuleList().get(0).getTutorialClasses().get(0);
+        assertSame(addressBook.getPersonList().get(0), tutorialClass.getStudents().get(0));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(
+                SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_personsNotList_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(
+                TEST_DATA_FOLDER.resolve("personsNotListAddressBook.json")));
+    }
+
+    private void assertSameAsTreeModel(Path filePath) throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(expected, JsonAddressBookReader.read(filePath));
+    }
+}
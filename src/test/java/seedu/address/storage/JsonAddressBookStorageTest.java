@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +89,77 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrint_sameDataAsCompact() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path compactFilePath = testFolder.resolve("CompactAddressBook.json");
+        Path prettyFilePath = testFolder.resolve("PrettyAddressBook.json");
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(compactFilePath);
+        JsonAddressBookStorage prettyStorage = new JsonAddressBookStorage(prettyFilePath, true);
+
+        compactStorage.saveAddressBook(original);
+        prettyStorage.saveAddressBook(original);
+
+        assertFalse(Files.readString(compactFilePath).contains("\n"));
+        assertTrue(Files.readString(prettyFilePath).contains("\n"));
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(prettyStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_sameDataAsPlain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path plainFilePath = testFolder.resolve("PlainAddressBook.json");
+        Path compressedFilePath = testFolder.resolve("CompressedAddressBook.json");
+        Path namedFilePath = testFolder.resolve("NamedAddressBook.json.gz");
+        JsonAddressBookStorage plainStorage = new JsonAddressBookStorage(plainFilePath, true);
+        JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(compressedFilePath, true, true);
+        JsonAddressBookStorage namedStorage = new JsonAddressBookStorage(namedFilePath, true);
+
+        plainStorage.saveAddressBook(original);
+        compressedStorage.saveAddressBook(original);
+        namedStorage.saveAddressBook(original);
+
+        assertTrue(Files.size(compressedFilePath) < Files.size(plainFilePath));
+        assertEquals(Files.size(compressedFilePath), Files.size(namedFilePath));
+        assertEquals(original, new AddressBook(compressedStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(namedStorage.readAddressBook().get()));
+        // compression is detected on load, so a plain storage reads a compressed file
+        assertEquals(original, new AddressBook(plainStorage.readAddressBook(compressedFilePath).get()));
+    }
+
+    @Test
+    public void readAddressBook_completeTempFileLeftBehind_recoversFromTempFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook(), filePath);
+
+        // the app stopped after writing the temp file in full, but before moving it over the data file
+        AddressBook newer = getTypicalAddressBook();
+        newer.addPerson(HOON);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        jsonAddressBookStorage.saveAddressBook(newer, tempFilePath);
+
+        assertEquals(newer, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+        assertFalse(Files.exists(tempFilePath));
+    }
+
+    @Test
+    public void readAddressBook_partialTempFileLeftBehind_discardsTempFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+
+        // the app stopped part way through writing the temp file
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        String contents = FileUtil.readFromFile(filePath);
+        Files.writeString(tempFilePath, contents.substring(0, contents.length() / 2));
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get()));
+        assertFalse(Files.exists(tempFilePath));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -15,6 +16,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -24,6 +27,11 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
     private static final Path TYPICAL_MODULES_FILE = TEST_DATA_FOLDER.resolve("typicalModuleAddressBook.json");
+    private static final Path LEGACY_EMBEDDED_STUDENTS_FILE =
+            TEST_DATA_FOLDER.resolve("legacyEmbeddedStudentsAddressBook.json");
+    private static final Path LEGACY_ORPHAN_STUDENTS_FILE =
+            TEST_DATA_FOLDER.resolve("legacyOrphanStudentsAddressBook.json");
+    private static final Path UNKNOWN_STUDENT_ID_FILE = TEST_DATA_FOLDER.resolve("unknownStudentIdAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -45,8 +53,8 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON
+                + " Alice Pauline and Alice Pauline share the same student ID A1234567A", dataFromFile::toModelType);
     }
     @Test
     public void toModelType_nullModuleList_throwsIllegalValueException() {
@@ -63,4 +71,57 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, data::toModelType);
     }
 
+    @Test
+    public void toModelType_legacyEmbeddedStudents_sharesPersons() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(LEGACY_EMBEDDED_STUDENTS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBook = dataFromFile.toModelType();
+        Person alice = addressBook.getPersonList().get(0);
+        Person benson = addressBook.getPersonList().get(1);
+        TutorialClass tutorialClass = addressBook.getModuleList().get(0).getTutorialClasses().get(0);
+        assertSame(alice, tutorialClass.getStudents().get(0));
+        assertSame(benson, tutorialClass.getStudents().get(1));
+        assertSame(benson, tutorialClass.getTeams().get(0).getStudents().get(0));
+    }
+
+    @Test
+    public void toModelType_roundTrip_sharesPersons() throws Exception {
+        AddressBook legacy = JsonUtil.readJsonFile(LEGACY_EMBEDDED_STUDENTS_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(legacy));
+        AddressBook addressBook = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+
+        assertEquals(legacy, addressBook);
+        TutorialClass tutorialClass = addressBook.getModuleList().get(0).getTutorialClasses().get(0);
+        assertSame(addressBook.getPersonList().get(1), tutorialClass.getTeams().get(0).getStudents().get(0));
+    }
+
+    @Test
+    public void toModelType_legacyOrphanStudentsRoundTrip_orphansDropped() throws Exception {
+        AddressBook legacy = JsonUtil.readJsonFile(LEGACY_ORPHAN_STUDENTS_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(legacy));
+        AddressBook addressBook = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+
+        assertEquals(legacy, addressBook);
+        Person alice = addressBook.getPersonList().get(0);
+        TutorialClass tutorialClass = addressBook.getModuleList().get(0).getTutorialClasses().get(0);
+        assertEquals(List.of(alice), tutorialClass.getStudents());
+        assertEquals(List.of(alice), tutorialClass.getTeams().get(0).getStudents());
+    }
+
+    @Test
+    public void toModelType_unknownStudentId_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_STUDENT_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(StudentReferences.MESSAGE_UNKNOWN_STUDENT,
+                "A7654321Z"), dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_newerSchemaVersion_throwsIllegalValueException() {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(
+                JsonSerializableAddressBook.CURRENT_SCHEMA_VERSION + 1, new ArrayList<>(), new ArrayList<>());
+        assertThrows(IllegalValueException.class, data::toModelType);
+    }
 }
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final int COUNT = ParallelConverter.PARALLEL_THRESHOLD * 8;
+
+    private static List<Integer> numbers() {
+        return IntStream.range(0, COUNT).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void convertAll_keepsOrder() throws Exception {
+        List<String> converted = ParallelConverter.convertAll(numbers(), number -> "#" + number);
+
+        List<String> expected = new ArrayList<>();
+        for (int number : numbers()) {
+            expected.add("#" + number);
+        }
+        assertEquals(expected, converted);
+    }
+
+    @Test
+    public void convertAll_severalFailures_throwsFirstInListOrder() {
+        for (int i = 0; i < 20; i++) {
+            assertThrows(IllegalValueException.class, "bad 100", () -> ParallelConverter.convertAll(numbers(),
+                    number -> {
+                        if (number >= 100 && number % 100 == 0) {
+                            throw new IllegalValueException("bad " + number);
+                        }
+                        return number;
+                    }));
+        }
+    }
+
+    @Test
+    public void convertAll_runtimeExceptionAfterIllegalValue_throwsIllegalValue() {
+        assertThrows(IllegalValueException.class, "bad 5", () -> ParallelConverter.convertAll(numbers(),
+                number -> {
+                    if (number == 5) {
+                        throw new IllegalValueException("bad 5");
+                    }
+                    if (number == COUNT - 1) {
+                        throw new IllegalArgumentException("last");
+                    }
+                    return number;
+                }));
+    }
+
+    @Test
+    public void convertEach_failureReportedOnlyWhenReached() throws Exception {
+        List<ParallelConverter.Converted<Integer>> results = ParallelConverter.convertEach(numbers(), number -> {
+            if (number == COUNT - 1) {
+                throw new IllegalValueException("bad last");
+            }
+            return number * 2;
+        });
+
+        assertEquals(COUNT, results.size());
+        assertEquals(Integer.valueOf(10), results.get(5).get());
+        assertThrows(IllegalValueException.class, "bad last", () -> results.get(COUNT - 1).get());
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.ModuleCode;
+import seedu.address.model.module.TutorialClass;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directoryPath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        directoryPath = testFolder.resolve("addressbook");
+        addressBook = getTypicalAddressBook();
+        addModuleWithStudents(addressBook, "CS2103T");
+        addModuleWithStudents(addressBook, "CS2101");
+    }
+
+    private static void addModuleWithStudents(AddressBook addressBook, String moduleCode) {
+        addressBook.addModule(new ModuleCode(moduleCode), null);
+        ModuleCode module = addressBook.findModuleFromList(new ModuleCode(moduleCode));
+        addressBook.addTutorialClass(module, new TutorialClass("T01"));
+        addressBook.addPersonToTutorialClass(ALICE, module, new TutorialClass("T01"));
+        addressBook.addPersonToTutorialClass(BENSON, module, new TutorialClass("T01"));
+    }
+
+    private List<String> listShards() throws IOException {
+        try (Stream<Path> files = Files.walk(directoryPath)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> directoryPath.relativize(file).toString().replace('\\', '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void isShardedLayout() throws Exception {
+        assertTrue(ShardedAddressBookStorage.isShardedLayout(testFolder));
+        assertTrue(ShardedAddressBookStorage.isShardedLayout(testFolder.resolve("addressbook")));
+        assertFalse(ShardedAddressBookStorage.isShardedLayout(testFolder.resolve("addressbook.json")));
+        assertFalse(ShardedAddressBookStorage.isShardedLayout(testFolder.resolve("addressbook.json.gz")));
+
+        Path fileWithoutExtension = testFolder.resolve("data");
+        Files.writeString(fileWithoutExtension, "{}");
+        assertFalse(ShardedAddressBookStorage.isShardedLayout(fileWithoutExtension));
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(directoryPath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(directoryPath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertEquals(addressBook.getModuleList(), readBack.getModuleList());
+        ModuleCode module = readBack.getModuleList().get(1);
+        assertEquals(List.of(ALICE, BENSON), module.findTutorialClass(new TutorialClass("T01")).getStudents());
+        // every class shares the same person as the person list
+        assertTrue(module.findTutorialClass(new TutorialClass("T01")).getStudents().get(0)
+                == readBack.getPersonList().get(0));
+    }
+
+    @Test
+    public void saveAddressBook_oneModuleChanged_writesOnlyThatShard() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        storage.saveAddressBook(addressBook);
+        addressBook.takeDelta();
+        List<String> shardsBefore = listShards();
+
+        ModuleCode module = addressBook.findModuleFromList(new ModuleCode("CS2101"));
+        addressBook.addTutorialClass(module, new TutorialClass("T02"));
+        storage.saveAddressBook(addressBook, directoryPath, addressBook.takeDelta());
+        List<String> shardsAfter = listShards();
+
+        assertEquals(List.of("index.json", "modules/CS2101.1.json", "modules/CS2103T.1.json", "persons.1.json"),
+                shardsBefore);
+        assertEquals(List.of("index.json", "modules/CS2101.2.json", "modules/CS2103T.1.json", "persons.1.json"),
+                shardsAfter);
+        assertTrue(new ShardedAddressBookStorage(directoryPath).readAddressBook().get().getModuleList().get(1)
+                .hasTutorialClass(new TutorialClass("T02")));
+    }
+
+    @Test
+    public void saveAddressBook_moduleRemoved_deletesItsShard() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        storage.saveAddressBook(addressBook);
+        addressBook.takeDelta();
+
+        addressBook.removeModule(addressBook.findModuleFromList(new ModuleCode("CS2103T")));
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook, directoryPath, addressBook.takeDelta());
+
+        assertEquals(List.of("index.json", "modules/CS2101.1.json", "persons.2.json"), listShards());
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(directoryPath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertEquals(addressBook.getModuleList(), readBack.getModuleList());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedModuleRead_notBuilt() throws Exception {
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(addressBook);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        readBack.takeDelta();
+
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack, directoryPath, readBack.takeDelta());
+
+        assertFalse(readBack.getModuleList().get(0).hasBuiltTutorialClasses());
+        assertEquals(List.of("index.json", "modules/CS2101.1.json", "modules/CS2103T.1.json", "persons.2.json"),
+                listShards());
+    }
+
+    @Test
+    public void saveAddressBook_studentIdChanged_writesModulesOfThatStudent() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        storage.saveAddressBook(addressBook);
+        addressBook.takeDelta();
+
+        Person editedAlice = new PersonBuilder(ALICE).withStudentId("A7654321Z").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook, directoryPath, addressBook.takeDelta());
+
+        assertEquals(List.of("index.json", "modules/CS2101.2.json", "modules/CS2103T.2.json", "persons.2.json"),
+                listShards());
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(directoryPath).readAddressBook().get();
+        assertEquals(List.of(editedAlice, BENSON), readBack.getModuleList().get(1)
+                .findTutorialClass(new TutorialClass("T01")).getStudents());
+    }
+
+    @Test
+    public void readAddressBook_unfinishedSaveLeftBehind_ignoresAndDeletesItsShards() throws Exception {
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(addressBook);
+
+        // the app stopped after writing a new shard, but before the index named it
+        Files.writeString(directoryPath.resolve("modules").resolve("CS2101.2.json"), "{\"moduleCode\": \"CS21");
+        Files.writeString(directoryPath.resolve("index.json.tmp"), "{");
+
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(directoryPath).readAddressBook().get();
+        assertEquals(addressBook.getModuleList(), readBack.getModuleList());
+        assertEquals(List.of("index.json", "modules/CS2101.1.json", "modules/CS2103T.1.json", "persons.1.json"),
+                listShards());
+    }
+
+    @Test
+    public void readAddressBook_moduleShardMissing_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(addressBook);
+        Files.delete(directoryPath.resolve("modules").resolve("CS2101.1.json"));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directoryPath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_freshStorageOverExistingDirectory_rewritesAllShards() throws Exception {
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(addressBook);
+        new ShardedAddressBookStorage(directoryPath).saveAddressBook(addressBook);
+
+        assertEquals(List.of("index.json", "modules/CS2101.2.json", "modules/CS2103T.2.json", "persons.2.json"),
+                listShards());
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.module.ModuleCode;
+
+public class WriteBehindAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenFlush_readsBackSavedData() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.flushAddressBook();
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_whileWriting_coalescesQueuedSaves() throws Exception {
+        BlockingStorageStub stub = new BlockingStorageStub();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+
+        storage.saveAddressBook(new AddressBook());
+        stub.writeStarted.await();
+        AddressBook latest = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(latest);
+        stub.release.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(2, stub.saved.size());
+        assertEquals(latest, stub.saved.get(1));
+    }
+
+    @Test
+    public void saveAddressBook_whileWritingWithChanges_coalescesChanges() throws Exception {
+        BlockingStorageStub stub = new BlockingStorageStub();
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        Path filePath = stub.getAddressBookFilePath();
+        AddressBook addressBook = new AddressBook();
+
+        storage.saveAddressBook(addressBook, filePath, addressBook.takeDelta(), SaveListener.NONE);
+        stub.writeStarted.await();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook, filePath, addressBook.takeDelta(), SaveListener.NONE);
+        addressBook.addModule(new ModuleCode("CS2103T"), null);
+        storage.saveAddressBook(addressBook, filePath, addressBook.takeDelta(), SaveListener.NONE);
+        stub.release.countDown();
+        storage.flushAddressBook();
+
+        // the coalesced save is written with the changes of both saves it stands for
+        AddressBookDelta changes = stub.savedChanges.get(1);
+        assertEquals(1, changes.getPersonChanges().size());
+        assertEquals(Set.of("CS2103T"), changes.getChangedModuleCodes());
+    }
+
+    @Test
+    public void flushAddressBook_writeFailed_throwsIoException() throws Exception {
+        BlockingStorageStub stub = new BlockingStorageStub();
+        stub.release.countDown();
+        stub.failure = new IOException("dummy IO exception");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, "dummy IO exception", storage::flushAddressBook);
+
+        // the failure is reported only once
+        storage.flushAddressBook();
+        assertTrue(stub.saved.isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_writeFailed_toldToListener() throws Exception {
+        BlockingStorageStub stub = new BlockingStorageStub();
+        stub.release.countDown();
+        stub.failure = new IOException("dummy IO exception");
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(stub);
+        List<String> outcomes = new ArrayList<>();
+        SaveListener listener = new SaveListener() {
+            @Override
+            public void saved() {
+                outcomes.add("saved");
+            }
+
+            @Override
+            public void failed(IOException e) {
+                outcomes.add(e.getMessage());
+            }
+        };
+
+        storage.saveAddressBook(new AddressBook(), stub.getAddressBookFilePath(), listener);
+        assertThrows(IOException.class, "dummy IO exception", storage::flushAddressBook);
+
+        // the failure is not thrown from the next save, which is written regardless
+        stub.failure = null;
+        storage.saveAddressBook(new AddressBook(), stub.getAddressBookFilePath(), listener);
+        storage.flushAddressBook();
+
+        assertEquals(List.of("dummy IO exception", "saved"), outcomes);
+        assertEquals(1, stub.saved.size());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that holds up each write until {@code release} is counted down.
+     */
+    private static class BlockingStorageStub implements AddressBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final List<AddressBookDelta> savedChanges = new ArrayList<>();
+        private IOException failure;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Path.of("stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath, AddressBookDelta changes)
+                throws IOException {
+            saveAddressBook(addressBook, filePath);
+            savedChanges.add(changes);
+        }
+
+        @Override
+        public void flushAddressBook() {}
+    }
+}
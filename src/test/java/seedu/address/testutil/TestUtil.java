@@ -4,9 +4,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
+import seedu.address.model.module.TutorialClass;
 import seedu.address.model.person.Person;
 
 /**
@@ -52,4 +56,13 @@ public class TestUtil {
     public static Person getPerson(Model model, Index index) {
         return model.getFilteredPersonList().get(index.getZeroBased());
     }
+
+    /**
+     * Returns the students of each team of {@code tutorialClass}, in the order of the teams.
+     */
+    public static List<List<Person>> getTeamStudents(TutorialClass tutorialClass) {
+        return tutorialClass.getTeams().stream()
+                .map(team -> new ArrayList<>(team.getStudents()))
+                .collect(Collectors.toList());
+    }
 }